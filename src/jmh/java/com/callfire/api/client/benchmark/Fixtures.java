@@ -0,0 +1,42 @@
+package com.callfire.api.client.benchmark;
+
+import com.callfire.api.client.CallfireClientException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads json payloads shared with unit tests
+ */
+final class Fixtures {
+    static final String BASE_PATH = "/com/callfire/api/client/api";
+    static final String FIND_CALLS = BASE_PATH + "/callstexts/callsApi/response/findCalls.json";
+    static final String FIND_CONTACTS = BASE_PATH + "/contacts/contactsApi/response/findContacts.json";
+    static final String SEND_TEXTS = BASE_PATH + "/callstexts/textsApi/response/sendTexts.json";
+
+    private Fixtures() {
+    }
+
+    static byte[] load(String path) {
+        try (InputStream is = Fixtures.class.getResourceAsStream(path)) {
+            if (is == null) {
+                throw new CallfireClientException("fixture not found: " + path);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new CallfireClientException(e);
+        }
+    }
+
+    static String loadString(String path) {
+        return new String(load(path), StandardCharsets.UTF_8);
+    }
+}
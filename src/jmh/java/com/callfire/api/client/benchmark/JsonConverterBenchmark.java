@@ -0,0 +1,98 @@
+package com.callfire.api.client.benchmark;
+
+import com.callfire.api.client.JsonConverter;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.common.model.ListHolder;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.contacts.model.Contact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import static com.callfire.api.client.ModelType.listHolderOf;
+import static com.callfire.api.client.ModelType.pageOf;
+
+/**
+ * Measures json mapping of typical responses: from string, from stream and back to string
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonConverterBenchmark {
+    private JsonConverter jsonConverter;
+    private String callsJson;
+    private byte[] callsBytes;
+    private String contactsJson;
+    private byte[] contactsBytes;
+    private String textsJson;
+    private Page<Call> calls;
+    private Page<Contact> contacts;
+    private ListHolder<Text> texts;
+
+    @Setup
+    public void setUp() {
+        jsonConverter = new JsonConverter();
+        callsJson = Fixtures.loadString(Fixtures.FIND_CALLS);
+        callsBytes = Fixtures.load(Fixtures.FIND_CALLS);
+        contactsJson = Fixtures.loadString(Fixtures.FIND_CONTACTS);
+        contactsBytes = Fixtures.load(Fixtures.FIND_CONTACTS);
+        textsJson = Fixtures.loadString(Fixtures.SEND_TEXTS);
+        calls = jsonConverter.deserialize(callsJson, pageOf(Call.class));
+        contacts = jsonConverter.deserialize(contactsJson, pageOf(Contact.class));
+        texts = jsonConverter.deserialize(textsJson, listHolderOf(Text.class));
+    }
+
+    @Benchmark
+    public Page<Call> deserializeCallsPage() {
+        return jsonConverter.deserialize(callsJson, pageOf(Call.class));
+    }
+
+    @Benchmark
+    public Page<Call> deserializeCallsPageFromStream() {
+        return jsonConverter.deserialize(new ByteArrayInputStream(callsBytes), pageOf(Call.class));
+    }
+
+    @Benchmark
+    public Page<Contact> deserializeContactsPage() {
+        return jsonConverter.deserialize(contactsJson, pageOf(Contact.class));
+    }
+
+    @Benchmark
+    public Page<Contact> deserializeContactsPageFromStream() {
+        return jsonConverter.deserialize(new ByteArrayInputStream(contactsBytes), pageOf(Contact.class));
+    }
+
+    @Benchmark
+    public ListHolder<Text> deserializeTextsHolder() {
+        return jsonConverter.deserialize(textsJson, listHolderOf(Text.class));
+    }
+
+    @Benchmark
+    public String serializeCallsPage() {
+        return jsonConverter.serialize(calls);
+    }
+
+    @Benchmark
+    public String serializeContactsPage() {
+        return jsonConverter.serialize(contacts);
+    }
+
+    @Benchmark
+    public String serializeTextsHolder() {
+        return jsonConverter.serialize(texts);
+    }
+}
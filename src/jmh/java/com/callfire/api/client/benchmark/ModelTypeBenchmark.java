@@ -0,0 +1,44 @@
+package com.callfire.api.client.benchmark;
+
+import com.callfire.api.client.ModelType;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.common.model.ListHolder;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.contacts.model.Contact;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups of type references which are done on every API call
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelTypeBenchmark {
+
+    @Benchmark
+    public TypeReference<Call> of() {
+        return ModelType.of(Call.class);
+    }
+
+    @Benchmark
+    public TypeReference<Page<Contact>> pageOf() {
+        return ModelType.pageOf(Contact.class);
+    }
+
+    @Benchmark
+    public TypeReference<ListHolder<Text>> listHolderOf() {
+        return ModelType.listHolderOf(Text.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.callfire.api.client.benchmark;
+
+import com.callfire.api.client.ClientUtils;
+import com.callfire.api.client.api.common.model.CallfireModel;
+import org.apache.http.NameValuePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of finder requests to query parameters, request is built with paging
+ * and fields filter set like in typical find call
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParamsBenchmark {
+    private static final String API_PACKAGE = "com.callfire.api.client.api.";
+
+    @Param({
+        "callstexts.model.request.FindCallsRequest",
+        "callstexts.model.request.FindTextsRequest",
+        "callstexts.model.request.FindMediaRequest",
+        "campaigns.model.request.FindAgentGroupsRequest",
+        "campaigns.model.request.FindAgentSessionsRequest",
+        "campaigns.model.request.FindAgentsRequest",
+        "campaigns.model.request.FindBroadcastCallsRequest",
+        "campaigns.model.request.FindBroadcastTextsRequest",
+        "campaigns.model.request.FindCallBroadcastsRequest",
+        "campaigns.model.request.FindCccBroadcastsRequest",
+        "campaigns.model.request.FindIvrBroadcastsRequest",
+        "campaigns.model.request.FindSoundsRequest",
+        "campaigns.model.request.FindTextAutoRepliesRequest",
+        "campaigns.model.request.FindTextBroadcastsRequest",
+        "campaigns.model.request.FindVoiceBroadcastsRequest",
+        "contacts.model.request.FindContactListsRequest",
+        "contacts.model.request.FindContactsRequest",
+        "contacts.model.request.FindDncNumbersRequest",
+        "contacts.model.request.FindUniversalDncsRequest",
+        "numbers.model.request.FindNumberLeaseConfigsRequest",
+        "numbers.model.request.FindNumberLeasesRequest",
+        "numbers.model.request.FindNumberRegionsRequest",
+        "numbers.model.request.FindNumbersLocalRequest",
+        "numbers.model.request.FindTollfreeNumbersRequest",
+        "webhooks.model.request.FindWebhooksRequest"
+    })
+    public String requestType;
+
+    private CallfireModel request;
+
+    @Setup
+    public void setUp() throws Exception {
+        Object builder = Class.forName(API_PACKAGE + requestType).getMethod("create").invoke(null);
+        setIfPresent(builder, "limit", Long.class, 100L);
+        setIfPresent(builder, "offset", Long.class, 200L);
+        setIfPresent(builder, "fields", String.class, "items(id,fromNumber,toNumber,created)");
+        setIfPresent(builder, "id", Long.class, 1L);
+        setIfPresent(builder, "toNumber", String.class, "12135551100");
+        request = (CallfireModel) builder.getClass().getMethod("build").invoke(builder);
+    }
+
+    @Benchmark
+    public List<NameValuePair> buildQueryParams() {
+        return ClientUtils.buildQueryParams(request);
+    }
+
+    private static void setIfPresent(Object builder, String name, Class<?> type, Object value) throws Exception {
+        Method method;
+        try {
+            method = builder.getClass().getMethod(name, type);
+        } catch (NoSuchMethodException e) {
+            return;
+        }
+        method.invoke(builder, value);
+    }
+}
@@ -0,0 +1,130 @@
+package com.callfire.api.client.benchmark;
+
+import com.callfire.api.client.CallfireClient;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.callstexts.model.request.FindCallsRequest;
+import com.callfire.api.client.api.campaigns.model.TextRecipient;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.contacts.model.Contact;
+import com.callfire.api.client.api.contacts.model.request.FindContactsRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.callfire.api.client.ClientConstants.BASE_PATH_PROPERTY;
+
+/**
+ * Measures full request round trips: request building, HTTP exchange with in-process stub server
+ * over loopback and response mapping
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RestApiClientBenchmark {
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String originalBasePath;
+    private CallfireClient client;
+    private FindCallsRequest findCallsRequest;
+    private FindContactsRequest findContactsRequest;
+    private List<TextRecipient> recipients;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/calls", new FixtureHandler(Fixtures.load(Fixtures.FIND_CALLS)));
+        server.createContext("/contacts", new FixtureHandler(Fixtures.load(Fixtures.FIND_CONTACTS)));
+        server.createContext("/texts", new FixtureHandler(Fixtures.load(Fixtures.SEND_TEXTS)));
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        originalBasePath = CallfireClient.getClientConfig().getProperty(BASE_PATH_PROPERTY);
+        CallfireClient.getClientConfig().setProperty(BASE_PATH_PROPERTY,
+            "http://127.0.0.1:" + server.getAddress().getPort());
+        client = new CallfireClient("user", "password");
+
+        findCallsRequest = FindCallsRequest.create().limit(100L).offset(0L).campaignId(1L).build();
+        findContactsRequest = FindContactsRequest.create().limit(100L).build();
+        recipients = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            TextRecipient recipient = new TextRecipient();
+            recipient.setPhoneNumber("1213555110" + i);
+            recipient.setMessage("Hello World!");
+            recipients.add(recipient);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        CallfireClient.getClientConfig().setProperty(BASE_PATH_PROPERTY, originalBasePath);
+    }
+
+    @Benchmark
+    public Page<Call> findCalls() {
+        return client.callsApi().find(findCallsRequest);
+    }
+
+    @Benchmark
+    public Page<Contact> findContacts() {
+        return client.contactsApi().find(findContactsRequest);
+    }
+
+    @Benchmark
+    public List<Text> sendTexts() {
+        return client.textsApi().send(recipients);
+    }
+
+    private static class FixtureHandler implements HttpHandler {
+        private final byte[] body;
+
+        FixtureHandler(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try (InputStream requestBody = exchange.getRequestBody()) {
+                byte[] buffer = new byte[8192];
+                while (requestBody.read(buffer) != -1) {
+                    // drain request
+                }
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,454 @@
+package com.callfire.api.client;
+
+import com.callfire.api.client.api.common.model.CallfireModel;
+import com.callfire.api.client.api.common.model.ListHolder;
+import com.callfire.api.client.auth.Authentication;
+import com.callfire.api.client.auth.BasicAuth;
+import com.callfire.api.client.metrics.RequestMetrics;
+import com.callfire.api.client.metrics.RequestTimings;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.callfire.api.client.ClientConstants.USER_AGENT_PROPERTY;
+import static com.callfire.api.client.ClientUtils.buildQueryParams;
+
+/**
+ * Non-blocking REST client which makes HTTP calls to Callfire service using Apache HttpAsyncClient.
+ * Requests are built, filtered, authenticated and mapped to exceptions the same way as in {@link RestApiClient},
+ * but instead of blocking calling thread every method returns {@link CompletableFuture} which is completed
+ * by I/O dispatcher thread once response is received. Blocking methods inherited from {@link RestApiClient}
+ * are still available, blocking HTTP client and its connection pool are built on first blocking request
+ * so client which is used only asynchronously doesn't hold them.
+ * <p>
+ * Futures are completed exceptionally with the same exceptions which are thrown by blocking methods.
+ * If {@link #setRateLimiter(com.callfire.api.client.ratelimit.RateLimiter) rate limiter} is set calling thread
+ * waits for permit before request is submitted. Async requests aren't retried by
+ * {@link #setRetryPolicy(com.callfire.api.client.retry.RetryPolicy) retry policy}, it applies to blocking
+ * methods only; futures which complete exceptionally with retryable error should be resubmitted by caller.
+ * </p>
+ * <p>
+ * Responses are deserialized on I/O dispatcher thread unless {@link #setResponseExecutor(Executor) response
+ * executor} is set. Deserialization of large pages on dispatcher thread delays other responses handled by
+ * the same thread, so set executor if such pages are requested.
+ * </p>
+ *
+ * @since 1.8
+ */
+public class AsyncRestApiClient extends RestApiClient {
+    private static final Logger LOGGER = new Logger(AsyncRestApiClient.class);
+
+    private CloseableHttpAsyncClient asyncHttpClient;
+    private PoolingNHttpClientConnectionManager asyncConnectionManager;
+    private Executor responseExecutor;
+
+    /**
+     * Async REST API client constructor. Currently available authentication methods: {@link BasicAuth}
+     *
+     * @param authentication API authentication method
+     */
+    public AsyncRestApiClient(Authentication authentication) {
+        this(authentication, ConnectionPoolConfig.create().build());
+    }
+
+    /**
+     * Async REST API client constructor. Currently available authentication methods: {@link BasicAuth}
+     *
+     * @param authentication       API authentication method
+     * @param connectionPoolConfig HTTP connection pool settings, non-blocking pool uses only max total and
+     *                             max per route settings, idle, time to live and validation settings are
+     *                             applied to blocking pool only
+     */
+    public AsyncRestApiClient(Authentication authentication, ConnectionPoolConfig connectionPoolConfig) {
+        super(authentication, connectionPoolConfig);
+        asyncHttpClient = buildAsyncHttpClient();
+        asyncHttpClient.start();
+    }
+
+    /**
+     * Get Apache async HTTP client
+     *
+     * @return async http client
+     */
+    public CloseableHttpAsyncClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    /**
+     * Set Apache async HTTP client, client must be started
+     *
+     * @param asyncHttpClient async http client
+     */
+    public void setAsyncHttpClient(CloseableHttpAsyncClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    /**
+     * Get executor which deserializes async responses
+     *
+     * @return response executor or null if responses are deserialized on I/O dispatcher thread
+     */
+    public Executor getResponseExecutor() {
+        return responseExecutor;
+    }
+
+    /**
+     * Set executor which deserializes async responses and completes futures, by default it's done on
+     * I/O dispatcher thread
+     *
+     * @param responseExecutor response executor, null to use I/O dispatcher thread
+     */
+    public void setResponseExecutor(Executor responseExecutor) {
+        this.responseExecutor = responseExecutor;
+    }
+
+    /**
+     * Get current state of non-blocking HTTP connection pool
+     *
+     * @return total pool statistics
+     */
+    public PoolStats getAsyncConnectionPoolStats() {
+        return asyncConnectionManager.getTotalStats();
+    }
+
+    /**
+     * Performs async GET request to specified path
+     *
+     * @param path request path
+     * @param type return entity type
+     * @param <T>  return entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#get(String, TypeReference)
+     */
+    public <T> CompletableFuture<T> getAsync(String path, TypeReference<T> type) {
+        return getAsync(path, type, Collections.<NameValuePair>emptyList());
+    }
+
+    /**
+     * Performs async GET request to specified path
+     *
+     * @param path    request path
+     * @param type    return entity type
+     * @param request finder request with query parameters
+     * @param <T>     return entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#get(String, TypeReference, CallfireModel)
+     */
+    public <T> CompletableFuture<T> getAsync(String path, TypeReference<T> type, CallfireModel request) {
+        return getAsync(path, type, buildQueryParams(request));
+    }
+
+    /**
+     * Performs async GET request to specified path
+     *
+     * @param path        request path
+     * @param type        return entity type
+     * @param queryParams query parameters
+     * @param <T>         return entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#get(String, TypeReference, List)
+     */
+    public <T> CompletableFuture<T> getAsync(String path, TypeReference<T> type, List<NameValuePair> queryParams) {
+        return doRequestAsync(prepareGet(path, queryParams), type);
+    }
+
+    /**
+     * Performs async POST request to specified path with empty body
+     *
+     * @param path request path
+     * @param type return entity type
+     * @param <T>  return entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#post(String, TypeReference)
+     */
+    public <T> CompletableFuture<T> postAsync(String path, TypeReference<T> type) {
+        return postAsync(path, type, null);
+    }
+
+    /**
+     * Performs async POST request with body to specified path
+     *
+     * @param path    request path
+     * @param type    response entity type
+     * @param payload request payload
+     * @param <T>     response entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#post(String, TypeReference, Object)
+     */
+    public <T> CompletableFuture<T> postAsync(String path, TypeReference<T> type, Object payload) {
+        return postAsync(path, type, payload, Collections.<NameValuePair>emptyList());
+    }
+
+    /**
+     * Performs async POST request with body to specified path
+     *
+     * @param path    request path
+     * @param type    response entity type
+     * @param payload request payload
+     * @param request finder request with query parameters
+     * @param <T>     response entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#post(String, TypeReference, Object, CallfireModel)
+     */
+    public <T> CompletableFuture<T> postAsync(String path, TypeReference<T> type, Object payload,
+        CallfireModel request) {
+        return postAsync(path, type, payload, buildQueryParams(request));
+    }
+
+    /**
+     * Performs async POST request with body to specified path
+     *
+     * @param path        request path
+     * @param type        response entity type
+     * @param payload     request payload
+     * @param queryParams query parameters
+     * @param <T>         response entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#post(String, TypeReference, Object, List)
+     */
+    public <T> CompletableFuture<T> postAsync(String path, TypeReference<T> type, Object payload,
+        List<NameValuePair> queryParams) {
+        try {
+            return doRequestAsync(preparePost(path, payload, queryParams), type);
+        } catch (IOException e) {
+            return failedFuture(new CallfireClientException(e));
+        }
+    }
+
+    /**
+     * Performs async PUT request with body to specified path
+     *
+     * @param path    request path
+     * @param type    response entity type
+     * @param payload request payload
+     * @param <T>     response entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#put(String, TypeReference, Object)
+     */
+    public <T> CompletableFuture<T> putAsync(String path, TypeReference<T> type, Object payload) {
+        return putAsync(path, type, payload, Collections.<NameValuePair>emptyList());
+    }
+
+    /**
+     * Performs async PUT request with body to specified path
+     *
+     * @param path        request path
+     * @param type        response entity type
+     * @param payload     request payload
+     * @param queryParams query parameters
+     * @param <T>         response entity type
+     * @return future of pojo mapped from json
+     * @see RestApiClient#put(String, TypeReference, Object, List)
+     */
+    public <T> CompletableFuture<T> putAsync(String path, TypeReference<T> type, Object payload,
+        List<NameValuePair> queryParams) {
+        try {
+            return doRequestAsync(preparePut(path, payload, queryParams), type);
+        } catch (IOException e) {
+            return failedFuture(new CallfireClientException(e));
+        }
+    }
+
+    /**
+     * Performs async DELETE request to specified path
+     *
+     * @param path request path
+     * @return future which is completed once resource is deleted
+     * @see RestApiClient#delete(String)
+     */
+    public CompletableFuture<Void> deleteAsync(String path) {
+        return deleteAsync(path, Collections.<NameValuePair>emptyList());
+    }
+
+    /**
+     * Performs async DELETE request to specified path with query parameters
+     *
+     * @param path        request path
+     * @param queryParams query parameters
+     * @return future which is completed once resource is deleted
+     * @see RestApiClient#delete(String, List)
+     */
+    public CompletableFuture<Void> deleteAsync(String path, List<NameValuePair> queryParams) {
+        return doRequestAsync(prepareDelete(path, queryParams), null);
+    }
+
+    /**
+     * Returns function which extracts items from {@link ListHolder}, use it to
+     * transform futures of list holders
+     *
+     * @param <T> type of items
+     * @return function which extracts items
+     */
+    public static <T> Function<ListHolder<T>, List<T>> listHolderItems() {
+        return new Function<ListHolder<T>, List<T>>() {
+            @Override
+            public List<T> apply(ListHolder<T> holder) {
+                return holder.getItems();
+            }
+        };
+    }
+
+    /**
+     * Closes both blocking and non-blocking HTTP clients
+     *
+     * @throws CallfireClientException in case error has occurred while closing client
+     */
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            try {
+                asyncHttpClient.close();
+            } catch (IOException e) {
+                throw new CallfireClientException(e);
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> doRequestAsync(RequestBuilder requestBuilder, final TypeReference<T> type) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final HttpUriRequest httpRequest = buildRequest(requestBuilder);
+        final String method = httpRequest.getMethod();
+        final String pathTemplate = needsPathTemplate() ? getPathTemplate(httpRequest) : null;
+        try {
+            acquireRateLimit(pathTemplate);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+        final long start = System.nanoTime();
+        final Future<HttpResponse> responseFuture = asyncHttpClient.execute(httpRequest,
+            new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(final HttpResponse response) {
+                    invalidateCachedResponses(httpRequest);
+                    Executor executor = responseExecutor;
+                    if (executor == null) {
+                        handleResponse(response);
+                        return;
+                    }
+                    try {
+                        executor.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                handleResponse(response);
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        EntityUtils.consumeQuietly(response.getEntity());
+                        future.completeExceptionally(new CallfireClientException(e));
+                    }
+                }
+
+                private void handleResponse(HttpResponse response) {
+                    // only deserialization is measured, connection phases aren't visible in async client
+                    RequestTimings timings = hasMetricsListeners() ? RequestTimings.start() : null;
+                    Throwable error = null;
+                    try {
+                        if (timings != null) {
+                            recordRequestBody(httpRequest, timings);
+                        }
+                        decodeResponse(response);
+                        T result = readResponse(response, type);
+                        updateRateLimit(pathTemplate, null);
+                        future.complete(result);
+                    } catch (IOException e) {
+                        error = new CallfireClientException(e);
+                        future.completeExceptionally(error);
+                    } catch (RuntimeException e) {
+                        error = e;
+                        updateRateLimit(pathTemplate, e);
+                        future.completeExceptionally(e);
+                    } finally {
+                        if (timings != null) {
+                            RequestTimings.stop();
+                            fireMetrics(new RequestMetrics(method, pathTemplate,
+                                response.getStatusLine().getStatusCode(), error, System.nanoTime() - start, timings));
+                        }
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    invalidateCachedResponses(httpRequest);
+                    if (hasMetricsListeners()) {
+                        fireMetrics(new RequestMetrics(method, pathTemplate, 0, e, System.nanoTime() - start,
+                            new RequestTimings()));
+                    }
+                    future.completeExceptionally(new CallfireClientException(e));
+                }
+
+                @Override
+                public void cancelled() {
+                    invalidateCachedResponses(httpRequest);
+                    future.cancel(false);
+                }
+            });
+        future.whenComplete(new BiConsumer<T, Throwable>() {
+            @Override
+            public void accept(T result, Throwable throwable) {
+                if (future.isCancelled()) {
+                    responseFuture.cancel(true);
+                }
+            }
+        });
+        return future;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private CloseableHttpAsyncClient buildAsyncHttpClient() {
+        try {
+            ConnectionPoolConfig poolConfig = getConnectionPoolConfig();
+            asyncConnectionManager = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT));
+            asyncConnectionManager.setMaxTotal(poolConfig.getMaxTotal());
+            asyncConnectionManager.setDefaultMaxPerRoute(poolConfig.getMaxPerRoute());
+
+            HttpAsyncClientBuilder builder = HttpAsyncClients.custom();
+            builder.setConnectionManager(asyncConnectionManager);
+            builder.setUserAgent(CallfireClient.getClientConfig().getProperty(USER_AGENT_PROPERTY));
+            builder.addInterceptorLast(new RequestAcceptEncoding());
+            HttpHost proxy = getProxy();
+            if (proxy != null) {
+                CredentialsProvider provider = getProxyCredentialsProvider(proxy);
+                if (provider != null) {
+                    builder.setDefaultCredentialsProvider(provider);
+                }
+                builder.setProxy(proxy);
+            }
+            LOGGER.debug("Configured async http client with pool: {}", poolConfig);
+            return builder.build();
+        } catch (IOException e) {
+            throw new CallfireClientException("Cannot instantiate async http client.", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.callfire.api.client;
+
+import com.callfire.api.client.api.callstexts.CallsAsyncApi;
+import com.callfire.api.client.api.callstexts.TextsAsyncApi;
+import com.callfire.api.client.api.campaigns.CallBroadcastsAsyncApi;
+import com.callfire.api.client.api.contacts.ContactsAsyncApi;
+import com.callfire.api.client.auth.BasicAuth;
+
+import java.io.Closeable;
+
+/**
+ * Non-blocking Callfire API v2 client, every endpoint method returns
+ * {@link java.util.concurrent.CompletableFuture} instead of blocking caller thread,
+ * so a handful of threads can keep thousands of requests in flight.
+ * <pre>
+ * CallfireAsyncClient client = new CallfireAsyncClient(username, password);
+ * client.textsApi().send(recipients).thenAccept(...);
+ * </pre>
+ * Only Calls, Texts, CallBroadcasts and Contacts endpoints are exposed, other endpoints can be called
+ * through blocking methods of {@link #getRestApiClient()}, blocking HTTP client and its connection pool
+ * are created on first such call.
+ * <p>
+ * Authentication, request filters and error mapping are the same as in {@link CallfireClient}.
+ * Async requests are rate limited but aren't retried by
+ * {@link AsyncRestApiClient#setRetryPolicy(com.callfire.api.client.retry.RetryPolicy) retry policy},
+ * failed futures should be retried by caller.
+ * </p>
+ *
+ * @see CallfireClient
+ * @since 1.8
+ */
+public class CallfireAsyncClient implements Closeable {
+    private AsyncRestApiClient restApiClient;
+
+    private CallsAsyncApi callsApi;
+    private TextsAsyncApi textsApi;
+    private CallBroadcastsAsyncApi callBroadcastsApi;
+    private ContactsAsyncApi contactsApi;
+
+    /**
+     * Constructs async callfire client
+     *
+     * @param username api login
+     * @param password api password
+     */
+    public CallfireAsyncClient(String username, String password) {
+        restApiClient = new AsyncRestApiClient(new BasicAuth(username, password));
+    }
+
+    /**
+     * Constructs async callfire client with custom HTTP connection pool settings
+     *
+     * @param username             api login
+     * @param password             api password
+     * @param connectionPoolConfig HTTP connection pool settings
+     */
+    public CallfireAsyncClient(String username, String password, ConnectionPoolConfig connectionPoolConfig) {
+        restApiClient = new AsyncRestApiClient(new BasicAuth(username, password), connectionPoolConfig);
+    }
+
+    /**
+     * Get async REST api client which uses Apache HttpAsyncClient inside
+     *
+     * @return async rest client
+     */
+    public AsyncRestApiClient getRestApiClient() {
+        return restApiClient;
+    }
+
+    /**
+     * Get /calls endpoint
+     *
+     * @return endpoint object
+     */
+    public CallsAsyncApi callsApi() {
+        if (callsApi == null) {
+            callsApi = new CallsAsyncApi(restApiClient);
+        }
+        return callsApi;
+    }
+
+    /**
+     * Get /texts endpoint
+     *
+     * @return endpoint object
+     */
+    public TextsAsyncApi textsApi() {
+        if (textsApi == null) {
+            textsApi = new TextsAsyncApi(restApiClient);
+        }
+        return textsApi;
+    }
+
+    /**
+     * Get /calls/broadcasts endpoint
+     *
+     * @return endpoint object
+     */
+    public CallBroadcastsAsyncApi callBroadcastsApi() {
+        if (callBroadcastsApi == null) {
+            callBroadcastsApi = new CallBroadcastsAsyncApi(restApiClient);
+        }
+        return callBroadcastsApi;
+    }
+
+    /**
+     * Get /contacts endpoint
+     *
+     * @return endpoint object
+     */
+    public ContactsAsyncApi contactsApi() {
+        if (contactsApi == null) {
+            contactsApi = new ContactsAsyncApi(restApiClient);
+        }
+        return contactsApi;
+    }
+
+    /**
+     * Releases HTTP connections and stops I/O dispatcher threads, client cannot be used after it's closed
+     */
+    @Override
+    public void close() {
+        restApiClient.close();
+    }
+}
@@ -16,6 +16,7 @@ import com.callfire.api.client.api.numbers.NumbersApi;
 import com.callfire.api.client.api.webhooks.WebhooksApi;
 import com.callfire.api.client.auth.BasicAuth;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Properties;
 
@@ -56,7 +57,7 @@ import static com.callfire.api.client.ClientConstants.CLIENT_CONFIG_FILE;
  * @see <a href="http://stackoverflow.com/questions/tagged/callfire">Stackoverflow community questions</a>
  * @since 1.0
  */
-public class CallfireClient {
+public class CallfireClient implements Closeable {
     private static Properties clientConfig = new Properties();
 
     static {
@@ -100,6 +101,34 @@ public class CallfireClient {
         restApiClient = new RestApiClient(new BasicAuth(username, password));
     }
 
+    /**
+     * Constructs callfire client with custom HTTP connection pool settings
+     * <pre>
+     * CallfireClient client = new CallfireClient(username, password, ConnectionPoolConfig.create()
+     *     .maxTotal(64)
+     *     .maxPerRoute(64)
+     *     .build());
+     * </pre>
+     *
+     * @param username             api login
+     * @param password             api password
+     * @param connectionPoolConfig HTTP connection pool settings
+     * @since 1.8
+     */
+    public CallfireClient(String username, String password, ConnectionPoolConfig connectionPoolConfig) {
+        restApiClient = new RestApiClient(new BasicAuth(username, password), connectionPoolConfig);
+    }
+
+    /**
+     * Constructs callfire client on top of given REST client
+     *
+     * @param restApiClient REST client
+     * @since 1.8
+     */
+    CallfireClient(RestApiClient restApiClient) {
+        this.restApiClient = restApiClient;
+    }
+
     /**
      * Get REST api client which uses Apache httpclient inside
      *
@@ -336,6 +365,16 @@ public class CallfireClient {
         return contactListsApi;
     }
 
+    /**
+     * Releases HTTP connections held by client, client cannot be used after it's closed
+     *
+     * @since 1.8
+     */
+    @Override
+    public void close() {
+        restApiClient.close();
+    }
+
     private static void loadConfig() {
         try {
             clientConfig.load(CallfireClient.class.getResourceAsStream(CLIENT_CONFIG_FILE));
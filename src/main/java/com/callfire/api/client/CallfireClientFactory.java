@@ -0,0 +1,124 @@
+package com.callfire.api.client;
+
+import com.callfire.api.client.auth.Authentication;
+import com.callfire.api.client.auth.BasicAuth;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.pool.PoolStats;
+
+import java.io.Closeable;
+
+/**
+ * Creates clients for many accounts which share single HTTP client with its connection pool and single
+ * json converter, only authentication differs between clients. Use it instead of separate
+ * {@link CallfireClient} per account when application works on behalf of many sub-accounts:
+ * <pre>
+ * CallfireClientFactory factory = CallfireClientFactory.create()
+ *     .connectionPoolConfig(ConnectionPoolConfig.create()
+ *         .maxTotal(200)
+ *         .maxPerRoute(200)
+ *         .build())
+ *     .build();
+ * CallfireClient client = factory.newClient(username, password);
+ * </pre>
+ * All clients send requests to the same host so pool's max per route limit applies to all of them together.
+ * Rate limiter, retry policy, response cache and metrics listeners are still configured per client.
+ * Closing client created by factory has no effect, shared resources are released by {@link #close()}.
+ *
+ * @since 1.8
+ */
+public class CallfireClientFactory implements Closeable {
+    private final RestApiClient owner;
+
+    private CallfireClientFactory(Builder builder) {
+        this.owner = new RestApiClient(null, builder.connectionPoolConfig);
+    }
+
+    /**
+     * Create builder of client factory
+     *
+     * @return factory builder
+     */
+    public static Builder create() {
+        return new Builder();
+    }
+
+    /**
+     * Create client which uses basic authentication
+     *
+     * @param username api login
+     * @param password api password
+     * @return client which shares HTTP connections with other clients of factory
+     */
+    public CallfireClient newClient(String username, String password) {
+        return newClient(new BasicAuth(username, password));
+    }
+
+    /**
+     * Create client with given authentication
+     *
+     * @param authentication API authentication method
+     * @return client which shares HTTP connections with other clients of factory
+     */
+    public CallfireClient newClient(Authentication authentication) {
+        Validate.notNull(authentication, "authentication cannot be null");
+        return new CallfireClient(new RestApiClient(authentication, owner));
+    }
+
+    /**
+     * Get json converter shared by all clients
+     *
+     * @return json converter
+     */
+    public JsonConverter getJsonConverter() {
+        return owner.getJsonConverter();
+    }
+
+    /**
+     * Get statistics of shared connection pool
+     *
+     * @return pool statistics
+     */
+    public PoolStats getConnectionPoolStats() {
+        return owner.getConnectionPoolStats();
+    }
+
+    /**
+     * Closes shared HTTP client and connection pool, clients created by factory cannot be used after that
+     */
+    @Override
+    public void close() {
+        owner.close();
+    }
+
+    /**
+     * Builder of {@link CallfireClientFactory}
+     */
+    public static class Builder {
+        private ConnectionPoolConfig connectionPoolConfig = ConnectionPoolConfig.create().build();
+
+        private Builder() {
+        }
+
+        /**
+         * Set settings of shared HTTP connection pool
+         *
+         * @param connectionPoolConfig connection pool settings
+         * @return builder self reference
+         */
+        public Builder connectionPoolConfig(ConnectionPoolConfig connectionPoolConfig) {
+            this.connectionPoolConfig = connectionPoolConfig;
+            return this;
+        }
+
+        /**
+         * Build factory and its shared HTTP client and connection pool
+         *
+         * @return client factory
+         * @throws NullPointerException in case connection pool config isn't set
+         */
+        public CallfireClientFactory build() {
+            Validate.notNull(connectionPoolConfig, "connectionPoolConfig cannot be null");
+            return new CallfireClientFactory(this);
+        }
+    }
+}
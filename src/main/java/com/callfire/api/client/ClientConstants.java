@@ -10,8 +10,21 @@ public interface ClientConstants {
     String USER_AGENT_PROPERTY = "com.callfire.api.client.version";
     String PROXY_ADDRESS_PROPERTY = "com.callfire.api.client.proxy.address";
     String PROXY_CREDENTIALS_PROPERTY = "com.callfire.api.client.proxy.credentials";
+    String POOL_MAX_TOTAL_PROPERTY = "com.callfire.api.client.pool.maxTotal";
+    String POOL_MAX_PER_ROUTE_PROPERTY = "com.callfire.api.client.pool.maxPerRoute";
+    String POOL_VALIDATE_AFTER_INACTIVITY_PROPERTY = "com.callfire.api.client.pool.validateAfterInactivity";
+    String POOL_IDLE_TIMEOUT_PROPERTY = "com.callfire.api.client.pool.idleTimeout";
+    String POOL_TIME_TO_LIVE_PROPERTY = "com.callfire.api.client.pool.timeToLive";
+    String REQUEST_COMPRESSION_THRESHOLD_PROPERTY = "com.callfire.api.client.compression.requestThreshold";
 
 	int DEFAULT_PROXY_PORT = 8080;
+    int DEFAULT_POOL_MAX_TOTAL = 20;
+    int DEFAULT_POOL_MAX_PER_ROUTE = 20;
+    int DEFAULT_POOL_VALIDATE_AFTER_INACTIVITY = 2000;
+    long DEFAULT_POOL_IDLE_TIMEOUT = 60000;
+    long DEFAULT_POOL_TIME_TO_LIVE = -1;
+    int DEFAULT_REQUEST_COMPRESSION_THRESHOLD = -1;
+    long DEFAULT_PAGE_SIZE = 100;
 
     String CLIENT_CONFIG_FILE = "/com/callfire/api/client/callfire.properties";
 
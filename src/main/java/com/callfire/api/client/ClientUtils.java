@@ -7,7 +7,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.NameValuePair;
 import org.apache.http.message.BasicNameValuePair;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -19,6 +23,21 @@ import java.util.Objects;
  * @since 1.0
  */
 public final class ClientUtils {
+    private static final ClassValue<QueryParamAccessor[]> QUERY_PARAM_ACCESSORS =
+        new ClassValue<QueryParamAccessor[]>() {
+            @Override
+            protected QueryParamAccessor[] computeValue(Class<?> type) {
+                List<QueryParamAccessor> accessors = new ArrayList<>();
+                Class<?> superclass = type.getSuperclass();
+                while (superclass != null) {
+                    addAccessors(accessors, superclass);
+                    superclass = superclass.getSuperclass();
+                }
+                addAccessors(accessors, type);
+                return accessors.toArray(new QueryParamAccessor[accessors.size()]);
+            }
+        };
+
     private ClientUtils() {
     }
 
@@ -56,60 +75,115 @@ public final class ClientUtils {
     }
 
     /**
-     * Method traverses request object using reflection and build {@link List} of {@link NameValuePair} from it
+     * Converts request path to endpoint path template by replacing numeric ids with {},
+     * e.g. /calls/broadcasts/10/recipients to /calls/broadcasts/{}/recipients. String ids like media keys
+     * or keywords aren't replaced, see {@link com.callfire.api.client.metrics.MetricsRegistry}
+     *
+     * @param path request path
+     * @return path template
+     * @since 1.8
+     */
+    public static String toPathTemplate(String path) {
+        StringBuilder template = new StringBuilder(path.length());
+        int start = 0;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start + 1);
+            end = end < 0 ? path.length() : end;
+            boolean numeric = end - start > 1;
+            for (int i = start + 1; i < end && numeric; i++) {
+                numeric = Character.isDigit(path.charAt(i));
+            }
+            if (numeric) {
+                template.append("/{}");
+            } else {
+                template.append(path, start, end);
+            }
+            start = end;
+        }
+        return template.toString();
+    }
+
+    /**
+     * Method traverses request object and build {@link List} of {@link NameValuePair} from it. Fields of
+     * each request class are resolved with reflection only once, then cached accessors are used.
      *
      * @param request request
      * @param <T>     type of request
      * @return list contains query parameters
-     * @throws CallfireClientException in case IllegalAccessException occurred
+     * @throws CallfireClientException in case field cannot be accessed
      */
     public static <T extends CallfireModel> List<NameValuePair> buildQueryParams(T request)
         throws CallfireClientException {
-        List<NameValuePair> params = new ArrayList<>();
-        Class<?> superclass = request.getClass().getSuperclass();
-        while (superclass != null) {
-            readFields(request, params, superclass);
-            superclass = superclass.getSuperclass();
+        QueryParamAccessor[] accessors = QUERY_PARAM_ACCESSORS.get(request.getClass());
+        List<NameValuePair> params = new ArrayList<>(accessors.length);
+        for (QueryParamAccessor accessor : accessors) {
+            accessor.read(request, params);
         }
-        readFields(request, params, request.getClass());
         return params;
     }
 
-    private static void readFields(Object request, List<NameValuePair> params, Class<?> clazz) {
+    private static void addAccessors(List<QueryParamAccessor> accessors, Class<?> clazz) {
         for (Field field : clazz.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            QueryParamIgnore ignore = field.getAnnotation(QueryParamIgnore.class);
+            if (ignore != null && ignore.enabled()) {
+                continue;
+            }
+            ConvertToString convert = field.getAnnotation(ConvertToString.class);
             try {
-                readField(request, params, field);
+                field.setAccessible(true);
+                MethodHandle getter = MethodHandles.lookup().unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+                accessors.add(new QueryParamAccessor(field.getName(), getter,
+                    convert == null ? null : convert.separator()));
             } catch (IllegalAccessException e) {
                 throw new CallfireClientException(e);
             }
         }
     }
 
-    private static void readField(Object request, List<NameValuePair> params, Field field)
-        throws IllegalAccessException {
-        field.setAccessible(true);
-        if (field.isAnnotationPresent(QueryParamIgnore.class) &&
-            field.getAnnotation(QueryParamIgnore.class).enabled()) {
-            return;
+    /**
+     * Reads single request field and converts it to query parameters
+     */
+    private static final class QueryParamAccessor {
+        private final String name;
+        private final MethodHandle getter;
+        private final String separator;
+
+        QueryParamAccessor(String name, MethodHandle getter, String separator) {
+            this.name = name;
+            this.getter = getter;
+            this.separator = separator;
         }
-        Object value = field.get(request);
-        if (value != null) {
-            if (field.isAnnotationPresent(ConvertToString.class) && value instanceof Iterable) {
-                value = StringUtils.join((Iterable) value, field.getAnnotation(ConvertToString.class).separator());
+
+        void read(Object request, List<NameValuePair> params) {
+            Object value;
+            try {
+                value = (Object) getter.invokeExact(request);
+            } catch (Throwable e) {
+                throw new CallfireClientException(e);
+            }
+            if (value == null) {
+                return;
+            }
+            if (separator != null && value instanceof Iterable) {
+                value = StringUtils.join((Iterable) value, separator);
                 if (StringUtils.isEmpty((String) value)) {
                     return;
                 }
             }
             if (value instanceof Iterable) {
                 for (Object o : (Iterable) value) {
-                    params.add(new BasicNameValuePair(field.getName(), o.toString()));
+                    params.add(new BasicNameValuePair(name, o.toString()));
                 }
                 return;
             }
             if (value instanceof Date) {
                 value = ((Date) value).getTime();
             }
-            params.add(new BasicNameValuePair(field.getName(), value.toString()));
+            params.add(new BasicNameValuePair(name, value.toString()));
         }
     }
 }
@@ -0,0 +1,195 @@
+package com.callfire.api.client;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Properties;
+
+import static com.callfire.api.client.ClientConstants.*;
+import static org.apache.commons.lang3.math.NumberUtils.toInt;
+import static org.apache.commons.lang3.math.NumberUtils.toLong;
+
+/**
+ * Settings of HTTP connection pool used by {@link RestApiClient}. Default values are taken from
+ * client configuration properties:
+ * <ul>
+ * <li>com.callfire.api.client.pool.maxTotal - max number of connections in pool, default 20</li>
+ * <li>com.callfire.api.client.pool.maxPerRoute - max number of connections per route, default 20</li>
+ * <li>com.callfire.api.client.pool.validateAfterInactivity - period of inactivity in milliseconds after which
+ * connection is re-validated before it's leased, default 2000</li>
+ * <li>com.callfire.api.client.pool.idleTimeout - idle connections older than this value in milliseconds are
+ * closed by background evictor thread, 0 or negative value turns evictor off, default 60000</li>
+ * <li>com.callfire.api.client.pool.timeToLive - max connection time to live in milliseconds,
+ * 0 or negative value means infinite, default -1</li>
+ * </ul>
+ *
+ * @since 1.8
+ */
+public class ConnectionPoolConfig {
+    private int maxTotal;
+    private int maxPerRoute;
+    private int validateAfterInactivity;
+    private long idleTimeout;
+    private long timeToLive;
+
+    private ConnectionPoolConfig() {
+    }
+
+    private ConnectionPoolConfig(ConnectionPoolConfig other) {
+        this.maxTotal = other.maxTotal;
+        this.maxPerRoute = other.maxPerRoute;
+        this.validateAfterInactivity = other.validateAfterInactivity;
+        this.idleTimeout = other.idleTimeout;
+        this.timeToLive = other.timeToLive;
+    }
+
+    /**
+     * Create builder with values loaded from client configuration
+     *
+     * @return config builder
+     */
+    public static Builder create() {
+        return new Builder(CallfireClient.getClientConfig());
+    }
+
+    /**
+     * Get max number of connections in pool
+     *
+     * @return max total connections
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * Get max number of connections per route (host)
+     *
+     * @return max connections per route
+     */
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    /**
+     * Get period of inactivity in milliseconds after which persistent connection is re-validated
+     *
+     * @return inactivity period in milliseconds
+     */
+    public int getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    /**
+     * Get max idle time in milliseconds after which connection is closed by evictor thread
+     *
+     * @return idle timeout in milliseconds, 0 or negative value if evictor is off
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Get max connection time to live in milliseconds
+     *
+     * @return time to live in milliseconds, 0 or negative value for infinite
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("maxTotal", maxTotal)
+            .append("maxPerRoute", maxPerRoute)
+            .append("validateAfterInactivity", validateAfterInactivity)
+            .append("idleTimeout", idleTimeout)
+            .append("timeToLive", timeToLive)
+            .toString();
+    }
+
+    /**
+     * Builder class
+     */
+    public static class Builder {
+        private final ConnectionPoolConfig config = new ConnectionPoolConfig();
+
+        private Builder(Properties properties) {
+            config.maxTotal = toInt(properties.getProperty(POOL_MAX_TOTAL_PROPERTY), DEFAULT_POOL_MAX_TOTAL);
+            config.maxPerRoute = toInt(properties.getProperty(POOL_MAX_PER_ROUTE_PROPERTY),
+                DEFAULT_POOL_MAX_PER_ROUTE);
+            config.validateAfterInactivity = toInt(properties.getProperty(POOL_VALIDATE_AFTER_INACTIVITY_PROPERTY),
+                DEFAULT_POOL_VALIDATE_AFTER_INACTIVITY);
+            config.idleTimeout = toLong(properties.getProperty(POOL_IDLE_TIMEOUT_PROPERTY), DEFAULT_POOL_IDLE_TIMEOUT);
+            config.timeToLive = toLong(properties.getProperty(POOL_TIME_TO_LIVE_PROPERTY), DEFAULT_POOL_TIME_TO_LIVE);
+        }
+
+        /**
+         * Set max number of connections in pool
+         *
+         * @param maxTotal max total connections
+         * @return builder self reference
+         */
+        public Builder maxTotal(int maxTotal) {
+            config.maxTotal = maxTotal;
+            return this;
+        }
+
+        /**
+         * Set max number of connections per route. All API calls go to the same host, so usually
+         * this value is equal to max total connections
+         *
+         * @param maxPerRoute max connections per route
+         * @return builder self reference
+         */
+        public Builder maxPerRoute(int maxPerRoute) {
+            config.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        /**
+         * Set period of inactivity in milliseconds after which persistent connection is re-validated
+         *
+         * @param validateAfterInactivity inactivity period in milliseconds
+         * @return builder self reference
+         */
+        public Builder validateAfterInactivity(int validateAfterInactivity) {
+            config.validateAfterInactivity = validateAfterInactivity;
+            return this;
+        }
+
+        /**
+         * Set max idle time in milliseconds after which connection is closed by evictor thread,
+         * 0 or negative value turns evictor off
+         *
+         * @param idleTimeout idle timeout in milliseconds
+         * @return builder self reference
+         */
+        public Builder idleTimeout(long idleTimeout) {
+            config.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Set max connection time to live in milliseconds, 0 or negative value means infinite
+         *
+         * @param timeToLive time to live in milliseconds
+         * @return builder self reference
+         */
+        public Builder timeToLive(long timeToLive) {
+            config.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Build config, builder can be reused, changes made after this call don't affect returned config
+         *
+         * @return connection pool config
+         */
+        public ConnectionPoolConfig build() {
+            Validate.isTrue(config.maxTotal > 0, "maxTotal must be positive");
+            Validate.isTrue(config.maxPerRoute > 0, "maxPerRoute must be positive");
+            return new ConnectionPoolConfig(config);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.callfire.api.client;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates daemon threads for background pools owned by client components, so they don't prevent JVM from
+ * exiting if component wasn't closed. Threads are named with given prefix and sequence number.
+ *
+ * @since 1.8
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+    private final String name;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * Constructs thread factory
+     *
+     * @param name prefix of thread names
+     */
+    public DaemonThreadFactory(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, name + "-" + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,52 @@
+package com.callfire.api.client;
+
+import org.apache.http.Consts;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Request entity which holds gzip-compressed json body, keeps size of original body for metrics
+ *
+ * @since 1.8
+ */
+public class GzipJsonEntity extends ByteArrayEntity {
+    private static final String GZIP = "gzip";
+
+    private final long uncompressedLength;
+
+    private GzipJsonEntity(byte[] compressed, long uncompressedLength) {
+        super(compressed, ContentType.create(ContentType.APPLICATION_JSON.getMimeType(), Consts.UTF_8));
+        this.uncompressedLength = uncompressedLength;
+        setContentEncoding(GZIP);
+    }
+
+    /**
+     * Compresses json body without copying it out of serialization buffer
+     *
+     * @param json buffer holding serialized json body
+     * @return compressed entity
+     */
+    public static GzipJsonEntity compress(ByteArrayOutputStream json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(json.size() / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            json.writeTo(gzip);
+        } catch (IOException e) {
+            // doesn't happen with in-memory stream
+            throw new CallfireClientException(e);
+        }
+        return new GzipJsonEntity(out.toByteArray(), json.size());
+    }
+
+    /**
+     * Get size of json body before compression
+     *
+     * @return uncompressed body length
+     */
+    public long getUncompressedLength() {
+        return uncompressedLength;
+    }
+}
@@ -1,12 +1,17 @@
 package com.callfire.api.client;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * JSON serializer/deserializer
@@ -39,6 +44,27 @@ public class JsonConverter {
         }
     }
 
+    /**
+     * Serialize the given Java object as JSON to the given stream, stream isn't closed by this method.
+     *
+     * @param obj object to serialize
+     * @param out stream to write JSON encoded in UTF-8 to
+     * @throws IOException             in case writing to stream failed
+     * @throws CallfireClientException in case object cannot be serialized
+     * @since 1.8
+     */
+    public void serialize(Object obj, OutputStream out) throws IOException {
+        JsonGenerator generator = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            mapper.writeValue(generator, obj);
+        } catch (JsonProcessingException e) {
+            throw new CallfireClientException(e);
+        } finally {
+            generator.close();
+        }
+    }
+
     /**
      * Deserialize the given JSON string to Java object.
      *
@@ -56,6 +82,44 @@ public class JsonConverter {
         }
     }
 
+    /**
+     * Deserialize JSON from the given stream to Java object. Entity is parsed incrementally
+     * without buffering whole body in memory. Stream is closed by Jackson once it's parsed,
+     * closing response entity stream releases HTTP connection.
+     *
+     * @param body stream with JSON content
+     * @param type The type of deserialized entity
+     * @param <T>  type of deserialized entity
+     * @return deserialized Java object
+     * @throws CallfireClientException in case body cannot be deserialized
+     * @since 1.8
+     */
+    public <T> T deserialize(InputStream body, TypeReference<T> type) throws CallfireClientException {
+        try {
+            return mapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new CallfireClientException(e);
+        }
+    }
+
+    /**
+     * Deserialize the given JSON bytes to Java object.
+     *
+     * @param body JSON content encoded in UTF-8
+     * @param type The type of deserialized entity
+     * @param <T>  type of deserialized entity
+     * @return deserialized Java object
+     * @throws CallfireClientException in case body cannot be deserialized
+     * @since 1.8
+     */
+    public <T> T deserialize(byte[] body, TypeReference<T> type) throws CallfireClientException {
+        try {
+            return mapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new CallfireClientException(e);
+        }
+    }
+
     /**
      * Get Jackson's {@link ObjectMapper}
      *
@@ -0,0 +1,110 @@
+package com.callfire.api.client;
+
+import com.callfire.api.client.metrics.RequestTimings;
+import org.apache.http.Consts;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Request entity which serializes payload with Jackson straight to connection output stream, so json body
+ * is never materialized as String or byte array. Body length isn't known upfront and is sent chunked.
+ * <p>
+ * Entity is repeatable, payload is serialized again on each write, so request can be retried by retry policy
+ * or by HTTP client itself when stale connection is detected.
+ * </p>
+ *
+ * @since 1.8
+ */
+public class JsonEntity extends AbstractHttpEntity {
+    private final Object payload;
+    private final JsonConverter jsonConverter;
+
+    /**
+     * Constructs entity
+     *
+     * @param payload       request payload
+     * @param jsonConverter converter which serializes payload
+     */
+    public JsonEntity(Object payload, JsonConverter jsonConverter) {
+        this.payload = payload;
+        this.jsonConverter = jsonConverter;
+        setContentType(ContentType.create(ContentType.APPLICATION_JSON.getMimeType(), Consts.UTF_8).toString());
+        setChunked(true);
+    }
+
+    /**
+     * Get request payload
+     *
+     * @return payload which is serialized to request body
+     */
+    public Object getPayload() {
+        return payload;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * Serializes payload into memory, use {@link #writeTo(OutputStream)} to avoid buffering
+     *
+     * @return stream with json body
+     * @throws IOException in case payload cannot be serialized
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonConverter.serialize(payload, out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            jsonConverter.serialize(payload, out);
+            return;
+        }
+        CountingOutputStream counting = new CountingOutputStream(out);
+        jsonConverter.serialize(payload, counting);
+        timings.addRequestBody(counting.count, counting.count);
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
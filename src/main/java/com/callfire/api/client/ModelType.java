@@ -45,6 +45,7 @@ import com.callfire.api.client.api.numbers.model.NumberLease;
 import com.callfire.api.client.api.numbers.model.Region;
 import com.callfire.api.client.api.webhooks.model.Webhook;
 import com.callfire.api.client.api.webhooks.model.WebhookResource;
+import com.callfire.api.client.download.RangeResponse;
 
 /**
  * Class contains TypeReferences for all model objects
@@ -71,6 +72,7 @@ public final class ModelType {
         SIMPLE_TYPES.put(String.class, new TypeReference<String>() {});
         SIMPLE_TYPES.put(Boolean.class, new TypeReference<Boolean>() {});
         SIMPLE_TYPES.put(InputStream.class, new TypeReference<InputStream>() {});
+        SIMPLE_TYPES.put(RangeResponse.class, new TypeReference<RangeResponse>() {});
 
         SIMPLE_TYPES.put(ResourceId.class, new TypeReference<ResourceId>() {});
         SIMPLE_TYPES.put(Account.class, new TypeReference<Account>() {});
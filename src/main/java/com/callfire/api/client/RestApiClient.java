@@ -2,40 +2,84 @@ package com.callfire.api.client;
 
 import com.callfire.api.client.api.common.model.CallfireModel;
 import com.callfire.api.client.api.common.model.ErrorMessage;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.common.model.request.FindRequest;
 import com.callfire.api.client.auth.Authentication;
 import com.callfire.api.client.auth.BasicAuth;
+import com.callfire.api.client.cache.ResponseCache;
+import com.callfire.api.client.download.RangeResponse;
+import com.callfire.api.client.metrics.CountingEntity;
+import com.callfire.api.client.metrics.InstrumentedConnectionManager;
+import com.callfire.api.client.metrics.InstrumentedRequestExecutor;
+import com.callfire.api.client.metrics.MetricsListener;
+import com.callfire.api.client.metrics.MetricsRegistry;
+import com.callfire.api.client.metrics.RequestMetrics;
+import com.callfire.api.client.metrics.RequestTimings;
+import com.callfire.api.client.paging.PagedIterable;
+import com.callfire.api.client.paging.RequestPageFetcher;
+import com.callfire.api.client.ratelimit.RateLimitExceededException;
+import com.callfire.api.client.ratelimit.RateLimiter;
+import com.callfire.api.client.retry.RetryPolicy;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 import org.apache.http.*;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.entity.DeflateDecompressingEntity;
+import org.apache.http.client.entity.GzipDecompressingEntity;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
 import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.entity.mime.content.ContentBody;
+import org.apache.http.entity.mime.content.FileBody;
+import org.apache.http.entity.mime.content.InputStreamBody;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.util.EntityUtils;
 
 import javax.activation.MimetypesFileTypeMap;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import static com.callfire.api.client.ClientConstants.*;
 import static com.callfire.api.client.ClientUtils.buildQueryParams;
+import static com.callfire.api.client.ClientUtils.toPathTemplate;
 import static com.callfire.api.client.ModelType.of;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.math.NumberUtils.toInt;
+import static org.apache.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.apache.http.HttpHeaders.CONTENT_ENCODING;
+import static org.apache.http.HttpHeaders.CONTENT_LENGTH;
+import static org.apache.http.HttpHeaders.CONTENT_RANGE;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
+import static org.apache.http.HttpHeaders.ETAG;
+import static org.apache.http.HttpHeaders.IF_RANGE;
+import static org.apache.http.HttpHeaders.LAST_MODIFIED;
+import static org.apache.http.HttpHeaders.RANGE;
+import static org.apache.http.HttpHeaders.RETRY_AFTER;
 import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 
 /**
@@ -43,13 +87,21 @@ import static org.apache.http.entity.ContentType.APPLICATION_JSON;
  *
  * @since 1.0
  */
-public class RestApiClient {
+public class RestApiClient implements Closeable {
     private static final Logger LOGGER = new Logger(RestApiClient.class);
 
-    private HttpClient httpClient;
+    private volatile HttpClient httpClient;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private ConnectionPoolConfig connectionPoolConfig;
     private JsonConverter jsonConverter;
     private Authentication authentication;
     private SortedSet<RequestFilter> filters = new TreeSet<>();
+    private RateLimiter rateLimiter;
+    private RetryPolicy retryPolicy;
+    private ResponseCache responseCache;
+    private int requestCompressionThreshold;
+    private List<MetricsListener> metricsListeners = new CopyOnWriteArrayList<>();
+    private boolean sharedHttpClient;
 
     /**
      * REST API client constructor. Currently available authentication methods: {@link BasicAuth}
@@ -57,18 +109,59 @@ public class RestApiClient {
      * @param authentication API authentication method
      */
     public RestApiClient(Authentication authentication) {
+        this(authentication, ConnectionPoolConfig.create().build());
+    }
+
+    /**
+     * REST API client constructor. Currently available authentication methods: {@link BasicAuth}
+     *
+     * @param authentication       API authentication method
+     * @param connectionPoolConfig HTTP connection pool settings
+     * @since 1.8
+     */
+    public RestApiClient(Authentication authentication, ConnectionPoolConfig connectionPoolConfig) {
         this.authentication = authentication;
+        this.connectionPoolConfig = connectionPoolConfig;
         jsonConverter = new JsonConverter();
-        httpClient = buildHttpClient();
+        requestCompressionThreshold = toInt(CallfireClient.getClientConfig().getProperty(
+            REQUEST_COMPRESSION_THRESHOLD_PROPERTY), DEFAULT_REQUEST_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * Constructs client which sends requests through HTTP client, connection pool and json converter of
+     * given client. Closing this client doesn't release shared resources, they're released when owner
+     * client is closed.
+     *
+     * @param authentication API authentication method
+     * @param owner          client which owns HTTP client and connection pool
+     * @since 1.8
+     */
+    RestApiClient(Authentication authentication, RestApiClient owner) {
+        this.authentication = authentication;
+        this.connectionPoolConfig = owner.connectionPoolConfig;
+        this.httpClient = owner.getHttpClient();
+        this.connectionManager = owner.connectionManager;
+        this.jsonConverter = owner.jsonConverter;
+        this.requestCompressionThreshold = owner.requestCompressionThreshold;
+        this.sharedHttpClient = true;
     }
 
     /**
-     * Get Apache HTTP client
+     * Get Apache HTTP client, client and its connection pool are built on first call
      *
      * @return http client
      */
     public HttpClient getHttpClient() {
-        return httpClient;
+        HttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                if (httpClient == null) {
+                    httpClient = buildHttpClient();
+                }
+                client = httpClient;
+            }
+        }
+        return client;
     }
 
     /**
@@ -80,6 +173,132 @@ public class RestApiClient {
         this.httpClient = httpClient;
     }
 
+    /**
+     * Get settings of HTTP connection pool
+     *
+     * @return connection pool config
+     * @since 1.8
+     */
+    public ConnectionPoolConfig getConnectionPoolConfig() {
+        return connectionPoolConfig;
+    }
+
+    /**
+     * Get current state of HTTP connection pool: number of leased, available and pending connections.
+     * If number of pending connections is constantly above zero consider increasing pool size.
+     *
+     * @return total pool statistics
+     * @since 1.8
+     */
+    public PoolStats getConnectionPoolStats() {
+        getHttpClient();
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Get client-side rate limiter
+     *
+     * @return rate limiter or null if requests aren't limited
+     * @since 1.8
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Set client-side rate limiter which is applied to all requests made by client
+     *
+     * @param rateLimiter rate limiter, null disables limiting
+     * @since 1.8
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Get policy which decides whether failed requests are retried
+     *
+     * @return retry policy or null if requests aren't retried
+     * @since 1.8
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Set policy which decides whether failed requests are retried. Policy applies to blocking requests only,
+     * requests made by {@link AsyncRestApiClient} async methods aren't retried
+     *
+     * @param retryPolicy retry policy, null disables retries
+     * @since 1.8
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Get cache of GET responses
+     *
+     * @return response cache or null if responses aren't cached
+     * @since 1.8
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Set cache of GET responses. Cached responses are returned to blocking requests only, PUT, POST and
+     * DELETE requests invalidate cached responses of their path whether they are blocking or async
+     *
+     * @param responseCache response cache, null disables caching
+     * @since 1.8
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Get min size of request body which is sent gzip-compressed
+     *
+     * @return threshold in bytes, negative value means request bodies aren't compressed
+     * @since 1.8
+     */
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Set min size of POST and PUT json body which is sent gzip-compressed with Content-Encoding header,
+     * enable it only if server accepts compressed requests. Responses are always requested with
+     * Accept-Encoding: gzip,deflate and decoded transparently.
+     *
+     * @param requestCompressionThreshold threshold in bytes, negative value disables compression
+     * @since 1.8
+     */
+    public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    /**
+     * Adds listener which receives measurements of each request made by client
+     *
+     * @param listener metrics listener, e.g. {@link MetricsRegistry}
+     * @since 1.8
+     */
+    public void addMetricsListener(MetricsListener listener) {
+        metricsListeners.add(listener);
+    }
+
+    /**
+     * Removes metrics listener
+     *
+     * @param listener metrics listener
+     * @since 1.8
+     */
+    public void removeMetricsListener(MetricsListener listener) {
+        metricsListeners.remove(listener);
+    }
+
     /**
      * Get Jackson's json converter
      *
@@ -147,17 +366,89 @@ public class RestApiClient {
      */
     public <T> T get(String path, TypeReference<T> type, List<NameValuePair> queryParams) {
         try {
-            String uri = getApiBasePath() + path;
-            LOGGER.debug("GET request to {} with params: {}", uri, queryParams);
-            RequestBuilder requestBuilder = RequestBuilder.get(uri)
-                .addParameters(queryParams.toArray(new NameValuePair[queryParams.size()]));
+            return doRequest(prepareGet(path, queryParams), type);
+        } catch (IOException e) {
+            throw new CallfireClientException(e);
+        }
+    }
 
-            return doRequest(requestBuilder, type);
+    /**
+     * Performs GET request with Range header to specified path, used to download part of binary resource
+     * or to resume interrupted download. Response body isn't read, caller must close returned stream.
+     *
+     * @param path        request path
+     * @param queryParams query parameters
+     * @param first       offset of first requested byte
+     * @param last        offset of last requested byte inclusive, null to request rest of resource
+     * @return range response with open body stream
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client.
+     * @since 1.8
+     */
+    public RangeResponse getRange(String path, List<NameValuePair> queryParams, long first, Long last) {
+        return getRange(path, queryParams, first, last, null);
+    }
+
+    /**
+     * Performs GET request with Range and If-Range headers to specified path, server returns requested range
+     * only if resource still matches validator, otherwise whole resource is returned.
+     * Response body isn't read, caller must close returned stream.
+     *
+     * @param path        request path
+     * @param queryParams query parameters
+     * @param first       offset of first requested byte
+     * @param last        offset of last requested byte inclusive, null to request rest of resource
+     * @param ifRange     ETag or Last-Modified date returned with previous range, null to skip If-Range header
+     * @return range response with open body stream
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client.
+     * @since 1.8
+     */
+    public RangeResponse getRange(String path, List<NameValuePair> queryParams, long first, Long last,
+        String ifRange) {
+        Validate.isTrue(first >= 0, "first cannot be negative");
+        Validate.isTrue(last == null || last >= first, "last cannot be less than first");
+        // offsets must refer to bytes of resource, not of compressed body
+        RequestBuilder requestBuilder = prepareGet(path, queryParams)
+            .addHeader(RANGE, "bytes=" + first + "-" + (last == null ? "" : last))
+            .addHeader(ACCEPT_ENCODING, "identity");
+        if (ifRange != null) {
+            requestBuilder.addHeader(IF_RANGE, ifRange);
+        }
+        try {
+            return doRequest(requestBuilder, of(RangeResponse.class));
         } catch (IOException e) {
             throw new CallfireClientException(e);
         }
     }
 
+    /**
+     * Returns lazy view over all items of paged GET endpoint, pages are requested while items are consumed.
+     * Iteration starts from request's offset, request's limit is used as page size.
+     *
+     * @param path    request path
+     * @param type    page type
+     * @param request finder request with query parameters
+     * @param <T>     type of page items
+     * @return lazy iterable over all items
+     * @since 1.8
+     */
+    public <T> PagedIterable<T> getAll(String path, TypeReference<Page<T>> type, FindRequest request) {
+        long offset = request.getOffset() != null ? request.getOffset() : 0;
+        long limit = request.getLimit() != null ? request.getLimit() : DEFAULT_PAGE_SIZE;
+        return new PagedIterable<>(new RequestPageFetcher<>(this, path, type, request), offset, limit);
+    }
+
     /**
      * Performs POST request to specified path with empty body
      *
@@ -198,7 +489,9 @@ public class RestApiClient {
     }
 
     /**
-     * Performs POST request with binary body to specified path
+     * Performs POST request with binary body to specified path. Value of "file" parameter can be
+     * {@link File}, {@link InputStream}, {@link ReadableByteChannel} or multipart {@link ContentBody},
+     * streams are sent chunked and closed once they are written.
      *
      * @param path   request path
      * @param type   response entity type
@@ -219,9 +512,7 @@ public class RestApiClient {
             String uri = getApiBasePath() + path;
             MultipartEntityBuilder entityBuilder = MultipartEntityBuilder.create();
             entityBuilder.setMode(HttpMultipartMode.BROWSER_COMPATIBLE);
-            File file = (File) fileDataParams.get("file");
-            String mimeType = MimetypesFileTypeMap.getDefaultFileTypeMap().getContentType(file.getName());
-            entityBuilder.addBinaryBody("file", file, ContentType.create(mimeType), file.getName());
+            entityBuilder.addPart("file", toContentBody(fileDataParams.get("file")));
             fileDataParams.remove("file");
 
             for (Map.Entry<String, ?> entry : fileDataParams.entrySet()) {
@@ -241,6 +532,25 @@ public class RestApiClient {
         }
     }
 
+    // streams and channels are sent chunked without buffering, caller's ContentBody is used as is
+    private ContentBody toContentBody(Object file) {
+        if (file instanceof ContentBody) {
+            return (ContentBody) file;
+        }
+        if (file instanceof File) {
+            File f = (File) file;
+            String mimeType = MimetypesFileTypeMap.getDefaultFileTypeMap().getContentType(f.getName());
+            return new FileBody(f, ContentType.create(mimeType), f.getName());
+        }
+        if (file instanceof ReadableByteChannel) {
+            file = Channels.newInputStream((ReadableByteChannel) file);
+        }
+        if (file instanceof InputStream) {
+            return new InputStreamBody((InputStream) file, ContentType.APPLICATION_OCTET_STREAM, "file");
+        }
+        throw new CallfireClientException("Unsupported file content: " + (file == null ? null : file.getClass()));
+    }
+
     /**
      * Performs POST request with body to specified path
      *
@@ -302,19 +612,7 @@ public class RestApiClient {
      */
     public <T> T post(String path, TypeReference<T> type, Object payload, List<NameValuePair> queryParams) {
         try {
-            String uri = getApiBasePath() + path;
-            RequestBuilder requestBuilder = RequestBuilder.post(uri)
-                .setHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType())
-                .addParameters(queryParams.toArray(new NameValuePair[queryParams.size()]));
-            if (payload != null) {
-                validatePayload(payload);
-                requestBuilder.setEntity(new StringEntity(jsonConverter.serialize(payload), Consts.UTF_8));
-                logDebugPrettyJson("POST request to {} entity \n{}", uri, payload);
-            } else {
-                LOGGER.debug("POST request to {}", uri);
-            }
-
-            return doRequest(requestBuilder, type);
+            return doRequest(preparePost(path, payload, queryParams), type);
         } catch (IOException e) {
             throw new CallfireClientException(e);
         }
@@ -359,15 +657,7 @@ public class RestApiClient {
      */
     public <T> T put(String path, TypeReference<T> type, Object payload, List<NameValuePair> queryParams) {
         try {
-            String uri = getApiBasePath() + path;
-            validatePayload(payload);
-            RequestBuilder requestBuilder = RequestBuilder.put(uri)
-                .setHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType())
-                .addParameters(queryParams.toArray(new NameValuePair[queryParams.size()]))
-                .setEntity(new StringEntity(jsonConverter.serialize(payload), Consts.UTF_8));
-            logDebugPrettyJson("PUT request to {} entity \n{}", uri, payload);
-
-            return doRequest(requestBuilder, type);
+            return doRequest(preparePut(path, payload, queryParams), type);
         } catch (IOException e) {
             throw new CallfireClientException(e);
         }
@@ -404,11 +694,7 @@ public class RestApiClient {
      */
     public void delete(String path, List<NameValuePair> queryParams) {
         try {
-            String uri = getApiBasePath() + path;
-            LOGGER.debug("DELETE request to {} with params {}", uri, queryParams);
-            RequestBuilder requestBuilder = RequestBuilder.delete(uri);
-            requestBuilder.addParameters(queryParams.toArray(new NameValuePair[queryParams.size()]));
-            doRequest(requestBuilder, null);
+            doRequest(prepareDelete(path, queryParams), null);
             LOGGER.debug("delete executed");
         } catch (IOException e) {
             throw new CallfireClientException(e);
@@ -433,21 +719,465 @@ public class RestApiClient {
         return filters;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T doRequest(RequestBuilder requestBuilder, TypeReference<T> type) throws IOException {
+    /**
+     * Closes underlying HTTP client, shuts down connection pool and idle connections evictor. Client which
+     * shares HTTP client with other clients, see {@link CallfireClientFactory}, leaves it open.
+     *
+     * @throws CallfireClientException in case error has occurred while closing client
+     * @since 1.8
+     */
+    @Override
+    public synchronized void close() {
+        if (sharedHttpClient) {
+            LOGGER.debug("HTTP client is shared with other clients, leaving it open");
+            return;
+        }
+        try {
+            if (httpClient instanceof Closeable) {
+                ((Closeable) httpClient).close();
+            }
+            if (connectionManager != null) {
+                connectionManager.shutdown();
+            }
+        } catch (IOException e) {
+            throw new CallfireClientException(e);
+        }
+    }
+
+    /**
+     * Creates GET request builder for specified path
+     *
+     * @param path        request path
+     * @param queryParams query parameters
+     * @return request builder
+     * @since 1.8
+     */
+    protected RequestBuilder prepareGet(String path, List<NameValuePair> queryParams) {
+        String uri = getApiBasePath() + path;
+        LOGGER.debug("GET request to {} with params: {}", uri, queryParams);
+        return RequestBuilder.get(uri)
+            .addParameters(queryParams.toArray(new NameValuePair[queryParams.size()]));
+    }
+
+    /**
+     * Creates POST request builder for specified path, payload is serialized to json
+     *
+     * @param path        request path
+     * @param payload     request payload, can be null
+     * @param queryParams query parameters
+     * @return request builder
+     * @throws IOException in case payload cannot be logged
+     * @since 1.8
+     */
+    protected RequestBuilder preparePost(String path, Object payload, List<NameValuePair> queryParams)
+        throws IOException {
+        String uri = getApiBasePath() + path;
+        RequestBuilder requestBuilder = RequestBuilder.post(uri)
+            .setHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType())
+            .addParameters(queryParams.toArray(new NameValuePair[queryParams.size()]));
+        if (payload != null) {
+            validatePayload(payload);
+            requestBuilder.setEntity(createJsonEntity(payload));
+            logDebugPrettyJson("POST request to {} entity \n{}", uri, payload);
+        } else {
+            LOGGER.debug("POST request to {}", uri);
+        }
+        return requestBuilder;
+    }
+
+    /**
+     * Creates PUT request builder for specified path, payload is serialized to json
+     *
+     * @param path        request path
+     * @param payload     request payload
+     * @param queryParams query parameters
+     * @return request builder
+     * @throws IOException in case payload cannot be logged
+     * @since 1.8
+     */
+    protected RequestBuilder preparePut(String path, Object payload, List<NameValuePair> queryParams)
+        throws IOException {
+        String uri = getApiBasePath() + path;
+        validatePayload(payload);
+        RequestBuilder requestBuilder = RequestBuilder.put(uri)
+            .setHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType())
+            .addParameters(queryParams.toArray(new NameValuePair[queryParams.size()]))
+            .setEntity(createJsonEntity(payload));
+        logDebugPrettyJson("PUT request to {} entity \n{}", uri, payload);
+        return requestBuilder;
+    }
+
+    /**
+     * Creates json request entity. By default payload is serialized straight to connection stream, entity is
+     * repeatable so request can be retried. If compression is enabled payload is serialized into memory
+     * and gzip-compressed when it exceeds compression threshold.
+     *
+     * @param payload request payload
+     * @return request entity
+     * @since 1.8
+     */
+    protected HttpEntity createJsonEntity(Object payload) {
+        if (requestCompressionThreshold < 0) {
+            return new JsonEntity(payload, jsonConverter);
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            jsonConverter.serialize(payload, body);
+        } catch (IOException e) {
+            // doesn't happen with in-memory stream
+            throw new CallfireClientException(e);
+        }
+        if (body.size() >= requestCompressionThreshold) {
+            return GzipJsonEntity.compress(body);
+        }
+        return new ByteArrayEntity(body.toByteArray(), ContentType.create(APPLICATION_JSON.getMimeType(), Consts.UTF_8));
+    }
+
+    /**
+     * Creates DELETE request builder for specified path
+     *
+     * @param path        request path
+     * @param queryParams query parameters
+     * @return request builder
+     * @since 1.8
+     */
+    protected RequestBuilder prepareDelete(String path, List<NameValuePair> queryParams) {
+        String uri = getApiBasePath() + path;
+        LOGGER.debug("DELETE request to {} with params {}", uri, queryParams);
+        return RequestBuilder.delete(uri)
+            .addParameters(queryParams.toArray(new NameValuePair[queryParams.size()]));
+    }
+
+    /**
+     * Applies request filters and authentication to request
+     *
+     * @param requestBuilder request builder
+     * @return HTTP request ready to be sent
+     * @since 1.8
+     */
+    protected HttpUriRequest buildRequest(RequestBuilder requestBuilder) {
         for (RequestFilter filter : filters) {
             filter.filter(requestBuilder);
         }
-        HttpUriRequest httpRequest = authentication.apply(requestBuilder.build());
-        HttpResponse response = httpClient.execute(httpRequest);
+        return authentication.apply(requestBuilder.build());
+    }
+
+    /**
+     * Returns endpoint path template of request, path is relative to API base path and numeric ids
+     * are replaced with {}
+     *
+     * @param request HTTP request
+     * @return path template, e.g. /calls/broadcasts/{}/recipients
+     * @since 1.8
+     */
+    protected String getPathTemplate(HttpUriRequest request) {
+        String path = request.getURI().getPath();
+        String basePath = URI.create(getApiBasePath()).getPath();
+        if (basePath != null && path.startsWith(basePath)) {
+            path = path.substring(basePath.length());
+        }
+        return toPathTemplate(path);
+    }
+
+    /**
+     * Waits for rate limiter permit if limiter is set
+     *
+     * @param pathTemplate endpoint path template
+     * @throws RateLimitExceededException in case permit isn't available within max wait time
+     * @since 1.8
+     */
+    protected void acquireRateLimit(String pathTemplate) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire(pathTemplate);
+        }
+    }
+
+    /**
+     * Passes response outcome to rate limiter if limiter is set
+     *
+     * @param pathTemplate endpoint path template
+     * @param error        exception thrown while reading response or null if request succeeded
+     * @since 1.8
+     */
+    protected void updateRateLimit(String pathTemplate, Throwable error) {
+        if (rateLimiter == null) {
+            return;
+        }
+        if (error instanceof TooManyRequestsException) {
+            rateLimiter.onRateLimited(pathTemplate, ((TooManyRequestsException) error).getRetryAfter());
+        } else if (error == null) {
+            rateLimiter.onSuccess(pathTemplate);
+        }
+    }
+
+    private <T> T doRequest(RequestBuilder requestBuilder, TypeReference<T> type) throws IOException {
+        HttpUriRequest httpRequest = buildRequest(requestBuilder);
+        String pathTemplate = needsPathTemplate() ? getPathTemplate(httpRequest) : null;
+        ResponseCache cache = responseCache;
+        long cacheTtl = 0;
+        if (cache != null && isCacheable(httpRequest, type)) {
+            cacheTtl = cache.getTtl(pathTemplate);
+            if (cacheTtl > 0) {
+                byte[] cached = cache.get(httpRequest.getURI().toString());
+                if (cached != null) {
+                    LOGGER.debug("returning cached response of {}", httpRequest.getURI());
+                    return jsonConverter.deserialize(cached, type);
+                }
+            }
+        }
+        try {
+            return executeWithRetries(httpRequest, pathTemplate, type, cacheTtl);
+        } finally {
+            invalidateCachedResponses(httpRequest);
+        }
+    }
+
+    /**
+     * Invalidates cached responses of request's path if cache is set and request isn't GET
+     *
+     * @param httpRequest executed request
+     * @since 1.8
+     */
+    protected void invalidateCachedResponses(HttpUriRequest httpRequest) {
+        ResponseCache cache = responseCache;
+        if (cache != null && !HttpGet.METHOD_NAME.equals(httpRequest.getMethod())) {
+            cache.invalidate(httpRequest.getURI().getPath());
+        }
+    }
+
+    private <T> T executeWithRetries(HttpUriRequest httpRequest, String pathTemplate, TypeReference<T> type,
+        long cacheTtl) throws IOException {
+        if (retryPolicy != null) {
+            retryPolicy.onRequest();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeRequest(httpRequest, pathTemplate, type, cacheTtl);
+            } catch (IOException | CallfireApiException e) {
+                long delay = retryPolicy == null ? -1
+                    : retryPolicy.nextDelay(httpRequest.getMethod(), pathTemplate, attempt, e);
+                if (delay < 0) {
+                    throw e;
+                }
+                if (!isRepeatable(httpRequest)) {
+                    LOGGER.debug("{} {} failed with {}, body cannot be sent again so it isn't retried",
+                        httpRequest.getMethod(), pathTemplate, e);
+                    throw e;
+                }
+                LOGGER.debug("attempt {} of {} {} failed with {}, retrying in {} ms", attempt,
+                    httpRequest.getMethod(), pathTemplate, e, delay);
+                sleepBeforeRetry(delay, e);
+            }
+        }
+    }
+
+    // streamed bodies are consumed by the first attempt
+    private static boolean isRepeatable(HttpUriRequest httpRequest) {
+        if (!(httpRequest instanceof HttpEntityEnclosingRequest)) {
+            return true;
+        }
+        HttpEntity entity = ((HttpEntityEnclosingRequest) httpRequest).getEntity();
+        return entity == null || entity.isRepeatable();
+    }
+
+    private <T> T executeRequest(HttpUriRequest httpRequest, String pathTemplate, TypeReference<T> type,
+        long cacheTtl) throws IOException {
+        acquireRateLimit(pathTemplate);
+        RequestTimings timings = metricsListeners.isEmpty() ? null : RequestTimings.start();
+        long start = System.nanoTime();
+        HttpResponse response = null;
+        Throwable error = null;
+        try {
+            if (timings != null) {
+                recordRequestBody(httpRequest, timings);
+            }
+            ResponseCache cache = cacheTtl > 0 ? responseCache : null;
+            // taken before request is sent, so response which races with invalidation isn't cached
+            long cacheGeneration = cache != null ? cache.getGeneration() : 0;
+            response = getHttpClient().execute(httpRequest);
+            decodeResponse(response);
+            byte[] body = cache != null ? bufferEntity(response) : null;
+            T result = readResponse(response, type);
+            updateRateLimit(pathTemplate, null);
+            if (body != null) {
+                cache.put(httpRequest.getURI().toString(), httpRequest.getURI().getPath(), body, cacheTtl,
+                    cacheGeneration);
+            }
+            return result;
+        } catch (TooManyRequestsException e) {
+            error = e;
+            updateRateLimit(pathTemplate, e);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            if (timings != null) {
+                RequestTimings.stop();
+                int statusCode = response != null ? response.getStatusLine().getStatusCode() : 0;
+                fireMetrics(new RequestMetrics(httpRequest.getMethod(), pathTemplate, statusCode, error,
+                    System.nanoTime() - start, timings));
+            }
+        }
+    }
+
+    /**
+     * Passes request measurements to metrics listeners
+     *
+     * @param metrics request measurements
+     * @since 1.8
+     */
+    protected void fireMetrics(RequestMetrics metrics) {
+        for (MetricsListener listener : metricsListeners) {
+            try {
+                listener.onRequest(metrics);
+            } catch (RuntimeException e) {
+                LOGGER.warn("metrics listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Checks whether metrics listeners are registered
+     *
+     * @return true if request metrics should be collected
+     * @since 1.8
+     */
+    protected boolean hasMetricsListeners() {
+        return !metricsListeners.isEmpty();
+    }
+
+    /**
+     * Checks whether path template of request is used by any of client components
+     *
+     * @return true if path template should be calculated
+     * @since 1.8
+     */
+    protected boolean needsPathTemplate() {
+        return rateLimiter != null || retryPolicy != null || responseCache != null || !metricsListeners.isEmpty();
+    }
+
+    /**
+     * Decodes gzip or deflate response entity and wraps it to count body size if metrics are collected
+     *
+     * @param response HTTP response
+     * @since 1.8
+     */
+    protected void decodeResponse(HttpResponse response) {
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return;
+        }
+        RequestTimings timings = RequestTimings.current();
+        Header encoding = response.getFirstHeader(CONTENT_ENCODING);
+        if (timings != null) {
+            entity = CountingEntity.encoded(entity, timings);
+        }
+        if (encoding != null) {
+            String codec = encoding.getValue().trim().toLowerCase(Locale.ROOT);
+            if ("gzip".equals(codec) || "x-gzip".equals(codec)) {
+                entity = new GzipDecompressingEntity(entity);
+            } else if ("deflate".equals(codec)) {
+                entity = new DeflateDecompressingEntity(entity);
+            } else if (!"identity".equals(codec)) {
+                EntityUtils.consumeQuietly(entity);
+                throw new CallfireClientException("Unsupported Content-Encoding: " + codec);
+            }
+            response.removeHeaders(CONTENT_ENCODING);
+            response.removeHeaders(CONTENT_LENGTH);
+        }
+        if (timings != null) {
+            entity = CountingEntity.decoded(entity, timings);
+        }
+        if (timings != null || encoding != null) {
+            response.setEntity(entity);
+        }
+    }
 
+    static void recordRequestBody(HttpUriRequest httpRequest, RequestTimings timings) {
+        if (!(httpRequest instanceof HttpEntityEnclosingRequest)) {
+            return;
+        }
+        HttpEntity entity = ((HttpEntityEnclosingRequest) httpRequest).getEntity();
+        if (entity instanceof GzipJsonEntity) {
+            timings.addRequestBody(((GzipJsonEntity) entity).getUncompressedLength(), entity.getContentLength());
+        } else if (entity != null && entity.getContentLength() > 0) {
+            timings.addRequestBody(entity.getContentLength(), entity.getContentLength());
+        }
+    }
+
+    private boolean isCacheable(HttpUriRequest httpRequest, TypeReference<?> type) {
+        return HttpGet.METHOD_NAME.equals(httpRequest.getMethod()) && type != null
+            && type.getType() != InputStream.class && type.getType() != RangeResponse.class;
+    }
+
+    // parses Content-Range: bytes first-last/total, total can be *
+    private static RangeResponse toRangeResponse(HttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        Header contentRange = response.getFirstHeader(CONTENT_RANGE);
+        Header etag = response.getFirstHeader(ETAG);
+        Header lastModified = response.getFirstHeader(LAST_MODIFIED);
+        String etagValue = etag == null ? null : etag.getValue();
+        String lastModifiedValue = lastModified == null ? null : lastModified.getValue();
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_PARTIAL_CONTENT || contentRange == null) {
+            return new RangeResponse(false, 0, entity.getContentLength(), entity.getContent(), etagValue,
+                lastModifiedValue);
+        }
+        String value = contentRange.getValue().trim();
+        int dash = value.indexOf('-');
+        int slash = value.indexOf('/');
+        if (value.startsWith("bytes ") && dash > 0 && slash > dash) {
+            String first = value.substring("bytes ".length(), dash).trim();
+            String total = value.substring(slash + 1).trim();
+            if (StringUtils.isNumeric(first) && ("*".equals(total) || StringUtils.isNumeric(total))) {
+                return new RangeResponse(true, Long.parseLong(first), "*".equals(total) ? -1 : Long.parseLong(total),
+                    entity.getContent(), etagValue, lastModifiedValue);
+            }
+        }
+        EntityUtils.consumeQuietly(entity);
+        throw new CallfireClientException("Invalid Content-Range: " + value);
+    }
+
+    // reads successful response entity into memory so it can be both deserialized and cached
+    private byte[] bufferEntity(HttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null || response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+            return null;
+        }
+        byte[] body = EntityUtils.toByteArray(entity);
+        response.setEntity(new ByteArrayEntity(body, ContentType.get(entity)));
+        return body;
+    }
+
+    private void sleepBeforeRetry(long delay, Exception cause) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CallfireClientException("Interrupted while waiting to retry request", cause);
+        }
+    }
+
+    /**
+     * Verifies HTTP response code and maps response entity to model object
+     *
+     * @param response HTTP response
+     * @param type     return entity type, null if response entity should be ignored
+     * @param <T>      return entity type
+     * @return pojo mapped from json
+     * @throws IOException          in case response entity cannot be read
+     * @throws CallfireApiException in case HTTP response code is 4xx or 5xx
+     * @since 1.8
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> T readResponse(HttpResponse response, TypeReference<T> type) throws IOException {
         int statusCode = response.getStatusLine().getStatusCode();
         HttpEntity httpEntity = response.getEntity();
+        verifyResponse(response);
         if (httpEntity == null) {
             LOGGER.debug("received http code: {} with null entity, returning null", statusCode);
             return null;
         }
-        verifyResponse(statusCode, httpEntity);
 
         if (type == null) {
             LOGGER.debug("received response with code: {} and payload: {}, but expected type is null, returning null",
@@ -457,18 +1187,38 @@ public class RestApiClient {
         if (type.getType() == InputStream.class) {
             return (T) httpEntity.getContent();
         }
+        if (type.getType() == RangeResponse.class) {
+            return (T) toRangeResponse(response);
+        }
 
-        T model = jsonConverter.deserialize(EntityUtils.toString(httpEntity, "UTF-8"), type);
+        // parse entity straight from connection stream, closing stream releases connection back to pool
+        T model;
+        long start = System.nanoTime();
+        InputStream content = httpEntity.getContent();
+        try {
+            model = jsonConverter.deserialize(content, type);
+        } finally {
+            content.close();
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.addDeserializationNanos(System.nanoTime() - start);
+            }
+        }
         logDebugPrettyJson("received response with code: {} and entity \n{}", statusCode, model);
         return model;
     }
 
-    private void verifyResponse(int statusCode, HttpEntity httpEntity) throws IOException {
+    private void verifyResponse(HttpResponse response) throws IOException {
+        int statusCode = response.getStatusLine().getStatusCode();
         if (statusCode >= 400) {
             ErrorMessage message;
-            String stringResponse = EntityUtils.toString(httpEntity, Consts.UTF_8);
+            HttpEntity httpEntity = response.getEntity();
+            String stringResponse = httpEntity != null ? EntityUtils.toString(httpEntity, Consts.UTF_8) : "";
             try {
                 message = jsonConverter.deserialize(stringResponse, of(ErrorMessage.class));
+                if (message != null && message.getHttpStatusCode() == null) {
+                    message.setHttpStatusCode(statusCode);
+                }
             } catch (CallfireClientException e) {
                 LOGGER.warn("cannot deserialize response entity.", e);
                 message = new ErrorMessage(statusCode, stringResponse, GENERIC_HELP_LINK);
@@ -482,6 +1232,8 @@ public class RestApiClient {
                     throw new AccessForbiddenException(message);
                 case 404:
                     throw new ResourceNotFoundException(message);
+                case 429:
+                    throw new TooManyRequestsException(message, parseRetryAfter(response));
                 case 500:
                     throw new InternalServerErrorException(message);
                 default:
@@ -490,6 +1242,19 @@ public class RestApiClient {
         }
     }
 
+    private Long parseRetryAfter(HttpResponse response) {
+        Header header = response.getFirstHeader(RETRY_AFTER);
+        if (header == null || StringUtils.isBlank(header.getValue())) {
+            return null;
+        }
+        String value = header.getValue().trim();
+        if (StringUtils.isNumeric(value)) {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        }
+        Date date = DateUtils.parseDate(value);
+        return date != null ? Math.max(date.getTime() - System.currentTimeMillis(), 0) : null;
+    }
+
     private void validatePayload(Object payload) {
         if (payload != null && payload instanceof CallfireModel) {
             ((CallfireModel) payload).validate();
@@ -511,33 +1276,76 @@ public class RestApiClient {
     }
 
     private HttpClient buildHttpClient() {
+        LOGGER.debug("Configuring connection pool: {}", connectionPoolConfig);
+        connectionManager = new PoolingHttpClientConnectionManager(connectionPoolConfig.getTimeToLive(),
+            TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(connectionPoolConfig.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(connectionPoolConfig.getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity(connectionPoolConfig.getValidateAfterInactivity());
+
         HttpClientBuilder builder = HttpClientBuilder.create();
+        // responses are decoded in decodeResponse() so compressed body size can be measured
+        builder.disableContentCompression();
+        builder.addInterceptorLast(new RequestAcceptEncoding());
+        builder.setConnectionManager(new InstrumentedConnectionManager(connectionManager));
+        builder.setRequestExecutor(new InstrumentedRequestExecutor());
+        if (connectionPoolConfig.getIdleTimeout() > 0) {
+            builder.evictExpiredConnections();
+            builder.evictIdleConnections(connectionPoolConfig.getIdleTimeout(), TimeUnit.MILLISECONDS);
+        }
         builder.setUserAgent(CallfireClient.getClientConfig().getProperty(USER_AGENT_PROPERTY));
-        String proxyAddress = CallfireClient.getClientConfig().getProperty(PROXY_ADDRESS_PROPERTY);
-        String proxyCredentials = CallfireClient.getClientConfig().getProperty(PROXY_CREDENTIALS_PROPERTY);
+        HttpHost proxy = getProxy();
+        if (proxy != null) {
+            CredentialsProvider provider = getProxyCredentialsProvider(proxy);
+            if (provider != null) {
+                builder.setDefaultCredentialsProvider(provider);
+            }
+            builder.setRoutePlanner(new DefaultProxyRoutePlanner(proxy));
+        }
+
+        return builder.build();
+    }
 
+    /**
+     * Returns proxy host configured in client properties
+     *
+     * @return proxy host or null if proxy isn't set
+     * @since 1.8
+     */
+    protected HttpHost getProxy() {
+        String proxyAddress = CallfireClient.getClientConfig().getProperty(PROXY_ADDRESS_PROPERTY);
         if (isNotBlank(proxyAddress)) {
-            LOGGER.debug("Configuring proxy host for client: {} auth: {}", proxyAddress, proxyCredentials);
+            LOGGER.debug("Configuring proxy host for client: {}", proxyAddress);
             String[] parsedAddress = proxyAddress.split(":");
-            String[] parsedCredentials = StringUtils.split(defaultString(proxyCredentials), ":");
-            HttpHost proxy = new HttpHost(parsedAddress[0],
+            return new HttpHost(parsedAddress[0],
                 parsedAddress.length > 1 ? toInt(parsedAddress[1], DEFAULT_PROXY_PORT) : DEFAULT_PROXY_PORT);
-            if (isNotBlank(proxyCredentials)) {
-                if (parsedCredentials.length > 1) {
-                    CredentialsProvider provider = new BasicCredentialsProvider();
-                    provider.setCredentials(
-                        new AuthScope(proxy),
-                        new UsernamePasswordCredentials(parsedCredentials[0], parsedCredentials[1])
-                    );
-                    builder.setDefaultCredentialsProvider(provider);
-                } else {
-                    LOGGER.warn("Proxy credentials have wrong format, must be username:password");
-                }
-            }
-
-            builder.setRoutePlanner(new DefaultProxyRoutePlanner(proxy));
         }
+        return null;
+    }
 
-        return builder.build();
+    /**
+     * Returns credentials provider for proxy configured in client properties
+     *
+     * @param proxy proxy host
+     * @return credentials provider or null if proxy credentials aren't set
+     * @since 1.8
+     */
+    protected CredentialsProvider getProxyCredentialsProvider(HttpHost proxy) {
+        String proxyCredentials = CallfireClient.getClientConfig().getProperty(PROXY_CREDENTIALS_PROPERTY);
+        if (isNotBlank(proxyCredentials)) {
+            LOGGER.debug("Configuring proxy auth for client: {}", proxyCredentials);
+            String[] parsedCredentials = StringUtils.split(defaultString(proxyCredentials), ":");
+            if (parsedCredentials.length > 1) {
+                CredentialsProvider provider = new BasicCredentialsProvider();
+                provider.setCredentials(
+                    new AuthScope(proxy),
+                    new UsernamePasswordCredentials(parsedCredentials[0], parsedCredentials[1])
+                );
+                return provider;
+            } else {
+                LOGGER.warn("Proxy credentials have wrong format, must be username:password");
+            }
+        }
+        return null;
     }
 }
@@ -0,0 +1,39 @@
+package com.callfire.api.client;
+
+import com.callfire.api.client.api.common.model.ErrorMessage;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Exception thrown in case if platform returns HTTP code 429 - Too Many Requests, request rate limit is exceeded
+ *
+ * @since 1.8
+ */
+public class TooManyRequestsException extends CallfireApiException {
+    private Long retryAfter;
+
+    public TooManyRequestsException(ErrorMessage errorMessage) {
+        super(errorMessage);
+    }
+
+    public TooManyRequestsException(ErrorMessage errorMessage, Long retryAfter) {
+        super(errorMessage);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Get delay in milliseconds which server asked to wait before next request
+     *
+     * @return delay from Retry-After header or null if header isn't present
+     */
+    public Long getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .appendSuper(super.toString())
+            .append("retryAfter", retryAfter)
+            .toString();
+    }
+}
@@ -0,0 +1,389 @@
+package com.callfire.api.client.api.callstexts;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.DaemonThreadFactory;
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.api.callstexts.model.Action;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.CallRecipient;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.campaigns.model.Recipient;
+import com.callfire.api.client.api.campaigns.model.TextRecipient;
+import com.callfire.api.client.api.common.model.PhoneNumber;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Accumulates single recipients into batches and sends them with one request to /texts or /calls endpoint.
+ * Recipients are grouped by campaign id and fields filter, batch is sent once it reaches max size or
+ * once linger time passed since first recipient was added to it.
+ * <pre>
+ * BatchSender&lt;TextRecipient, Text&gt; sender = BatchSender.forTexts(client.textsApi())
+ *     .maxBatchSize(100)
+ *     .linger(50, TimeUnit.MILLISECONDS)
+ *     .build();
+ * sender.send(recipient).thenAccept(...);
+ * </pre>
+ * Each returned future is completed with {@link Text} or {@link Call} created for that recipient,
+ * or exceptionally with the same exception which is thrown by {@link TextsApi#send(List, Long, String)}
+ * in case whole batch failed. Sender is thread-safe.
+ *
+ * @param <R> type of recipient
+ * @param <T> type of created action
+ * @since 1.8
+ */
+public class BatchSender<R extends Recipient, T extends Action<?>> implements Closeable {
+    private static final Logger LOGGER = new Logger(BatchSender.class);
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final long DEFAULT_LINGER_MILLIS = 50;
+    private static final int DEFAULT_SEND_THREADS = 4;
+    private static final Pattern TO_NUMBER_FIELD = Pattern.compile("\\btoNumber\\b");
+
+    private final SendFunction<R, T> sendFunction;
+    private final int maxBatchSize;
+    private final long lingerMillis;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final Executor executor;
+    private final ExecutorService ownExecutor;
+    private final Map<BatchKey, Batch<R, T>> batches = new HashMap<>();
+    private boolean closed;
+
+    private BatchSender(Builder<R, T> builder) {
+        this.sendFunction = builder.sendFunction;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.lingerMillis = builder.lingerMillis;
+        this.ownScheduler = builder.scheduler == null;
+        this.scheduler = ownScheduler ? Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("callfire-batch-sender-linger")) : builder.scheduler;
+        // requests block, so they must not run on scheduler thread and delay lingering batches
+        this.ownExecutor = builder.executor == null ? Executors.newFixedThreadPool(DEFAULT_SEND_THREADS,
+            new DaemonThreadFactory("callfire-batch-sender")) : null;
+        this.executor = builder.executor == null ? ownExecutor : builder.executor;
+    }
+
+    /**
+     * Create builder of sender which sends texts through /texts endpoint
+     *
+     * @param api texts api
+     * @return sender builder
+     */
+    public static Builder<TextRecipient, Text> forTexts(final TextsApi api) {
+        Validate.notNull(api, "api cannot be null");
+        return new Builder<>(new SendFunction<TextRecipient, Text>() {
+            @Override
+            public List<Text> send(List<TextRecipient> recipients, Long campaignId, String fields) {
+                return api.send(recipients, campaignId, fields);
+            }
+        });
+    }
+
+    /**
+     * Create builder of sender which makes calls through /calls endpoint
+     *
+     * @param api calls api
+     * @return sender builder
+     */
+    public static Builder<CallRecipient, Call> forCalls(final CallsApi api) {
+        Validate.notNull(api, "api cannot be null");
+        return new Builder<>(new SendFunction<CallRecipient, Call>() {
+            @Override
+            public List<Call> send(List<CallRecipient> recipients, Long campaignId, String fields) {
+                return api.send(recipients, campaignId, fields);
+            }
+        });
+    }
+
+    /**
+     * Add recipient to batch of default campaign
+     *
+     * @param recipient recipient
+     * @return future of action created for recipient
+     */
+    public CompletableFuture<T> send(R recipient) {
+        return send(recipient, null, null);
+    }
+
+    /**
+     * Add recipient to batch of given campaign, if campaign id is null default campaign will be used
+     *
+     * @param recipient  recipient
+     * @param campaignId id of outbound campaign
+     * @param fields     limit fields returned, must include toNumber which is used to match actions to
+     *                   recipients when some of them are rejected. Example items(id,toNumber,fromNumber)
+     * @return future of action created for recipient
+     */
+    public CompletableFuture<T> send(R recipient, Long campaignId, String fields) {
+        Validate.notNull(recipient, "recipient cannot be null");
+        Validate.isTrue(fields == null || TO_NUMBER_FIELD.matcher(fields).find(), "fields must include toNumber");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        final BatchKey key = new BatchKey(campaignId, fields);
+        Batch<R, T> full = null;
+        synchronized (batches) {
+            if (closed) {
+                throw new IllegalStateException("sender is closed");
+            }
+            Batch<R, T> batch = batches.get(key);
+            if (batch == null) {
+                final Batch<R, T> created = new Batch<>();
+                created.lingerTask = scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        flush(key, created);
+                    }
+                }, lingerMillis, TimeUnit.MILLISECONDS);
+                batches.put(key, created);
+                batch = created;
+            }
+            batch.recipients.add(recipient);
+            batch.futures.add(future);
+            if (batch.recipients.size() >= maxBatchSize) {
+                full = batches.remove(key);
+            }
+        }
+        if (full != null) {
+            full.lingerTask.cancel(false);
+            dispatch(key, full);
+        }
+        return future;
+    }
+
+    /**
+     * Sends all accumulated batches without waiting for linger time
+     */
+    public void flush() {
+        Map<BatchKey, Batch<R, T>> pending;
+        synchronized (batches) {
+            pending = new HashMap<>(batches);
+            batches.clear();
+        }
+        for (Map.Entry<BatchKey, Batch<R, T>> entry : pending.entrySet()) {
+            entry.getValue().lingerTask.cancel(false);
+            dispatch(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Sends accumulated batches and stops accepting new recipients. Scheduler and executor are shut down
+     * if they were created by sender, already dispatched batches are still completed.
+     */
+    @Override
+    public void close() {
+        synchronized (batches) {
+            closed = true;
+        }
+        flush();
+        if (ownScheduler) {
+            scheduler.shutdown();
+        }
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    private void flush(BatchKey key, Batch<R, T> batch) {
+        synchronized (batches) {
+            // batch might be already sent because it was full
+            if (batches.get(key) != batch) {
+                return;
+            }
+            batches.remove(key);
+        }
+        dispatch(key, batch);
+    }
+
+    private void dispatch(final BatchKey key, final Batch<R, T> batch) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    sendBatch(key, batch);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("executor rejected batch of {} recipients", batch.recipients.size());
+            CallfireClientException error = new CallfireClientException("Batch wasn't sent, executor rejected it", e);
+            for (CompletableFuture<T> future : batch.futures) {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+
+    private void sendBatch(BatchKey key, Batch<R, T> batch) {
+        LOGGER.debug("sending batch of {} recipients, campaignId: {}", batch.recipients.size(), key.campaignId);
+        List<T> results;
+        try {
+            results = sendFunction.send(batch.recipients, key.campaignId, key.fields);
+        } catch (RuntimeException e) {
+            for (CompletableFuture<T> future : batch.futures) {
+                future.completeExceptionally(e);
+            }
+            return;
+        }
+        results = results == null ? Collections.<T>emptyList() : results;
+        if (results.size() == batch.recipients.size()) {
+            for (int i = 0; i < results.size(); i++) {
+                batch.futures.get(i).complete(results.get(i));
+            }
+            return;
+        }
+        // some recipients were rejected, match rest of them by phone number
+        Map<Object, Deque<T>> byNumber = new HashMap<>();
+        for (T result : results) {
+            Object number = numberKey(result.getToNumber());
+            Deque<T> queue = byNumber.get(number);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                byNumber.put(number, queue);
+            }
+            queue.add(result);
+        }
+        for (int i = 0; i < batch.recipients.size(); i++) {
+            String number = batch.recipients.get(i).getPhoneNumber();
+            Deque<T> queue = byNumber.get(numberKey(number));
+            if (queue != null && !queue.isEmpty()) {
+                batch.futures.get(i).complete(queue.poll());
+            } else {
+                batch.futures.get(i).completeExceptionally(
+                    new CallfireClientException("No action returned for recipient " + number));
+            }
+        }
+    }
+
+    // recipient's number may be formatted differently than number returned by server
+    private static Object numberKey(String number) {
+        long encoded = PhoneNumber.encode(number);
+        return encoded == PhoneNumber.INVALID ? number : (Object) encoded;
+    }
+
+    /**
+     * Builder of {@link BatchSender}
+     *
+     * @param <R> type of recipient
+     * @param <T> type of created action
+     */
+    public static class Builder<R extends Recipient, T extends Action<?>> {
+        private final SendFunction<R, T> sendFunction;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private long lingerMillis = DEFAULT_LINGER_MILLIS;
+        private ScheduledExecutorService scheduler;
+        private Executor executor;
+
+        private Builder(SendFunction<R, T> sendFunction) {
+            this.sendFunction = sendFunction;
+        }
+
+        /**
+         * Set max number of recipients sent in one request, default is 100
+         *
+         * @param maxBatchSize max batch size
+         * @return builder self reference
+         */
+        public Builder<R, T> maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Set max time recipient waits in batch before it is sent, default is 50 milliseconds
+         *
+         * @param linger linger time
+         * @param unit   time unit
+         * @return builder self reference
+         */
+        public Builder<R, T> linger(long linger, TimeUnit unit) {
+            this.lingerMillis = unit.toMillis(linger);
+            return this;
+        }
+
+        /**
+         * Set scheduler which triggers sending of lingering batches. If not set sender creates
+         * single daemon thread and shuts it down on close.
+         *
+         * @param scheduler scheduler
+         * @return builder self reference
+         */
+        public Builder<R, T> scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Set executor which sends batches. If not set sender creates pool of 4 daemon threads and
+         * shuts it down on close.
+         *
+         * @param executor executor
+         * @return builder self reference
+         */
+        public Builder<R, T> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Build sender
+         *
+         * @return sender
+         */
+        public BatchSender<R, T> build() {
+            Validate.isTrue(maxBatchSize > 0, "maxBatchSize must be positive");
+            Validate.isTrue(lingerMillis >= 0, "linger cannot be negative");
+            return new BatchSender<>(this);
+        }
+    }
+
+    private interface SendFunction<R, T> {
+        List<T> send(List<R> recipients, Long campaignId, String fields);
+    }
+
+    private static class Batch<R, T> {
+        private final List<R> recipients = new ArrayList<>();
+        private final List<CompletableFuture<T>> futures = new ArrayList<>();
+        private ScheduledFuture<?> lingerTask;
+    }
+
+    private static class BatchKey {
+        private final Long campaignId;
+        private final String fields;
+
+        BatchKey(Long campaignId, String fields) {
+            this.campaignId = campaignId;
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey that = (BatchKey) o;
+            return Objects.equals(campaignId, that.campaignId) && Objects.equals(fields, that.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(campaignId, fields);
+        }
+    }
+}
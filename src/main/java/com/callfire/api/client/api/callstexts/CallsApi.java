@@ -7,10 +7,14 @@ import com.callfire.api.client.api.callstexts.model.request.FindCallsRequest;
 import com.callfire.api.client.api.callstexts.model.request.SendCallsRequest;
 import com.callfire.api.client.api.campaigns.model.CallRecording;
 import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.download.DownloadResult;
+import com.callfire.api.client.download.Downloads;
+import com.callfire.api.client.paging.PagedIterable;
 import org.apache.commons.lang3.Validate;
 import org.apache.http.NameValuePair;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,13 +33,13 @@ import static com.callfire.api.client.ModelType.*;
  * @since 1.0
  */
 public class CallsApi {
-    private static final String CALLS_PATH = "/calls";
-    private static final String CALLS_ITEM_PATH = "/calls/{}";
-    private static final String CALLS_ITEM_RECORDINGS_PATH = "/calls/{}/recordings";
-    private static final String CALLS_ITEM_RECORDING_BY_NAME_PATH = "/calls/{}/recordings/{}";
-    private static final String CALLS_ITEM_MP3_RECORDING_BY_NAME_PATH = "/calls/{}/recordings/{}.mp3";
-    private static final String CALLS_ITEM_RECORDING_BY_ID_PATH = "/calls/recordings/{}";
-    private static final String CALLS_ITEM_MP3_RECORDING_BY_ID_PATH = "/calls/recordings/{}.mp3";
+    static final String CALLS_PATH = "/calls";
+    static final String CALLS_ITEM_PATH = "/calls/{}";
+    static final String CALLS_ITEM_RECORDINGS_PATH = "/calls/{}/recordings";
+    static final String CALLS_ITEM_RECORDING_BY_NAME_PATH = "/calls/{}/recordings/{}";
+    static final String CALLS_ITEM_MP3_RECORDING_BY_NAME_PATH = "/calls/{}/recordings/{}.mp3";
+    static final String CALLS_ITEM_RECORDING_BY_ID_PATH = "/calls/recordings/{}";
+    static final String CALLS_ITEM_MP3_RECORDING_BY_ID_PATH = "/calls/recordings/{}.mp3";
 
     private RestApiClient client;
 
@@ -63,6 +67,19 @@ public class CallsApi {
         return client.get(CALLS_PATH, pageOf(Call.class), request);
     }
 
+    /**
+     * Finds all calls matching request, pages are loaded lazily while returned iterable is consumed.
+     * Page size is taken from request's limit. API exceptions are thrown by iterator when page cannot be loaded,
+     * see {@link #find(FindCallsRequest)}
+     *
+     * @param request request object with different fields to filter
+     * @return lazy iterable over all matching {@link Call} objects
+     * @since 1.8
+     */
+    public PagedIterable<Call> findAll(FindCallsRequest request) {
+        return client.getAll(CALLS_PATH, pageOf(Call.class), request);
+    }
+
     /**
      * Get call by id
      *
@@ -324,4 +341,44 @@ public class CallsApi {
         String path = CALLS_ITEM_MP3_RECORDING_BY_ID_PATH.replaceFirst(PLACEHOLDER, id.toString());
         return client.get(path, of(InputStream.class));
     }
+
+    /**
+     * Download call mp3 recording by id and write it to file, connection is released once file is written
+     *
+     * @param id     id of call recording
+     * @param target file to write recording to, existing file is overwritten
+     * @return download result with number of bytes and throughput
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client or downloaded length doesn't match.
+     * @since 1.8
+     */
+    public DownloadResult downloadCallRecordingMp3(Long id, Path target) {
+        return Downloads.transfer(getCallRecordingMp3(id), target, null);
+    }
+
+    /**
+     * Download call mp3 recording and write it to file, number of written bytes is verified
+     * against {@link CallRecording#getLengthInBytes()} if it's set
+     *
+     * @param recording call recording
+     * @param target    file to write recording to, existing file is overwritten
+     * @return download result with number of bytes and throughput
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client or downloaded length doesn't match.
+     * @since 1.8
+     */
+    public DownloadResult downloadCallRecordingMp3(CallRecording recording, Path target) {
+        Validate.notNull(recording, "recording cannot be null");
+        return Downloads.transfer(getCallRecordingMp3(recording.getId()), target, recording.getLengthInBytes());
+    }
 }
@@ -0,0 +1,168 @@
+package com.callfire.api.client.api.callstexts;
+
+import com.callfire.api.client.AsyncRestApiClient;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.CallRecipient;
+import com.callfire.api.client.api.callstexts.model.request.FindCallsRequest;
+import com.callfire.api.client.api.callstexts.model.request.SendCallsRequest;
+import com.callfire.api.client.api.campaigns.model.CallRecording;
+import com.callfire.api.client.api.common.model.Page;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.NameValuePair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.callfire.api.client.ClientConstants.PLACEHOLDER;
+import static com.callfire.api.client.ClientUtils.addQueryParamIfSet;
+import static com.callfire.api.client.ClientUtils.buildQueryParams;
+import static com.callfire.api.client.ModelType.*;
+import static com.callfire.api.client.api.callstexts.CallsApi.*;
+
+/**
+ * Non-blocking version of {@link CallsApi}, represents rest endpoint /calls.
+ * Each method returns {@link CompletableFuture} which is completed exceptionally with the same
+ * exceptions that are thrown by corresponding method of {@link CallsApi}.
+ *
+ * @since 1.8
+ */
+public class CallsAsyncApi {
+    private AsyncRestApiClient client;
+
+    public CallsAsyncApi(AsyncRestApiClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Finds all calls sent or received by the user
+     *
+     * @param request request object with different fields to filter
+     * @return future of page with {@link Call} objects
+     * @see CallsApi#find(FindCallsRequest)
+     */
+    public CompletableFuture<Page<Call>> find(FindCallsRequest request) {
+        return client.getAsync(CALLS_PATH, pageOf(Call.class), request);
+    }
+
+    /**
+     * Get call by id
+     *
+     * @param id id of call
+     * @return future of call object
+     * @see CallsApi#get(Long)
+     */
+    public CompletableFuture<Call> get(Long id) {
+        return get(id, null);
+    }
+
+    /**
+     * Get call by id
+     *
+     * @param id     id of call
+     * @param fields limit fields returned. Example fields=id,name
+     * @return future of call object
+     * @see CallsApi#get(Long, String)
+     */
+    public CompletableFuture<Call> get(Long id, String fields) {
+        Validate.notNull(id, "id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("fields", fields, queryParams);
+        String path = CALLS_ITEM_PATH.replaceFirst(PLACEHOLDER, id.toString());
+        return client.getAsync(path, of(Call.class), queryParams);
+    }
+
+    /**
+     * Send calls to recipients through default campaign
+     *
+     * @param recipients call recipients
+     * @return future of list of {@link Call}
+     * @see CallsApi#send(List)
+     */
+    public CompletableFuture<List<Call>> send(List<CallRecipient> recipients) {
+        return send(recipients, null, null);
+    }
+
+    /**
+     * Send call to recipients through existing campaign, if null default campaign will be used
+     *
+     * @param recipients call recipients
+     * @param campaignId specify a campaignId to send calls quickly on a previously created campaign
+     * @param fields     fields returned. E.g. fields=id,name or fields=items(id,name)
+     * @return future of list of {@link Call}
+     * @see CallsApi#send(List, Long, String)
+     */
+    public CompletableFuture<List<Call>> send(List<CallRecipient> recipients, Long campaignId, String fields) {
+        List<NameValuePair> queryParams = new ArrayList<>(2);
+        addQueryParamIfSet("campaignId", campaignId, queryParams);
+        addQueryParamIfSet("fields", fields, queryParams);
+        return client.postAsync(CALLS_PATH, listHolderOf(Call.class), recipients, queryParams)
+            .thenApply(AsyncRestApiClient.<Call>listHolderItems());
+    }
+
+    /**
+     * Send call to recipients through existing campaign, if null default campaign will be used
+     *
+     * @param request request with parameters (campaignId, defaultLiveMessage, defaultMachineMessage etc)
+     * @return future of list of {@link Call}
+     * @see CallsApi#send(SendCallsRequest)
+     */
+    public CompletableFuture<List<Call>> send(SendCallsRequest request) {
+        List<NameValuePair> queryParams = buildQueryParams(request);
+        return client.postAsync(CALLS_PATH, listHolderOf(Call.class), request.getRecipients(), queryParams)
+            .thenApply(AsyncRestApiClient.<Call>listHolderItems());
+    }
+
+    /**
+     * Returns call recordings for a call
+     *
+     * @param id     id of call
+     * @param fields Limit text fields returned. Example fields=limit,offset,items(id,message)
+     * @return future of list of {@link CallRecording}
+     * @see CallsApi#getCallRecordings(Long, String)
+     */
+    public CompletableFuture<List<CallRecording>> getCallRecordings(Long id, String fields) {
+        Validate.notNull(id, "id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("fields", fields, queryParams);
+        String path = CALLS_ITEM_RECORDINGS_PATH.replaceFirst(PLACEHOLDER, id.toString());
+        return client.getAsync(path, listHolderOf(CallRecording.class), queryParams)
+            .thenApply(AsyncRestApiClient.<CallRecording>listHolderItems());
+    }
+
+    /**
+     * Returns call recording by name
+     *
+     * @param callId        id of call
+     * @param recordingName name of call recording
+     * @param fields        Limit text fields returned. Example fields=limit,offset,items(id,message)
+     * @return future of CallRecording meta object
+     * @see CallsApi#getCallRecordingByName(Long, String, String)
+     */
+    public CompletableFuture<CallRecording> getCallRecordingByName(Long callId, String recordingName,
+        String fields) {
+        Validate.notNull(callId, "id cannot be null");
+        Validate.notNull(recordingName, "recordingName cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("fields", fields, queryParams);
+        String path = CALLS_ITEM_RECORDING_BY_NAME_PATH.replaceFirst(PLACEHOLDER, callId.toString())
+            .replaceFirst(PLACEHOLDER, recordingName);
+        return client.getAsync(path, of(CallRecording.class), queryParams);
+    }
+
+    /**
+     * Returns call recording by id
+     *
+     * @param id     id of call recording
+     * @param fields Limit text fields returned. Example fields=limit,offset,items(id,message)
+     * @return future of CallRecording meta object
+     * @see CallsApi#getCallRecording(Long, String)
+     */
+    public CompletableFuture<CallRecording> getCallRecording(Long id, String fields) {
+        Validate.notNull(id, "id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("fields", fields, queryParams);
+        String path = CALLS_ITEM_RECORDING_BY_ID_PATH.replaceFirst(PLACEHOLDER, id.toString());
+        return client.getAsync(path, of(CallRecording.class), queryParams);
+    }
+}
@@ -7,7 +7,9 @@ import static com.callfire.api.client.ModelType.pageOf;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,11 @@ import com.callfire.api.client.api.callstexts.model.MediaType;
 import com.callfire.api.client.api.callstexts.model.request.FindMediaRequest;
 import com.callfire.api.client.api.common.model.Page;
 import com.callfire.api.client.api.common.model.ResourceId;
+import com.callfire.api.client.download.DownloadResult;
+import com.callfire.api.client.download.Downloads;
+import com.callfire.api.client.download.RangeResponse;
+import com.callfire.api.client.download.RangeSource;
+import com.callfire.api.client.download.ResumableDownloader;
 
 /**
  * Represents rest endpoint /media
@@ -164,9 +171,7 @@ public class MediaApi {
     public InputStream getData(Long id, MediaType type) {
         Validate.notNull(id, "id cannot be null");
         Validate.notNull(type, "type cannot be null");
-        String path = type == MediaType.UNKNOWN ? MEDIA_FILE_PATH.replaceFirst(PLACEHOLDER, id.toString())
-            : MEDIA_ITEM_ID_PATH.replaceFirst(PLACEHOLDER, id.toString()).replaceFirst(PLACEHOLDER, type.getType());
-        return client.get(path, of(InputStream.class));
+        return client.get(dataPath(id, type), of(InputStream.class));
     }
 
     /**
@@ -186,7 +191,138 @@ public class MediaApi {
     public InputStream getData(String key, MediaType type) {
         Validate.notBlank(key, "key cannot be blank");
         Validate.notNull(type, "type cannot be null");
-        String path = MEDIA_ITEM_KEY_PATH.replaceFirst(PLACEHOLDER, key).replaceFirst(PLACEHOLDER, type.getType());
-        return client.get(path, of(InputStream.class));
+        return client.get(dataPath(key, type), of(InputStream.class));
+    }
+
+    /**
+     * Returns range of media file's data, use it to continue interrupted download of large file.
+     * Returned stream must be closed to release connection.
+     *
+     * @param id    id of media file
+     * @param type  media type: jpeg, png, gif, mp3, mp4, wav
+     * @param first offset of first byte
+     * @param last  offset of last byte inclusive, null to request rest of file
+     * @return range response, whole file is returned if server ignores range
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client.
+     * @since 1.8
+     */
+    public RangeResponse getDataRange(Long id, MediaType type, long first, Long last) {
+        Validate.notNull(id, "id cannot be null");
+        Validate.notNull(type, "type cannot be null");
+        return client.getRange(dataPath(id, type), Collections.<NameValuePair>emptyList(), first, last);
+    }
+
+    /**
+     * Returns range of media file's data, see {@link #getDataRange(Long, MediaType, long, Long)}
+     *
+     * @param key   key of media file
+     * @param type  media type: jpeg, png, gif, mp3, mp4, wav
+     * @param first offset of first byte
+     * @param last  offset of last byte inclusive, null to request rest of file
+     * @return range response, whole file is returned if server ignores range
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client.
+     * @since 1.8
+     */
+    public RangeResponse getDataRange(String key, MediaType type, long first, Long last) {
+        Validate.notBlank(key, "key cannot be blank");
+        Validate.notNull(type, "type cannot be null");
+        return client.getRange(dataPath(key, type), Collections.<NameValuePair>emptyList(), first, last);
+    }
+
+    /**
+     * Download media file's data and write it to file, see {@link #getData(Long, MediaType)}
+     *
+     * @param id     id of media file
+     * @param type   media type: jpeg, png, gif, mp3, mp4, wav
+     * @param target file to write data to, existing file is overwritten
+     * @return download result with number of bytes and throughput
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client or downloaded length doesn't match.
+     * @since 1.8
+     */
+    public DownloadResult downloadData(Long id, MediaType type, Path target) {
+        return Downloads.transfer(getData(id, type), target, null);
+    }
+
+    /**
+     * Download media file's data and write it to file, number of written bytes is verified
+     * against {@link Media#getLengthInBytes()} if it's set
+     *
+     * @param media  media file returned by {@link #get(Long, String)} or {@link #find(FindMediaRequest)}
+     * @param target file to write data to, existing file is overwritten
+     * @return download result with number of bytes and throughput
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client or downloaded length doesn't match.
+     * @since 1.8
+     */
+    public DownloadResult downloadData(Media media, Path target) {
+        Validate.notNull(media, "media cannot be null");
+        MediaType type = media.getMediaType() == null ? MediaType.UNKNOWN : media.getMediaType();
+        return Downloads.transfer(getData(media.getId(), type), target, media.getLengthInBytes());
+    }
+
+    /**
+     * Download media file's data with range requests, download interrupted by dropped connection or
+     * previous failed call continues from the last received byte. Length is verified against
+     * {@link Media#getLengthInBytes()}, large files can be fetched in parallel segments, see
+     * {@link ResumableDownloader}.
+     *
+     * @param media      media file returned by {@link #get(Long, String)} or {@link #find(FindMediaRequest)}
+     * @param target     file to write data to, existing file is overwritten
+     * @param downloader downloader
+     * @return download result with number of bytes received by this call and throughput
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client or downloaded length doesn't match.
+     * @since 1.8
+     */
+    public DownloadResult downloadData(Media media, Path target, ResumableDownloader downloader) {
+        Validate.notNull(media, "media cannot be null");
+        Validate.notNull(media.getId(), "media.id cannot be null");
+        Validate.notNull(downloader, "downloader cannot be null");
+        final Long id = media.getId();
+        final MediaType type = media.getMediaType() == null ? MediaType.UNKNOWN : media.getMediaType();
+        return downloader.download(new RangeSource() {
+            @Override
+            public RangeResponse get(long first, Long last, String ifRange) {
+                return client.getRange(dataPath(id, type), Collections.<NameValuePair>emptyList(), first, last,
+                    ifRange);
+            }
+        }, target, media.getLengthInBytes());
+    }
+
+    private static String dataPath(Long id, MediaType type) {
+        return type == MediaType.UNKNOWN ? MEDIA_FILE_PATH.replaceFirst(PLACEHOLDER, id.toString())
+            : MEDIA_ITEM_ID_PATH.replaceFirst(PLACEHOLDER, id.toString()).replaceFirst(PLACEHOLDER, type.getType());
+    }
+
+    private static String dataPath(String key, MediaType type) {
+        return MEDIA_ITEM_KEY_PATH.replaceFirst(PLACEHOLDER, key).replaceFirst(PLACEHOLDER, type.getType());
     }
 }
@@ -0,0 +1,457 @@
+package com.callfire.api.client.api.callstexts;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.request.FindCallsRequest;
+import com.callfire.api.client.api.campaigns.model.CallRecording;
+import com.callfire.api.client.download.DownloadResult;
+import com.callfire.api.client.download.Downloads;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Archives mp3 recordings of calls to local directory. Calls matching request are loaded page by page,
+ * recordings of each call are listed and downloaded on provided executor, number of calls processed
+ * concurrently is bounded so calls are loaded only as fast as recordings are downloaded.
+ * <pre>
+ * RecordingArchiver archiver = RecordingArchiver.create(client.callsApi())
+ *     .directory(Paths.get("/archive/2016-03-01"))
+ *     .executor(executor)
+ *     .maxConcurrency(8)
+ *     .build();
+ * RecordingArchiver.ArchiveResult result = archiver.archive(FindCallsRequest.create()
+ *     .intervalBegin(begin)
+ *     .intervalEnd(end)
+ *     .build());
+ * </pre>
+ * Recordings are saved as {recordingId}.mp3, file which already exists and has size equal to
+ * {@link CallRecording#getLengthInBytes()} isn't downloaded again. Ids of completely archived calls are
+ * appended to checkpoint file, so interrupted run started again with the same request skips them without
+ * listing their recordings. Calls with failed or not yet ready recordings aren't checkpointed and are
+ * retried by the next run.
+ *
+ * @since 1.8
+ */
+public class RecordingArchiver {
+    private static final Logger LOGGER = new Logger(RecordingArchiver.class);
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+    private static final String DEFAULT_CHECKPOINT_FILE = "archive.checkpoint";
+    private static final String EXTENSION = ".mp3";
+    private static final String PART_EXTENSION = ".mp3.part";
+
+    private final CallsApi api;
+    private final Path directory;
+    private final Path checkpointFile;
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    private RecordingArchiver(Builder builder) {
+        this.api = builder.api;
+        this.directory = builder.directory;
+        this.checkpointFile = builder.checkpointFile != null ? builder.checkpointFile
+            : builder.directory.resolve(DEFAULT_CHECKPOINT_FILE);
+        this.executor = builder.executor;
+        this.maxConcurrency = builder.maxConcurrency;
+    }
+
+    /**
+     * Create builder of archiver
+     *
+     * @param api calls api
+     * @return archiver builder
+     */
+    public static Builder create(CallsApi api) {
+        Validate.notNull(api, "api cannot be null");
+        return new Builder(api);
+    }
+
+    /**
+     * Archives recordings of all calls matching request, blocks until all recordings are processed.
+     * Failures of single calls are logged and counted, they don't stop archiving.
+     *
+     * @param request request with time window and other filters, limit is used as page size
+     * @return archive statistics
+     * @throws CallfireClientException in case calls cannot be loaded, checkpoint file cannot be opened
+     *                                 or thread is interrupted
+     */
+    public ArchiveResult archive(FindCallsRequest request) {
+        Validate.notNull(request, "request cannot be null");
+        long start = System.nanoTime();
+        Stats stats = new Stats();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new CallfireClientException("Cannot create directory " + directory, e);
+        }
+        try (Checkpoint checkpoint = Checkpoint.open(checkpointFile)) {
+            try {
+                for (Call call : api.findAll(request)) {
+                    if (checkpoint.contains(call.getId())) {
+                        stats.skippedCalls.incrementAndGet();
+                        continue;
+                    }
+                    permits.acquire();
+                    submit(call.getId(), checkpoint, stats, permits);
+                }
+            } finally {
+                // wait for calls in flight before checkpoint is closed
+                permits.acquireUninterruptibly(maxConcurrency);
+            }
+        } catch (IOException e) {
+            throw new CallfireClientException("Cannot archive recordings to " + directory, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CallfireClientException("Interrupted while archiving recordings", e);
+        }
+        ArchiveResult result = stats.toResult(System.nanoTime() - start);
+        LOGGER.debug("archived recordings to {}: {}", directory, result);
+        return result;
+    }
+
+    private void submit(final Long callId, final Checkpoint checkpoint, final Stats stats, final Semaphore permits) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        archiveCall(callId, checkpoint, stats);
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void archiveCall(Long callId, Checkpoint checkpoint, Stats stats) {
+        stats.calls.incrementAndGet();
+        boolean complete = true;
+        try {
+            List<CallRecording> recordings = api.getCallRecordings(callId);
+            if (recordings != null) {
+                for (CallRecording recording : recordings) {
+                    complete &= archiveRecording(recording, stats);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("cannot list recordings of call {}: {}", callId, e);
+            stats.failed.incrementAndGet();
+            complete = false;
+        }
+        if (complete) {
+            try {
+                checkpoint.add(callId);
+            } catch (IOException e) {
+                LOGGER.warn("cannot checkpoint call {}: {}", callId, e);
+            }
+        }
+    }
+
+    private boolean archiveRecording(CallRecording recording, Stats stats) {
+        if (recording.getState() != null && recording.getState() != CallRecording.CallRecordingState.READY) {
+            LOGGER.debug("recording {} of call {} is in state {}, skipping", recording.getId(),
+                recording.getCallId(), recording.getState());
+            stats.notReady.incrementAndGet();
+            return false;
+        }
+        Path target = directory.resolve(recording.getId() + EXTENSION);
+        Path part = directory.resolve(recording.getId() + PART_EXTENSION);
+        try {
+            if (isArchived(target, recording.getLengthInBytes())) {
+                stats.skippedFiles.incrementAndGet();
+                return true;
+            }
+            DownloadResult download = Downloads.transfer(api.getCallRecordingMp3(recording.getId()), part,
+                recording.getLengthInBytes());
+            // file appears under final name only once it's complete
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            stats.downloaded.incrementAndGet();
+            stats.bytes.addAndGet(download.getBytes());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("cannot archive recording {} of call {}: {}", recording.getId(), recording.getCallId(), e);
+            stats.failed.incrementAndGet();
+            return false;
+        }
+    }
+
+    private static boolean isArchived(Path target, Long expectedLength) throws IOException {
+        return Files.exists(target) && (expectedLength == null || Files.size(target) == expectedLength);
+    }
+
+    /**
+     * Statistics of archive run
+     */
+    public static class ArchiveResult {
+        private final long calls;
+        private final long skippedCalls;
+        private final long downloaded;
+        private final long skippedFiles;
+        private final long notReady;
+        private final long failed;
+        private final long bytes;
+        private final long elapsedNanos;
+
+        ArchiveResult(long calls, long skippedCalls, long downloaded, long skippedFiles, long notReady, long failed,
+            long bytes, long elapsedNanos) {
+            this.calls = calls;
+            this.skippedCalls = skippedCalls;
+            this.downloaded = downloaded;
+            this.skippedFiles = skippedFiles;
+            this.notReady = notReady;
+            this.failed = failed;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Get number of calls whose recordings were processed in this run
+         *
+         * @return number of calls
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * Get number of calls skipped because they were archived by previous run
+         *
+         * @return number of checkpointed calls
+         */
+        public long getSkippedCalls() {
+            return skippedCalls;
+        }
+
+        /**
+         * Get number of downloaded recordings
+         *
+         * @return number of recordings
+         */
+        public long getDownloaded() {
+            return downloaded;
+        }
+
+        /**
+         * Get number of recordings which were already present in archive directory
+         *
+         * @return number of recordings
+         */
+        public long getSkippedFiles() {
+            return skippedFiles;
+        }
+
+        /**
+         * Get number of recordings which are still being recorded or failed on server side
+         *
+         * @return number of recordings
+         */
+        public long getNotReady() {
+            return notReady;
+        }
+
+        /**
+         * Get number of recordings or calls which failed to archive
+         *
+         * @return number of failures
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Get number of downloaded bytes
+         *
+         * @return number of bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Get duration of archive run
+         *
+         * @return elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Get download throughput of archive run
+         *
+         * @return bytes per second
+         */
+        public double getBytesPerSecond() {
+            return elapsedNanos == 0 ? 0 : bytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                .append("calls", calls)
+                .append("skippedCalls", skippedCalls)
+                .append("downloaded", downloaded)
+                .append("skippedFiles", skippedFiles)
+                .append("notReady", notReady)
+                .append("failed", failed)
+                .append("bytes", bytes)
+                .append("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .toString();
+        }
+    }
+
+    /**
+     * Builder of {@link RecordingArchiver}
+     */
+    public static class Builder {
+        private final CallsApi api;
+        private Path directory;
+        private Path checkpointFile;
+        private Executor executor;
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+        private Builder(CallsApi api) {
+            this.api = api;
+        }
+
+        /**
+         * Set directory where recordings are saved, directory is created if it doesn't exist
+         *
+         * @param directory archive directory
+         * @return builder self reference
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * Set file which keeps ids of archived calls, default is archive.checkpoint in archive directory
+         *
+         * @param checkpointFile checkpoint file
+         * @return builder self reference
+         */
+        public Builder checkpointFile(Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        /**
+         * Set executor which lists and downloads recordings
+         *
+         * @param executor executor
+         * @return builder self reference
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set max number of calls processed concurrently, default is 4
+         *
+         * @param maxConcurrency max concurrent downloads
+         * @return builder self reference
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Build archiver
+         *
+         * @return archiver
+         */
+        public RecordingArchiver build() {
+            Validate.notNull(directory, "directory cannot be null");
+            Validate.notNull(executor, "executor cannot be null");
+            Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+            return new RecordingArchiver(this);
+        }
+    }
+
+    private static class Stats {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong skippedCalls = new AtomicLong();
+        private final AtomicLong downloaded = new AtomicLong();
+        private final AtomicLong skippedFiles = new AtomicLong();
+        private final AtomicLong notReady = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+
+        ArchiveResult toResult(long elapsedNanos) {
+            return new ArchiveResult(calls.get(), skippedCalls.get(), downloaded.get(), skippedFiles.get(),
+                notReady.get(), failed.get(), bytes.get(), elapsedNanos);
+        }
+    }
+
+    // append-only list of archived call ids, one id per line
+    private static class Checkpoint implements Closeable {
+        private final Set<Long> callIds;
+        private final BufferedWriter writer;
+
+        private Checkpoint(Set<Long> callIds, BufferedWriter writer) {
+            this.callIds = callIds;
+            this.writer = writer;
+        }
+
+        static Checkpoint open(Path file) throws IOException {
+            Set<Long> callIds = new HashSet<>();
+            if (Files.exists(file)) {
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        // skip damaged lines, call is archived again in worst case
+                        if (!line.isEmpty() && line.matches("\\d+")) {
+                            callIds.add(Long.valueOf(line));
+                        }
+                    }
+                }
+            } else if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+            return new Checkpoint(callIds, writer);
+        }
+
+        boolean contains(Long callId) {
+            return callIds.contains(callId);
+        }
+
+        synchronized void add(Long callId) throws IOException {
+            writer.write(callId.toString());
+            writer.newLine();
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
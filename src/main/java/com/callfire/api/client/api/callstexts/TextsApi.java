@@ -6,6 +6,7 @@ import com.callfire.api.client.api.callstexts.model.request.FindTextsRequest;
 import com.callfire.api.client.api.callstexts.model.request.SendTextsRequest;
 import com.callfire.api.client.api.campaigns.model.TextRecipient;
 import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.paging.PagedIterable;
 import org.apache.commons.lang3.Validate;
 import org.apache.http.NameValuePair;
 
@@ -26,8 +27,8 @@ import static com.callfire.api.client.ModelType.*;
  * @since 1.0
  */
 public class TextsApi {
-    private static final String TEXTS_PATH = "/texts";
-    private static final String TEXTS_ITEM_PATH = "/texts/{}";
+    static final String TEXTS_PATH = "/texts";
+    static final String TEXTS_ITEM_PATH = "/texts/{}";
 
     private RestApiClient client;
 
@@ -55,6 +56,19 @@ public class TextsApi {
         return client.get(TEXTS_PATH, pageOf(Text.class), request);
     }
 
+    /**
+     * Finds all texts matching request, pages are loaded lazily while returned iterable is consumed.
+     * Page size is taken from request's limit. API exceptions are thrown by iterator when page cannot be loaded,
+     * see {@link #find(FindTextsRequest)}
+     *
+     * @param request request object with different fields to filter
+     * @return lazy iterable over all matching {@link Text} objects
+     * @since 1.8
+     */
+    public PagedIterable<Text> findAll(FindTextsRequest request) {
+        return client.getAll(TEXTS_PATH, pageOf(Text.class), request);
+    }
+
     /**
      * Get text by id.
      *
@@ -0,0 +1,115 @@
+package com.callfire.api.client.api.callstexts;
+
+import com.callfire.api.client.AsyncRestApiClient;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.callstexts.model.request.FindTextsRequest;
+import com.callfire.api.client.api.callstexts.model.request.SendTextsRequest;
+import com.callfire.api.client.api.campaigns.model.TextRecipient;
+import com.callfire.api.client.api.common.model.Page;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.NameValuePair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.callfire.api.client.ClientConstants.PLACEHOLDER;
+import static com.callfire.api.client.ClientUtils.addQueryParamIfSet;
+import static com.callfire.api.client.ClientUtils.buildQueryParams;
+import static com.callfire.api.client.ModelType.*;
+import static com.callfire.api.client.api.callstexts.TextsApi.TEXTS_ITEM_PATH;
+import static com.callfire.api.client.api.callstexts.TextsApi.TEXTS_PATH;
+
+/**
+ * Non-blocking version of {@link TextsApi}, represents rest endpoint /texts.
+ * Each method returns {@link CompletableFuture} which is completed exceptionally with the same
+ * exceptions that are thrown by corresponding method of {@link TextsApi}.
+ *
+ * @since 1.8
+ */
+public class TextsAsyncApi {
+    private AsyncRestApiClient client;
+
+    public TextsAsyncApi(AsyncRestApiClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Finds all texts sent or received by the user
+     *
+     * @param request request object with different fields to filter
+     * @return future of page with {@link Text} objects
+     * @see TextsApi#find(FindTextsRequest)
+     */
+    public CompletableFuture<Page<Text>> find(FindTextsRequest request) {
+        return client.getAsync(TEXTS_PATH, pageOf(Text.class), request);
+    }
+
+    /**
+     * Get text by id
+     *
+     * @param id id of text
+     * @return future of text object
+     * @see TextsApi#get(Long)
+     */
+    public CompletableFuture<Text> get(Long id) {
+        return get(id, null);
+    }
+
+    /**
+     * Get text by id
+     *
+     * @param id     id of text
+     * @param fields limit fields returned. Example fields=id,message
+     * @return future of text object
+     * @see TextsApi#get(Long, String)
+     */
+    public CompletableFuture<Text> get(Long id, String fields) {
+        Validate.notNull(id, "id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("fields", fields, queryParams);
+        String path = TEXTS_ITEM_PATH.replaceFirst(PLACEHOLDER, id.toString());
+        return client.getAsync(path, of(Text.class), queryParams);
+    }
+
+    /**
+     * Send texts to recipients through default campaign
+     *
+     * @param recipients text recipients
+     * @return future of list of {@link Text}
+     * @see TextsApi#send(List)
+     */
+    public CompletableFuture<List<Text>> send(List<TextRecipient> recipients) {
+        return send(recipients, null, null);
+    }
+
+    /**
+     * Send texts to recipients through existing campaign, if null default campaign will be used
+     *
+     * @param recipients text recipients
+     * @param campaignId specify a campaignId to send texts quickly on a previously created campaign
+     * @param fields     fields returned. E.g. fields=id,name or fields=items(id,name)
+     * @return future of list of {@link Text}
+     * @see TextsApi#send(List, Long, String)
+     */
+    public CompletableFuture<List<Text>> send(List<TextRecipient> recipients, Long campaignId, String fields) {
+        List<NameValuePair> queryParams = new ArrayList<>(2);
+        addQueryParamIfSet("campaignId", campaignId, queryParams);
+        addQueryParamIfSet("fields", fields, queryParams);
+        return client.postAsync(TEXTS_PATH, listHolderOf(Text.class), recipients, queryParams)
+            .thenApply(AsyncRestApiClient.<Text>listHolderItems());
+    }
+
+    /**
+     * Send texts to recipients through existing campaign, if null default campaign will be used
+     *
+     * @param request request with parameters (campaignId, defaultMessage etc)
+     * @return future of list of {@link Text}
+     * @see TextsApi#send(SendTextsRequest)
+     */
+    public CompletableFuture<List<Text>> send(SendTextsRequest request) {
+        List<NameValuePair> queryParams = buildQueryParams(request);
+        return client.postAsync(TEXTS_PATH, listHolderOf(Text.class), request.getRecipients(), queryParams)
+            .thenApply(AsyncRestApiClient.<Text>listHolderItems());
+    }
+}
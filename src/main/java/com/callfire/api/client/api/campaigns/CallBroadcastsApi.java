@@ -17,6 +17,7 @@ import com.callfire.api.client.api.campaigns.model.request.*;
 import com.callfire.api.client.api.common.model.Page;
 import com.callfire.api.client.api.common.model.ResourceId;
 import com.callfire.api.client.api.common.model.request.GetByIdRequest;
+import com.callfire.api.client.paging.PagedIterable;
 import org.apache.commons.lang3.Validate;
 import org.apache.http.NameValuePair;
 
@@ -36,15 +37,15 @@ import static com.callfire.api.client.ModelType.pageOf;
  * @since 1.7
  */
 public class CallBroadcastsApi {
-    private static final String CB_PATH = "/calls/broadcasts";
-    private static final String CB_ITEM_PATH = "/calls/broadcasts/{}";
-    private static final String CB_ITEM_STATS_PATH = "/calls/broadcasts/{}/stats";
-    private static final String CB_ITEM_BATCHES_PATH = "/calls/broadcasts/{}/batches";
-    private static final String CB_ITEM_CALLS_PATH = "/calls/broadcasts/{}/calls";
-    private static final String CB_ITEM_START_PATH = "/calls/broadcasts/{}/start";
-    private static final String CB_ITEM_STOP_PATH = "/calls/broadcasts/{}/stop";
-    private static final String CB_ITEM_ARCHIVE_PATH = "/calls/broadcasts/{}/archive";
-    private static final String CB_ITEM_RECIPIENTS_PATH = "/calls/broadcasts/{}/recipients";
+    static final String CB_PATH = "/calls/broadcasts";
+    static final String CB_ITEM_PATH = "/calls/broadcasts/{}";
+    static final String CB_ITEM_STATS_PATH = "/calls/broadcasts/{}/stats";
+    static final String CB_ITEM_BATCHES_PATH = "/calls/broadcasts/{}/batches";
+    static final String CB_ITEM_CALLS_PATH = "/calls/broadcasts/{}/calls";
+    static final String CB_ITEM_START_PATH = "/calls/broadcasts/{}/start";
+    static final String CB_ITEM_STOP_PATH = "/calls/broadcasts/{}/stop";
+    static final String CB_ITEM_ARCHIVE_PATH = "/calls/broadcasts/{}/archive";
+    static final String CB_ITEM_RECIPIENTS_PATH = "/calls/broadcasts/{}/recipients";
 
     private RestApiClient client;
 
@@ -285,6 +286,20 @@ public class CallBroadcastsApi {
         return client.get(path, pageOf(Call.class), request);
     }
 
+    /**
+     * Finds all calls of call broadcast, pages are loaded lazily while returned iterable is consumed.
+     * Page size is taken from request's limit. API exceptions are thrown by iterator when page cannot be loaded,
+     * see {@link #findCalls(FindBroadcastCallsRequest)}
+     *
+     * @param request request with properties to filter
+     * @return lazy iterable over all matching {@link Call} objects
+     * @since 1.8
+     */
+    public PagedIterable<Call> findAllCalls(FindBroadcastCallsRequest request) {
+        String path = CB_ITEM_CALLS_PATH.replaceFirst(PLACEHOLDER, request.getId().toString());
+        return client.getAll(path, pageOf(Call.class), request);
+    }
+
     /**
      * Get statistics on call broadcast
      *
@@ -0,0 +1,271 @@
+package com.callfire.api.client.api.campaigns;
+
+import com.callfire.api.client.AsyncRestApiClient;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.campaigns.model.Batch;
+import com.callfire.api.client.api.campaigns.model.CallBroadcast;
+import com.callfire.api.client.api.campaigns.model.CallBroadcastStats;
+import com.callfire.api.client.api.campaigns.model.Recipient;
+import com.callfire.api.client.api.campaigns.model.request.AddBatchRequest;
+import com.callfire.api.client.api.campaigns.model.request.AddRecipientsRequest;
+import com.callfire.api.client.api.campaigns.model.request.CreateBroadcastRequest;
+import com.callfire.api.client.api.campaigns.model.request.FindBroadcastCallsRequest;
+import com.callfire.api.client.api.campaigns.model.request.FindCallBroadcastsRequest;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.common.model.ResourceId;
+import com.callfire.api.client.api.common.model.request.GetByIdRequest;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.NameValuePair;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.callfire.api.client.ClientConstants.PLACEHOLDER;
+import static com.callfire.api.client.ClientUtils.addQueryParamIfSet;
+import static com.callfire.api.client.ModelType.listHolderOf;
+import static com.callfire.api.client.ModelType.of;
+import static com.callfire.api.client.ModelType.pageOf;
+import static com.callfire.api.client.api.campaigns.CallBroadcastsApi.*;
+
+/**
+ * Non-blocking version of {@link CallBroadcastsApi}, represents rest endpoint /calls/broadcasts.
+ * Each method returns {@link CompletableFuture} which is completed exceptionally with the same
+ * exceptions that are thrown by corresponding method of {@link CallBroadcastsApi}.
+ *
+ * @since 1.8
+ */
+public class CallBroadcastsAsyncApi {
+    private AsyncRestApiClient client;
+
+    public CallBroadcastsAsyncApi(AsyncRestApiClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Find all call broadcasts created by the user
+     *
+     * @param request request object with filtering options
+     * @return future of page with {@link CallBroadcast} objects
+     * @see CallBroadcastsApi#find(FindCallBroadcastsRequest)
+     */
+    public CompletableFuture<Page<CallBroadcast>> find(FindCallBroadcastsRequest request) {
+        return client.getAsync(CB_PATH, pageOf(CallBroadcast.class), request);
+    }
+
+    /**
+     * Create a call broadcast campaign
+     *
+     * @param broadcast call broadcast to create
+     * @return future of {@link ResourceId} object with id of created broadcast
+     * @see CallBroadcastsApi#create(CallBroadcast)
+     */
+    public CompletableFuture<ResourceId> create(CallBroadcast broadcast) {
+        return create(broadcast, null);
+    }
+
+    /**
+     * Create a call broadcast campaign
+     *
+     * @param broadcast call broadcast to create
+     * @param start     if set to true broadcast will starts immediately
+     * @return future of {@link ResourceId} object with id of created broadcast
+     * @see CallBroadcastsApi#create(CallBroadcast, Boolean)
+     */
+    public CompletableFuture<ResourceId> create(CallBroadcast broadcast, Boolean start) {
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("start", start, queryParams);
+        return client.postAsync(CB_PATH, of(ResourceId.class), broadcast, queryParams);
+    }
+
+    /**
+     * Create a call broadcast campaign
+     *
+     * @param request request with broadcast and creation options
+     * @return future of {@link ResourceId} object with id of created broadcast
+     * @see CallBroadcastsApi#create(CreateBroadcastRequest)
+     */
+    public CompletableFuture<ResourceId> create(CreateBroadcastRequest<CallBroadcast> request) {
+        return client.postAsync(CB_PATH, of(ResourceId.class), request.getBroadcast(), request);
+    }
+
+    /**
+     * Get call broadcast by id
+     *
+     * @param id id of broadcast
+     * @return future of broadcast object
+     * @see CallBroadcastsApi#get(Long)
+     */
+    public CompletableFuture<CallBroadcast> get(Long id) {
+        return get(id, null);
+    }
+
+    /**
+     * Get call broadcast by id
+     *
+     * @param id     id of broadcast
+     * @param fields limit fields returned. Example fields=id,name
+     * @return future of broadcast object
+     * @see CallBroadcastsApi#get(Long, String)
+     */
+    public CompletableFuture<CallBroadcast> get(Long id, String fields) {
+        Validate.notNull(id, "id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("fields", fields, queryParams);
+        String path = CB_ITEM_PATH.replaceFirst(PLACEHOLDER, id.toString());
+        return client.getAsync(path, of(CallBroadcast.class), queryParams);
+    }
+
+    /**
+     * Update existing broadcast's configuration
+     *
+     * @param broadcast broadcast to update
+     * @return future which is completed once broadcast is updated
+     * @see CallBroadcastsApi#update(CallBroadcast)
+     */
+    public CompletableFuture<Void> update(CallBroadcast broadcast) {
+        return update(broadcast, null);
+    }
+
+    /**
+     * Update existing broadcast's configuration
+     *
+     * @param broadcast        broadcast to update
+     * @param strictValidation apply strict validation for contacts
+     * @return future which is completed once broadcast is updated
+     * @see CallBroadcastsApi#update(CallBroadcast, Boolean)
+     */
+    public CompletableFuture<Void> update(CallBroadcast broadcast, Boolean strictValidation) {
+        Validate.notNull(broadcast.getId(), "broadcast.id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("strictValidation", strictValidation, queryParams);
+        String path = CB_ITEM_PATH.replaceFirst(PLACEHOLDER, broadcast.getId().toString());
+        return client.<Void>putAsync(path, null, broadcast, queryParams);
+    }
+
+    /**
+     * Get broadcast batches
+     *
+     * @param request get request
+     * @return future of page with {@link Batch} objects
+     * @see CallBroadcastsApi#getBatches(GetByIdRequest)
+     */
+    public CompletableFuture<Page<Batch>> getBatches(GetByIdRequest request) {
+        String path = CB_ITEM_BATCHES_PATH.replaceFirst(PLACEHOLDER, request.getId().toString());
+        return client.getAsync(path, pageOf(Batch.class), request);
+    }
+
+    /**
+     * Add batch to broadcast
+     *
+     * @param request request with contacts
+     * @return future of {@link ResourceId} with id of created batch
+     * @see CallBroadcastsApi#addBatch(AddBatchRequest)
+     */
+    public CompletableFuture<ResourceId> addBatch(AddBatchRequest request) {
+        String path = CB_ITEM_BATCHES_PATH.replaceFirst(PLACEHOLDER, request.getCampaignId().toString());
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("strictValidation", request.getStrictValidation(), queryParams);
+        return client.postAsync(path, of(ResourceId.class), request, queryParams);
+    }
+
+    /**
+     * Get calls associated with call broadcast
+     *
+     * @param request request with properties to filter
+     * @return future of page with {@link Call} objects
+     * @see CallBroadcastsApi#findCalls(FindBroadcastCallsRequest)
+     */
+    public CompletableFuture<Page<Call>> findCalls(FindBroadcastCallsRequest request) {
+        String path = CB_ITEM_CALLS_PATH.replaceFirst(PLACEHOLDER, request.getId().toString());
+        return client.getAsync(path, pageOf(Call.class), request);
+    }
+
+    /**
+     * Get statistics on call broadcast
+     *
+     * @param id     call broadcast id
+     * @param fields limit fields returned. Example fields=id,name
+     * @param begin  begin date to filter
+     * @param end    end date to filter
+     * @return future of broadcast stats object
+     * @see CallBroadcastsApi#getStats(Long, String, Date, Date)
+     */
+    public CompletableFuture<CallBroadcastStats> getStats(Long id, String fields, Date begin, Date end) {
+        Validate.notNull(id, "id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(3);
+        addQueryParamIfSet("fields", fields, queryParams);
+        addQueryParamIfSet("begin", begin, queryParams);
+        addQueryParamIfSet("end", end, queryParams);
+        String path = CB_ITEM_STATS_PATH.replaceFirst(PLACEHOLDER, id.toString());
+        return client.getAsync(path, of(CallBroadcastStats.class), queryParams);
+    }
+
+    /**
+     * Start call broadcast
+     *
+     * @param id id of broadcast
+     * @return future which is completed once broadcast is started
+     * @see CallBroadcastsApi#start(Long)
+     */
+    public CompletableFuture<Void> start(Long id) {
+        Validate.notNull(id, "id cannot be null");
+        return client.<Void>postAsync(CB_ITEM_START_PATH.replaceFirst(PLACEHOLDER, id.toString()), null, null);
+    }
+
+    /**
+     * Stop call broadcast
+     *
+     * @param id id of broadcast
+     * @return future which is completed once broadcast is stopped
+     * @see CallBroadcastsApi#stop(Long)
+     */
+    public CompletableFuture<Void> stop(Long id) {
+        Validate.notNull(id, "id cannot be null");
+        return client.<Void>postAsync(CB_ITEM_STOP_PATH.replaceFirst(PLACEHOLDER, id.toString()), null, null);
+    }
+
+    /**
+     * Archive call broadcast
+     *
+     * @param id id of broadcast
+     * @return future which is completed once broadcast is archived
+     * @see CallBroadcastsApi#archive(Long)
+     */
+    public CompletableFuture<Void> archive(Long id) {
+        Validate.notNull(id, "id cannot be null");
+        return client.<Void>postAsync(CB_ITEM_ARCHIVE_PATH.replaceFirst(PLACEHOLDER, id.toString()), null, null);
+    }
+
+    /**
+     * Add recipients to call broadcast
+     *
+     * @param id         id of call broadcast
+     * @param recipients recipients to add
+     * @param fields     limit fields returned. E.g. fields=id,name or fields=items(id,name)
+     * @return future of list of {@link Call} for recipients
+     * @see CallBroadcastsApi#addRecipients(Long, List, String)
+     */
+    public CompletableFuture<List<Call>> addRecipients(Long id, List<Recipient> recipients, String fields) {
+        Validate.notNull(id, "id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("fields", fields, queryParams);
+        String path = CB_ITEM_RECIPIENTS_PATH.replaceFirst(PLACEHOLDER, id.toString());
+        return client.postAsync(path, listHolderOf(Call.class), recipients, queryParams)
+            .thenApply(AsyncRestApiClient.<Call>listHolderItems());
+    }
+
+    /**
+     * Add recipients to call broadcast
+     *
+     * @param request request with recipients and options
+     * @return future of list of {@link Call} for recipients
+     * @see CallBroadcastsApi#addRecipients(AddRecipientsRequest)
+     */
+    public CompletableFuture<List<Call>> addRecipients(AddRecipientsRequest request) {
+        String path = CB_ITEM_RECIPIENTS_PATH.replaceFirst(PLACEHOLDER, request.getCampaignId().toString());
+        return client.postAsync(path, listHolderOf(Call.class), request.getRecipients(), request)
+            .thenApply(AsyncRestApiClient.<Call>listHolderItems());
+    }
+}
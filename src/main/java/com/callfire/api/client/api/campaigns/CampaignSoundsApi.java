@@ -7,11 +7,14 @@ import com.callfire.api.client.api.campaigns.model.TextToSpeech;
 import com.callfire.api.client.api.campaigns.model.request.FindSoundsRequest;
 import com.callfire.api.client.api.common.model.Page;
 import com.callfire.api.client.api.common.model.ResourceId;
+import com.callfire.api.client.download.DownloadResult;
+import com.callfire.api.client.download.Downloads;
 import org.apache.commons.lang3.Validate;
 import org.apache.http.NameValuePair;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -366,4 +369,42 @@ public class CampaignSoundsApi {
         addQueryParamIfSet("fields", fields, queryParams);
         return client.post(SOUNDS_TTS_PATH, of(CampaignSound.class), textToSpeech, queryParams);
     }
+
+    /**
+     * Download the MP3 version of the hosted file and write it to file
+     *
+     * @param id     id of sound
+     * @param target file to write sound to, existing file is overwritten
+     * @return download result with number of bytes and throughput
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client or downloaded length doesn't match.
+     * @since 1.8
+     */
+    public DownloadResult downloadMp3(Long id, Path target) {
+        return Downloads.transfer(getMp3(id), target, null);
+    }
+
+    /**
+     * Download the WAV version of the hosted file and write it to file
+     *
+     * @param id     id of sound
+     * @param target file to write sound to, existing file is overwritten
+     * @return download result with number of bytes and throughput
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client or downloaded length doesn't match.
+     * @since 1.8
+     */
+    public DownloadResult downloadWav(Long id, Path target) {
+        return Downloads.transfer(getWav(id), target, null);
+    }
 }
@@ -18,6 +18,7 @@ import com.callfire.api.client.api.campaigns.model.request.*;
 import com.callfire.api.client.api.common.model.Page;
 import com.callfire.api.client.api.common.model.ResourceId;
 import com.callfire.api.client.api.common.model.request.GetByIdRequest;
+import com.callfire.api.client.paging.PagedIterable;
 import org.apache.commons.lang3.Validate;
 import org.apache.http.NameValuePair;
 
@@ -339,6 +340,20 @@ public class TextBroadcastsApi {
         return client.get(path, pageOf(Text.class), request);
     }
 
+    /**
+     * Finds all texts of text broadcast, pages are loaded lazily while returned iterable is consumed.
+     * Page size is taken from request's limit. API exceptions are thrown by iterator when page cannot be loaded,
+     * see {@link #findTexts(FindBroadcastTextsRequest)}
+     *
+     * @param request request with properties to filter
+     * @return lazy iterable over all matching {@link Text} objects
+     * @since 1.8
+     */
+    public PagedIterable<Text> findAllTexts(FindBroadcastTextsRequest request) {
+        String path = TB_ITEM_TEXTS_PATH.replaceFirst(PLACEHOLDER, request.getId().toString());
+        return client.getAll(path, pageOf(Text.class), request);
+    }
+
     /**
      * Get statistics on text broadcast
      *
@@ -0,0 +1,238 @@
+package com.callfire.api.client.api.common.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+
+/**
+ * Phone number in E.164 format packed into long. Numeric value of E.164 digits is used as packed form,
+ * E.164 numbers never start with 0 so the packed value is unambiguous.
+ * <p>
+ * Static methods encode and decode packed numbers without creating objects, so they can be used in
+ * tight loops and primitive collections:
+ * <pre>
+ * long number = PhoneNumber.encode("(213) 555-1100");  // 12135551100
+ * PhoneNumber.toDigits(number);                        // "12135551100", format used by API
+ * PhoneNumber.toE164(number);                          // "+12135551100"
+ * </pre>
+ * Parser accepts digits with optional leading '+' and space, '-', '.', '(' and ')' separators.
+ * Number of 10 digits without '+' is treated as NANP number without country code.
+ *
+ * @since 1.8
+ */
+public final class PhoneNumber implements Comparable<PhoneNumber>, Serializable {
+    /**
+     * Value returned by {@link #encode(CharSequence)} for invalid number
+     */
+    public static final long INVALID = -1;
+
+    private static final long serialVersionUID = 1L;
+    private static final int MIN_DIGITS = 7;
+    private static final int MAX_DIGITS = 15;
+    private static final int NANP_DIGITS = 10;
+    private static final long NANP_COUNTRY_CODE = 10_000_000_000L;
+    private static final long NANP_MIN = 12_000_000_000L;
+    private static final long NANP_MAX = 19_999_999_999L;
+    private static final long MIN_VALUE = 1_000_000L;
+    private static final long MAX_VALUE = 999_999_999_999_999L;
+
+    private final long value;
+
+    private PhoneNumber(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Parse phone number
+     *
+     * @param number phone number string
+     * @return phone number
+     * @throws IllegalArgumentException in case string isn't valid phone number
+     */
+    @JsonCreator
+    public static PhoneNumber parse(String number) {
+        long value = encode(number);
+        if (value == INVALID) {
+            throw new IllegalArgumentException("Invalid phone number: " + number);
+        }
+        return new PhoneNumber(value);
+    }
+
+    /**
+     * Create phone number from packed value
+     *
+     * @param value packed number
+     * @return phone number
+     * @throws IllegalArgumentException in case value isn't valid packed number
+     */
+    public static PhoneNumber of(long value) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("Invalid packed phone number: " + value);
+        }
+        return new PhoneNumber(value);
+    }
+
+    /**
+     * Encode phone number into packed long
+     *
+     * @param number phone number string
+     * @return packed number or {@link #INVALID} if string isn't valid phone number
+     */
+    public static long encode(CharSequence number) {
+        if (number == null) {
+            return INVALID;
+        }
+        long value = 0;
+        int digits = 0;
+        boolean plus = false;
+        for (int i = 0, length = number.length(); i < length; i++) {
+            char c = number.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == 0 && c == '0' || ++digits > MAX_DIGITS) {
+                    return INVALID;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c == '+') {
+                if (plus || digits > 0) {
+                    return INVALID;
+                }
+                plus = true;
+            } else if (c != ' ' && c != '-' && c != '.' && c != '(' && c != ')') {
+                return INVALID;
+            }
+        }
+        if (!plus && digits == NANP_DIGITS) {
+            // area code can't start with 1
+            value += NANP_COUNTRY_CODE;
+            return value >= NANP_MIN ? value : INVALID;
+        }
+        return digits >= MIN_DIGITS ? value : INVALID;
+    }
+
+    /**
+     * Check if value is valid packed number
+     *
+     * @param value packed number
+     * @return true if value has 7 to 15 digits
+     */
+    public static boolean isValid(long value) {
+        return value >= MIN_VALUE && value <= MAX_VALUE;
+    }
+
+    /**
+     * Check if packed number belongs to North American Numbering Plan
+     *
+     * @param value packed number
+     * @return true if number has country code 1 followed by 10 digits
+     */
+    public static boolean isNanp(long value) {
+        return value >= NANP_MIN && value <= NANP_MAX;
+    }
+
+    /**
+     * Convert packed number to digits string used by API, e.g. 12135551100
+     *
+     * @param value packed number
+     * @return digits of number
+     */
+    public static String toDigits(long value) {
+        return format(value, false);
+    }
+
+    /**
+     * Convert packed number to E.164 string, e.g. +12135551100
+     *
+     * @param value packed number
+     * @return E.164 formatted number
+     */
+    public static String toE164(long value) {
+        return format(value, true);
+    }
+
+    /**
+     * Hash packed number, spreads sequential numbers evenly over hash table buckets
+     *
+     * @param value packed number
+     * @return hash code
+     */
+    public static int hash(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        return (int) (value ^ value >>> 32);
+    }
+
+    private static String format(long value, boolean plus) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("Invalid packed phone number: " + value);
+        }
+        char[] chars = new char[MAX_DIGITS + 1];
+        int position = chars.length;
+        do {
+            chars[--position] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        if (plus) {
+            chars[--position] = '+';
+        }
+        return new String(chars, position, chars.length - position);
+    }
+
+    /**
+     * Get packed number
+     *
+     * @return packed number
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Check if number belongs to North American Numbering Plan
+     *
+     * @return true if NANP number
+     */
+    public boolean isNanp() {
+        return isNanp(value);
+    }
+
+    /**
+     * Get digits of number in format used by API
+     *
+     * @return digits of number
+     */
+    @JsonValue
+    public String toDigits() {
+        return toDigits(value);
+    }
+
+    /**
+     * Get number in E.164 format
+     *
+     * @return E.164 formatted number
+     */
+    public String toE164() {
+        return toE164(value);
+    }
+
+    @Override
+    public int compareTo(PhoneNumber o) {
+        return Long.compare(value, o.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof PhoneNumber && value == ((PhoneNumber) o).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return toE164();
+    }
+}
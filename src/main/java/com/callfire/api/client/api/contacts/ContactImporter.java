@@ -0,0 +1,347 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.api.common.model.ResourceId;
+import com.callfire.api.client.api.contacts.model.Contact;
+import com.callfire.api.client.api.contacts.model.request.AddContactListItemsRequest;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Imports large number of contacts in chunks. Source is read lazily, each chunk is sent with separate request
+ * on provided executor and number of requests in flight is bounded, so neither whole source nor all results
+ * are kept in memory.
+ * <pre>
+ * ContactImporter importer = ContactImporter.forContacts(client.contactsApi())
+ *     .chunkSize(1000)
+ *     .maxInFlight(4)
+ *     .executor(executor)
+ *     .build();
+ * Iterator&lt;ContactImporter.ChunkResult&gt; results = importer.importAll(contacts);
+ * while (results.hasNext()) {
+ *     ContactImporter.ChunkResult chunk = results.next();
+ *     if (chunk.isFailed()) {
+ *         failed.add(chunk);
+ *     }
+ * }
+ * </pre>
+ * Results are returned in source order, more chunks are sent while results are consumed. Failed chunk doesn't
+ * stop import, its result holds the error and contacts which can be imported again, while
+ * {@link ChunkResult#getOffset()} allows to resume interrupted import by skipping already imported part of source.
+ *
+ * @since 1.8
+ */
+public class ContactImporter {
+    private static final Logger LOGGER = new Logger(ContactImporter.class);
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    private final ChunkSender sender;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final Executor executor;
+
+    private ContactImporter(Builder builder) {
+        this.sender = builder.sender;
+        this.chunkSize = builder.chunkSize;
+        this.maxInFlight = builder.maxInFlight;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Create builder of importer which creates contacts through /contacts endpoint
+     *
+     * @param api contacts api
+     * @return importer builder
+     */
+    public static Builder forContacts(final ContactsApi api) {
+        Validate.notNull(api, "api cannot be null");
+        return new Builder(new ChunkSender() {
+            @Override
+            public List<ResourceId> send(List<Contact> contacts) {
+                return api.create(contacts);
+            }
+        });
+    }
+
+    /**
+     * Create builder of importer which adds contacts to existing contact list, ids of created contacts
+     * aren't returned by this endpoint
+     *
+     * @param api           contact lists api
+     * @param contactListId id of contact list
+     * @return importer builder
+     */
+    public static Builder forContactList(final ContactListsApi api, final Long contactListId) {
+        Validate.notNull(api, "api cannot be null");
+        Validate.notNull(contactListId, "contactListId cannot be null");
+        return new Builder(new ChunkSender() {
+            @Override
+            public List<ResourceId> send(List<Contact> contacts) {
+                api.addListItems(AddContactListItemsRequest.<Contact>create()
+                    .contactListId(contactListId)
+                    .contacts(contacts)
+                    .build());
+                return Collections.emptyList();
+            }
+        });
+    }
+
+    /**
+     * Imports contacts, source iterator is read in calling thread while results are consumed
+     *
+     * @param contacts source of contacts
+     * @return lazy iterator over results of chunks in source order
+     * @throws CallfireClientException in case thread is interrupted while waiting for chunk result
+     */
+    public Iterator<ChunkResult> importAll(Iterator<Contact> contacts) {
+        Validate.notNull(contacts, "contacts cannot be null");
+        return new ImportIterator(contacts);
+    }
+
+    /**
+     * Imports contacts from stream, see {@link #importAll(Iterator)}
+     *
+     * @param contacts source of contacts
+     * @return lazy sequential stream of chunk results in source order
+     */
+    public Stream<ChunkResult> importAll(Stream<Contact> contacts) {
+        Validate.notNull(contacts, "contacts cannot be null");
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(importAll(contacts.iterator()),
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private class ImportIterator implements Iterator<ChunkResult> {
+        private final Iterator<Contact> source;
+        private final Deque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+        private int nextIndex;
+        private long nextOffset;
+
+        ImportIterator(Iterator<Contact> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !inFlight.isEmpty();
+        }
+
+        @Override
+        public ChunkResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ChunkResult result = await(inFlight.poll());
+            fill();
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+
+        private void fill() {
+            while (inFlight.size() < maxInFlight && source.hasNext()) {
+                final List<Contact> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && source.hasNext()) {
+                    chunk.add(source.next());
+                }
+                final int index = nextIndex++;
+                final long offset = nextOffset;
+                nextOffset += chunk.size();
+                inFlight.add(CompletableFuture.supplyAsync(new Supplier<ChunkResult>() {
+                    @Override
+                    public ChunkResult get() {
+                        return sendChunk(index, offset, chunk);
+                    }
+                }, executor));
+            }
+        }
+
+        private ChunkResult await(Future<ChunkResult> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CallfireClientException("Interrupted while waiting for import of contacts", e);
+            } catch (ExecutionException e) {
+                // sendChunk doesn't throw, executor rejected or cancelled task
+                throw new CallfireClientException(e.getCause());
+            }
+        }
+    }
+
+    private ChunkResult sendChunk(int index, long offset, List<Contact> contacts) {
+        LOGGER.debug("importing chunk {} of {} contacts at offset {}", index, contacts.size(), offset);
+        try {
+            List<ResourceId> ids = sender.send(contacts);
+            return new ChunkResult(index, offset, contacts, ids == null ? Collections.<ResourceId>emptyList() : ids,
+                null);
+        } catch (RuntimeException e) {
+            LOGGER.warn("import of chunk {} at offset {} failed: {}", index, offset, e);
+            return new ChunkResult(index, offset, contacts, Collections.<ResourceId>emptyList(), e);
+        }
+    }
+
+    /**
+     * Result of single chunk import
+     */
+    public static class ChunkResult {
+        private final int index;
+        private final long offset;
+        private final List<Contact> contacts;
+        private final List<ResourceId> ids;
+        private final RuntimeException error;
+
+        ChunkResult(int index, long offset, List<Contact> contacts, List<ResourceId> ids, RuntimeException error) {
+            this.index = index;
+            this.offset = offset;
+            this.contacts = contacts;
+            this.ids = ids;
+            this.error = error;
+        }
+
+        /**
+         * Get sequence number of chunk starting from 0
+         *
+         * @return chunk index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Get position of first contact of chunk in source
+         *
+         * @return offset of chunk
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Get contacts sent in chunk, use them to import failed chunk again
+         *
+         * @return chunk contacts
+         */
+        public List<Contact> getContacts() {
+            return contacts;
+        }
+
+        /**
+         * Get ids of created contacts, empty if chunk failed or endpoint doesn't return ids
+         *
+         * @return ids of created contacts
+         */
+        public List<ResourceId> getIds() {
+            return ids;
+        }
+
+        /**
+         * Get exception which was thrown by API call
+         *
+         * @return error or null if chunk was imported
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+
+        public boolean isFailed() {
+            return error != null;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                .append("index", index)
+                .append("offset", offset)
+                .append("contacts", contacts.size())
+                .append("ids", ids.size())
+                .append("error", error)
+                .toString();
+        }
+    }
+
+    /**
+     * Builder of {@link ContactImporter}
+     */
+    public static class Builder {
+        private final ChunkSender sender;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+        private Executor executor;
+
+        private Builder(ChunkSender sender) {
+            this.sender = sender;
+        }
+
+        /**
+         * Set number of contacts sent in one request, default is 1000
+         *
+         * @param chunkSize chunk size
+         * @return builder self reference
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Set max number of chunk requests in flight, default is 4
+         *
+         * @param maxInFlight max concurrent requests
+         * @return builder self reference
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Set executor which sends chunks
+         *
+         * @param executor executor
+         * @return builder self reference
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Build importer
+         *
+         * @return importer
+         */
+        public ContactImporter build() {
+            Validate.isTrue(chunkSize > 0, "chunkSize must be positive");
+            Validate.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+            Validate.notNull(executor, "executor cannot be null");
+            return new ContactImporter(this);
+        }
+    }
+
+    private interface ChunkSender {
+        List<ResourceId> send(List<Contact> contacts);
+    }
+}
@@ -10,14 +10,24 @@ import com.callfire.api.client.api.contacts.model.request.AddContactListItemsReq
 import com.callfire.api.client.api.contacts.model.request.CreateContactListRequest;
 import com.callfire.api.client.api.contacts.model.request.FindContactListsRequest;
 import com.callfire.api.client.api.contacts.model.request.UpdateContactListRequest;
+import com.callfire.api.client.paging.PagedIterable;
 import org.apache.commons.lang3.Validate;
+import org.apache.http.Consts;
 import org.apache.http.NameValuePair;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.content.ContentBody;
+import org.apache.http.entity.mime.content.InputStreamBody;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static com.callfire.api.client.ClientConstants.PLACEHOLDER;
 import static com.callfire.api.client.ClientUtils.addQueryParamIfSet;
@@ -36,6 +46,8 @@ public class ContactListsApi {
     private static final String LISTS_ITEMS_PATH = "/contacts/lists/{}/items";
     private static final String LISTS_ITEMS_CONTACT_PATH = "/contacts/lists/{}/items/{}";
 
+    private static final ContentType CSV_CONTENT_TYPE = ContentType.create("text/csv", Consts.UTF_8);
+
     private RestApiClient client;
 
     public ContactListsApi(RestApiClient client) {
@@ -151,6 +163,81 @@ public class ContactListsApi {
         return client.postFile(LISTS_UPLOAD_PATH, of(ResourceId.class), params);
     }
 
+    /**
+     * Create contact list from CSV content read from stream. Stream is sent chunked as it is read,
+     * so content isn't buffered in memory or spilled to disk. Stream is closed once it is sent.
+     *
+     * @param name            contact list name
+     * @param csv             stream with CSV content
+     * @param useCustomFields A flag to indicate how to define property names for contacts. If true, uses the field and property names exactly as defined. If false will assign custom properties and fields to A, B, C, etc
+     * @return {@link ResourceId} with id of created contact list
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client.
+     * @since 1.8
+     */
+    public ResourceId createFromCsv(String name, InputStream csv, Boolean useCustomFields) {
+        Validate.notNull(csv, "csv cannot be null");
+        return uploadCsv(name, new InputStreamBody(csv, CSV_CONTENT_TYPE, name + ".csv"), useCustomFields);
+    }
+
+    /**
+     * Create contact list from CSV content read from channel, see {@link #createFromCsv(String, InputStream, Boolean)}
+     *
+     * @param name            contact list name
+     * @param csv             channel with CSV content
+     * @param useCustomFields A flag to indicate how to define property names for contacts. If true, uses the field and property names exactly as defined. If false will assign custom properties and fields to A, B, C, etc
+     * @return {@link ResourceId} with id of created contact list
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client.
+     * @since 1.8
+     */
+    public ResourceId createFromCsv(String name, ReadableByteChannel csv, Boolean useCustomFields) {
+        Validate.notNull(csv, "csv cannot be null");
+        return createFromCsv(name, Channels.newInputStream(csv), useCustomFields);
+    }
+
+    /**
+     * Create contact list from contacts which are written as CSV rows while request is being sent. Contacts
+     * are pulled from iterator one by one, so their number isn't limited by memory. Iterator is requested
+     * from supplier each time body is written. Columns of custom properties are taken from the first contact.
+     *
+     * @param name            contact list name
+     * @param contacts        supplier of contacts iterator, e.g. database cursor
+     * @param useCustomFields A flag to indicate how to define property names for contacts. If true, uses the field and property names exactly as defined. If false will assign custom properties and fields to A, B, C, etc
+     * @return {@link ResourceId} with id of created contact list
+     * @throws BadRequestException          in case HTTP response code is 400 - Bad request, the request was formatted improperly.
+     * @throws UnauthorizedException        in case HTTP response code is 401 - Unauthorized, API Key missing or invalid.
+     * @throws AccessForbiddenException     in case HTTP response code is 403 - Forbidden, insufficient permissions.
+     * @throws ResourceNotFoundException    in case HTTP response code is 404 - NOT FOUND, the resource requested does not exist.
+     * @throws InternalServerErrorException in case HTTP response code is 500 - Internal Server Error.
+     * @throws CallfireApiException         in case HTTP response code is something different from codes listed above.
+     * @throws CallfireClientException      in case error has occurred in client.
+     * @since 1.8
+     */
+    public ResourceId createFromCsv(String name, Supplier<? extends Iterator<Contact>> contacts,
+        Boolean useCustomFields) {
+        Validate.notNull(contacts, "contacts cannot be null");
+        return uploadCsv(name, new ContactsCsvBody(contacts, name + ".csv"), useCustomFields);
+    }
+
+    private ResourceId uploadCsv(String name, ContentBody body, Boolean useCustomFields) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("file", body);
+        params.put("name", name);
+        params.put("useCustomFields", useCustomFields);
+        return client.postFile(LISTS_UPLOAD_PATH, of(ResourceId.class), params);
+    }
+
     /**
      * Get contact list by id
      *
@@ -242,6 +329,21 @@ public class ContactListsApi {
         return client.get(path, pageOf(Contact.class), request);
     }
 
+    /**
+     * Get all contacts of contact list, pages are loaded lazily while returned iterable is consumed.
+     * Page size is taken from request's limit. API exceptions are thrown by iterator when page cannot be loaded,
+     * see {@link #getListItems(GetByIdRequest)}
+     *
+     * @param request get request with contact list id
+     * @return lazy iterable over all {@link Contact} objects of list
+     * @since 1.8
+     */
+    public PagedIterable<Contact> getAllListItems(GetByIdRequest request) {
+        Validate.notNull(request.getId(), "request.id cannot be null");
+        String path = LISTS_ITEMS_PATH.replaceFirst(PLACEHOLDER, request.getId().toString());
+        return client.getAll(path, pageOf(Contact.class), request);
+    }
+
     /**
      * Add contact list items to list
      *
@@ -7,6 +7,7 @@ import com.callfire.api.client.api.common.model.request.GetByIdRequest;
 import com.callfire.api.client.api.contacts.model.Contact;
 import com.callfire.api.client.api.contacts.model.ContactHistory;
 import com.callfire.api.client.api.contacts.model.request.FindContactsRequest;
+import com.callfire.api.client.paging.PagedIterable;
 import org.apache.commons.lang3.Validate;
 import org.apache.http.NameValuePair;
 
@@ -23,9 +24,9 @@ import static com.callfire.api.client.ModelType.*;
  * @since 1.0
  */
 public class ContactsApi {
-    private static final String CONTACTS_PATH = "/contacts";
-    private static final String CONTACTS_ITEM_PATH = "/contacts/{}";
-    private static final String CONTACTS_ITEM_HISTORY_PATH = "/contacts/{}/history";
+    static final String CONTACTS_PATH = "/contacts";
+    static final String CONTACTS_ITEM_PATH = "/contacts/{}";
+    static final String CONTACTS_ITEM_HISTORY_PATH = "/contacts/{}/history";
 
     private RestApiClient client;
 
@@ -50,6 +51,19 @@ public class ContactsApi {
         return client.get(CONTACTS_PATH, pageOf(Contact.class), request);
     }
 
+    /**
+     * Finds all contacts matching request, pages are loaded lazily while returned iterable is consumed.
+     * Page size is taken from request's limit. API exceptions are thrown by iterator when page cannot be loaded,
+     * see {@link #find(FindContactsRequest)}
+     *
+     * @param request request object with different fields to filter
+     * @return lazy iterable over all matching {@link Contact} objects
+     * @since 1.8
+     */
+    public PagedIterable<Contact> findAll(FindContactsRequest request) {
+        return client.getAll(CONTACTS_PATH, pageOf(Contact.class), request);
+    }
+
     /**
      * Create contacts in the CallFire system. These contacts are not validated on creation.
      * They will be validated upon being added to a campaign.
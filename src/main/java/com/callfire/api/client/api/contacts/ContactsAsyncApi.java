@@ -0,0 +1,123 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.AsyncRestApiClient;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.common.model.ResourceId;
+import com.callfire.api.client.api.common.model.request.GetByIdRequest;
+import com.callfire.api.client.api.contacts.model.Contact;
+import com.callfire.api.client.api.contacts.model.ContactHistory;
+import com.callfire.api.client.api.contacts.model.request.FindContactsRequest;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.NameValuePair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.callfire.api.client.ClientConstants.PLACEHOLDER;
+import static com.callfire.api.client.ClientUtils.addQueryParamIfSet;
+import static com.callfire.api.client.ModelType.*;
+import static com.callfire.api.client.api.contacts.ContactsApi.*;
+
+/**
+ * Non-blocking version of {@link ContactsApi}, represents rest endpoint /contacts.
+ * Each method returns {@link CompletableFuture} which is completed exceptionally with the same
+ * exceptions that are thrown by corresponding method of {@link ContactsApi}.
+ *
+ * @since 1.8
+ */
+public class ContactsAsyncApi {
+    private AsyncRestApiClient client;
+
+    public ContactsAsyncApi(AsyncRestApiClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Find contacts by id, contact list, or on any property name
+     *
+     * @param request request object with different fields to filter
+     * @return future of page with {@link Contact} objects
+     * @see ContactsApi#find(FindContactsRequest)
+     */
+    public CompletableFuture<Page<Contact>> find(FindContactsRequest request) {
+        return client.getAsync(CONTACTS_PATH, pageOf(Contact.class), request);
+    }
+
+    /**
+     * Create contacts in the CallFire system
+     *
+     * @param contacts contacts to create
+     * @return future of list of ids of newly created contacts
+     * @see ContactsApi#create(List)
+     */
+    public CompletableFuture<List<ResourceId>> create(List<Contact> contacts) {
+        return client.postAsync(CONTACTS_PATH, listHolderOf(ResourceId.class), contacts)
+            .thenApply(AsyncRestApiClient.<ResourceId>listHolderItems());
+    }
+
+    /**
+     * Get contact by id
+     *
+     * @param id id of contact
+     * @return future of contact object
+     * @see ContactsApi#get(Long)
+     */
+    public CompletableFuture<Contact> get(Long id) {
+        return get(id, null);
+    }
+
+    /**
+     * Get contact by id
+     *
+     * @param id     id of contact
+     * @param fields limit fields returned. Example fields=id,name
+     * @return future of contact object
+     * @see ContactsApi#get(Long, String)
+     */
+    public CompletableFuture<Contact> get(Long id, String fields) {
+        Validate.notNull(id, "id cannot be null");
+        List<NameValuePair> queryParams = new ArrayList<>(1);
+        addQueryParamIfSet("fields", fields, queryParams);
+        String path = CONTACTS_ITEM_PATH.replaceFirst(PLACEHOLDER, id.toString());
+        return client.getAsync(path, of(Contact.class), queryParams);
+    }
+
+    /**
+     * Update contact
+     *
+     * @param contact contact to update
+     * @return future which is completed once contact is updated
+     * @see ContactsApi#update(Contact)
+     */
+    public CompletableFuture<Void> update(Contact contact) {
+        Validate.notNull(contact.getId(), "contact.id cannot be null");
+        String path = CONTACTS_ITEM_PATH.replaceFirst(PLACEHOLDER, contact.getId().toString());
+        return client.<Void>putAsync(path, null, contact);
+    }
+
+    /**
+     * Delete contact by id
+     *
+     * @param id contact id
+     * @return future which is completed once contact is deleted
+     * @see ContactsApi#delete(Long)
+     */
+    public CompletableFuture<Void> delete(Long id) {
+        Validate.notNull(id, "id cannot be null");
+        return client.deleteAsync(CONTACTS_ITEM_PATH.replaceFirst(PLACEHOLDER, id.toString()));
+    }
+
+    /**
+     * Find all texts and calls attributed to a contact
+     *
+     * @param request request to get particular contact's history
+     * @return future of contact history
+     * @see ContactsApi#getHistory(GetByIdRequest)
+     */
+    public CompletableFuture<ContactHistory> getHistory(GetByIdRequest request) {
+        Validate.notNull(request.getId(), "request.id cannot be null");
+        String path = CONTACTS_ITEM_HISTORY_PATH.replaceFirst(PLACEHOLDER, request.getId().toString());
+        return client.getAsync(path, of(ContactHistory.class), request);
+    }
+}
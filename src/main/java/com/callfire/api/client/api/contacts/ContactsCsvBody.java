@@ -0,0 +1,135 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.api.contacts.model.Contact;
+import org.apache.http.Consts;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Multipart body which writes contacts as CSV rows while request is being sent, contacts are pulled
+ * from iterator one by one so memory usage doesn't depend on number of contacts. Custom property columns
+ * are taken from the first contact.
+ *
+ * @since 1.8
+ */
+class ContactsCsvBody extends AbstractContentBody {
+    private static final String[] STANDARD_COLUMNS = {"firstName", "lastName", "zipcode", "homePhone", "workPhone",
+        "mobilePhone", "externalId", "externalSystem"};
+
+    private final Supplier<? extends Iterator<Contact>> contacts;
+    private final String filename;
+
+    ContactsCsvBody(Supplier<? extends Iterator<Contact>> contacts, String filename) {
+        super(ContentType.create("text/csv", Consts.UTF_8));
+        this.contacts = contacts;
+        this.filename = filename;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        Iterator<Contact> iterator = contacts.get();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, Consts.UTF_8));
+        List<String> properties = new ArrayList<>();
+        boolean first = true;
+        while (iterator.hasNext()) {
+            Contact contact = iterator.next();
+            if (first) {
+                first = false;
+                if (contact.getProperties() != null) {
+                    properties.addAll(new TreeSet<>(contact.getProperties().keySet()));
+                }
+                writeHeader(writer, properties);
+            }
+            writeRow(writer, contact, properties);
+        }
+        // connection stream is closed by HTTP client
+        writer.flush();
+    }
+
+    @Override
+    public String getTransferEncoding() {
+        return MIME.ENC_BINARY;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    private static void writeHeader(Writer writer, List<String> properties) throws IOException {
+        for (int i = 0; i < STANDARD_COLUMNS.length; i++) {
+            writer.write(i == 0 ? "" : ",");
+            writer.write(STANDARD_COLUMNS[i]);
+        }
+        for (String property : properties) {
+            writer.write(',');
+            writeValue(writer, property);
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeRow(Writer writer, Contact contact, List<String> properties) throws IOException {
+        writeValue(writer, contact.getFirstName());
+        writer.write(',');
+        writeValue(writer, contact.getLastName());
+        writer.write(',');
+        writeValue(writer, contact.getZipcode());
+        writer.write(',');
+        writeValue(writer, contact.getHomePhone());
+        writer.write(',');
+        writeValue(writer, contact.getWorkPhone());
+        writer.write(',');
+        writeValue(writer, contact.getMobilePhone());
+        writer.write(',');
+        writeValue(writer, contact.getExternalId());
+        writer.write(',');
+        writeValue(writer, contact.getExternalSystem());
+        for (String property : properties) {
+            writer.write(',');
+            writeValue(writer, contact.getProperties() == null ? null : contact.getProperties().get(property));
+        }
+        writer.write("\r\n");
+    }
+
+    // quotes values according to RFC 4180
+    private static void writeValue(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -8,6 +8,7 @@ import com.callfire.api.client.api.contacts.model.request.CreateDncsRequest;
 import com.callfire.api.client.api.contacts.model.request.FindDncNumbersRequest;
 import com.callfire.api.client.api.contacts.model.request.FindUniversalDncsRequest;
 import com.callfire.api.client.api.contacts.model.request.UpdateDncRequest;
+import com.callfire.api.client.paging.PagedIterable;
 import org.apache.commons.lang3.Validate;
 
 import java.util.List;
@@ -51,6 +52,19 @@ public class DncApi {
         return client.get(DNC_PATH, pageOf(DoNotContact.class), request);
     }
 
+    /**
+     * Finds all do not contact (DNC) entries matching request, pages are loaded lazily while returned iterable
+     * is consumed. Page size is taken from request's limit. API exceptions are thrown by iterator when page cannot
+     * be loaded, see {@link #find(FindDncNumbersRequest)}
+     *
+     * @param request request object with different fields to filter
+     * @return lazy iterable over all matching {@link DoNotContact} objects
+     * @since 1.8
+     */
+    public PagedIterable<DoNotContact> findAll(FindDncNumbersRequest request) {
+        return client.getAll(DNC_PATH, pageOf(DoNotContact.class), request);
+    }
+
     /**
      * Get do not contact (dnc).
      *
@@ -0,0 +1,348 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.api.campaigns.model.Recipient;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.common.model.PhoneNumber;
+import com.callfire.api.client.api.contacts.model.DoNotContact;
+import com.callfire.api.client.api.contacts.model.request.FindDncNumbersRequest;
+import com.callfire.api.client.paging.PageHandler;
+import com.callfire.api.client.paging.PagedIterable;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Local copy of account's do not contact list which allows to scrub recipients before they are sent
+ * to /texts or /calls endpoint without request per number.
+ * <pre>
+ * DncIndex index = DncIndex.create(client.dncApi()).build();
+ * index.load();
+ * client.textsApi().send(index.filterForTexts(recipients));
+ * ...
+ * index.refresh();
+ * </pre>
+ * Numbers are kept as {@link PhoneNumber} packed longs in a sorted array with call and text flags
+ * in the lowest bits, lookup is a binary search without allocation. Entry with unset call or text flag blocks both
+ * channels. Readers always see consistent snapshot, {@link #load()} and {@link #refresh()} build new
+ * snapshot and swap it.
+ * <p>
+ * /contacts/dncs endpoint can't filter by creation time, so {@link #refresh()} still pages whole list
+ * with reduced set of fields, but only entries created after the newest already indexed entry are
+ * merged into the index. Deleted entries and changed flags are picked up by {@link #load()}.
+ *
+ * @since 1.8
+ */
+public class DncIndex {
+    private static final Logger LOGGER = new Logger(DncIndex.class);
+    private static final long DEFAULT_PAGE_SIZE = 1000;
+    // limit is needed to detect that server clamped requested page size
+    private static final String FIELDS = "items(number,call,text,created),limit,totalCount";
+    private static final int CALL = 1;
+    private static final int TEXT = 2;
+    private static final int FLAG_BITS = 2;
+
+    private final DncApi api;
+    private final long pageSize;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private volatile Snapshot snapshot = new Snapshot(new long[0], Long.MIN_VALUE);
+
+    private DncIndex(Builder builder) {
+        this.api = builder.api;
+        this.pageSize = builder.pageSize;
+        this.executor = builder.executor;
+        this.maxConcurrency = builder.maxConcurrency;
+    }
+
+    /**
+     * Create index builder
+     *
+     * @param api dnc api
+     * @return index builder
+     */
+    public static Builder create(DncApi api) {
+        Validate.notNull(api, "api cannot be null");
+        return new Builder(api);
+    }
+
+    /**
+     * Load whole do not contact list replacing current index
+     *
+     * @return number of indexed numbers
+     * @throws com.callfire.api.client.CallfireApiException    in case page cannot be loaded
+     * @throws com.callfire.api.client.CallfireClientException in case error has occurred in client
+     */
+    public synchronized int load() {
+        EntryCollector collector = new EntryCollector(Long.MIN_VALUE);
+        fetch(collector);
+        snapshot = new Snapshot(collector.toSortedEntries(), collector.lastCreated);
+        LOGGER.debug("loaded {} dnc numbers, skipped invalid: {}", snapshot.entries.length, collector.invalid);
+        return snapshot.entries.length;
+    }
+
+    /**
+     * Merge entries created after the newest indexed entry
+     *
+     * @return number of merged entries
+     * @throws com.callfire.api.client.CallfireApiException    in case page cannot be loaded
+     * @throws com.callfire.api.client.CallfireClientException in case error has occurred in client
+     */
+    public synchronized int refresh() {
+        Snapshot current = snapshot;
+        EntryCollector collector = new EntryCollector(current.lastCreated);
+        fetch(collector);
+        long[] delta = collector.toSortedEntries();
+        if (delta.length > 0) {
+            snapshot = new Snapshot(merge(current.entries, delta), Math.max(current.lastCreated,
+                collector.lastCreated));
+        }
+        LOGGER.debug("merged {} new dnc numbers", delta.length);
+        return delta.length;
+    }
+
+    /**
+     * Get number of indexed numbers
+     *
+     * @return index size
+     */
+    public int size() {
+        return snapshot.entries.length;
+    }
+
+    /**
+     * Check if number must not be called
+     *
+     * @param number phone number
+     * @return true if number is in do not contact list for calls
+     */
+    public boolean isCallBlocked(String number) {
+        return (flags(number) & CALL) != 0;
+    }
+
+    /**
+     * Check if number must not be texted
+     *
+     * @param number phone number
+     * @return true if number is in do not contact list for texts
+     */
+    public boolean isTextBlocked(String number) {
+        return (flags(number) & TEXT) != 0;
+    }
+
+    /**
+     * Remove recipients which must not be called, recipients without phone number are kept
+     *
+     * @param recipients recipients
+     * @param <R>        type of recipient
+     * @return new list of recipients allowed to call
+     */
+    public <R extends Recipient> List<R> filterForCalls(List<R> recipients) {
+        return filter(recipients, CALL);
+    }
+
+    /**
+     * Remove recipients which must not be texted, recipients without phone number are kept
+     *
+     * @param recipients recipients
+     * @param <R>        type of recipient
+     * @return new list of recipients allowed to text
+     */
+    public <R extends Recipient> List<R> filterForTexts(List<R> recipients) {
+        return filter(recipients, TEXT);
+    }
+
+    private <R extends Recipient> List<R> filter(List<R> recipients, int flag) {
+        Snapshot current = snapshot;
+        List<R> allowed = new ArrayList<>(recipients.size());
+        for (R recipient : recipients) {
+            if ((current.flags(PhoneNumber.encode(recipient.getPhoneNumber())) & flag) == 0) {
+                allowed.add(recipient);
+            }
+        }
+        return allowed;
+    }
+
+    private int flags(String number) {
+        return snapshot.flags(PhoneNumber.encode(number));
+    }
+
+    private void fetch(final EntryCollector collector) {
+        FindDncNumbersRequest request = FindDncNumbersRequest.create()
+            .limit(pageSize)
+            .fields(FIELDS)
+            .build();
+        PagedIterable<DoNotContact> all = api.findAll(request);
+        if (executor == null) {
+            for (DoNotContact dnc : all) {
+                collector.add(dnc);
+            }
+            return;
+        }
+        all.parallel(executor, maxConcurrency).loadAll(new PageHandler<DoNotContact>() {
+            @Override
+            public void handle(Page<DoNotContact> page) {
+                if (page.getItems() != null) {
+                    for (DoNotContact dnc : page.getItems()) {
+                        collector.add(dnc);
+                    }
+                }
+            }
+        }, false);
+    }
+
+    // sorted merge of two sorted arrays with unique numbers, flags of the same number are combined
+    static long[] merge(long[] left, long[] right) {
+        long[] merged = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length || j < right.length) {
+            long next;
+            if (j == right.length || i < left.length && left[i] >>> FLAG_BITS < right[j] >>> FLAG_BITS) {
+                next = left[i++];
+            } else if (i == left.length || right[j] >>> FLAG_BITS < left[i] >>> FLAG_BITS) {
+                next = right[j++];
+            } else {
+                next = left[i++] | right[j++];
+            }
+            merged[size++] = next;
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * Builder of {@link DncIndex}
+     */
+    public static class Builder {
+        private final DncApi api;
+        private long pageSize = DEFAULT_PAGE_SIZE;
+        private Executor executor;
+        private int maxConcurrency = 1;
+
+        private Builder(DncApi api) {
+            this.api = api;
+        }
+
+        /**
+         * Set number of entries requested per page, default is 1000
+         *
+         * @param pageSize page size
+         * @return builder self reference
+         */
+        public Builder pageSize(long pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Load pages concurrently on given executor, by default pages are loaded sequentially
+         * in calling thread
+         *
+         * @param executor       executor which runs page requests
+         * @param maxConcurrency max number of page requests in flight
+         * @return builder self reference
+         */
+        public Builder parallel(Executor executor, int maxConcurrency) {
+            this.executor = executor;
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Build index, index is empty until {@link DncIndex#load()} is called
+         *
+         * @return index
+         */
+        public DncIndex build() {
+            Validate.isTrue(pageSize > 0, "pageSize must be positive");
+            Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+            return new DncIndex(this);
+        }
+    }
+
+    private static class Snapshot {
+        private final long[] entries;
+        private final long lastCreated;
+
+        Snapshot(long[] entries, long lastCreated) {
+            this.entries = entries;
+            this.lastCreated = lastCreated;
+        }
+
+        int flags(long number) {
+            if (number == PhoneNumber.INVALID) {
+                return 0;
+            }
+            int low = 0;
+            int high = entries.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long value = entries[mid] >>> FLAG_BITS;
+                if (value < number) {
+                    low = mid + 1;
+                } else if (value > number) {
+                    high = mid - 1;
+                } else {
+                    return (int) entries[mid] & (CALL | TEXT);
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Collects entries created after given time into growable primitive array
+     */
+    private static class EntryCollector {
+        private final long createdAfter;
+        private long[] entries = new long[1024];
+        private int size;
+        private long lastCreated;
+        private int invalid;
+
+        EntryCollector(long createdAfter) {
+            this.createdAfter = createdAfter;
+            this.lastCreated = createdAfter;
+        }
+
+        void add(DoNotContact dnc) {
+            long created = dnc.getCreated() == null ? Long.MIN_VALUE : dnc.getCreated().getTime();
+            // entries without creation time can't be skipped, merging them again is harmless
+            if (dnc.getCreated() != null && created <= createdAfter) {
+                return;
+            }
+            long number = PhoneNumber.encode(dnc.getNumber());
+            if (number == PhoneNumber.INVALID) {
+                invalid++;
+                return;
+            }
+            int flags = (Boolean.FALSE.equals(dnc.getCall()) ? 0 : CALL)
+                | (Boolean.FALSE.equals(dnc.getText()) ? 0 : TEXT);
+            if (flags == 0) {
+                return;
+            }
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = number << FLAG_BITS | flags;
+            lastCreated = Math.max(lastCreated, created);
+        }
+
+        long[] toSortedEntries() {
+            Arrays.sort(entries, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique > 0 && entries[unique - 1] >>> FLAG_BITS == entries[i] >>> FLAG_BITS) {
+                    entries[unique - 1] |= entries[i];
+                } else {
+                    entries[unique++] = entries[i];
+                }
+            }
+            return Arrays.copyOf(entries, unique);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.api.common.model.PhoneNumber;
+import com.callfire.api.client.api.contacts.model.UniversalDnc;
+import com.callfire.api.client.api.contacts.model.request.FindUniversalDncsRequest;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bloom filter of numbers which have universal do not contact entries, used to skip
+ * {@link DncApi#findUniversalDncs(FindUniversalDncsRequest)} requests for numbers which are
+ * definitely not blocked.
+ * <pre>
+ * UniversalDncFilter filter = UniversalDncFilter.create(Paths.get("udnc.bloom"))
+ *     .expectedNumbers(1000000)
+ *     .falsePositiveRate(0.001)
+ *     .build();
+ * filter.putAll(snapshot);
+ * filter.force();
+ * ...
+ * List&lt;UniversalDnc&gt; dncs = filter.findUniversalDncs(client.dncApi(), request);
+ * </pre>
+ * Filter bits are kept in memory-mapped file, so filter survives restarts and can be reopened with
+ * {@link #open(Path)} without loading snapshot again. Filter only answers whether number may have
+ * an entry, universal dnc flags are verified by remote call. Numbers which can't be parsed are
+ * always reported as possibly blocked.
+ * <p>
+ * Lookups are thread-safe, additions are synchronized.
+ *
+ * @since 1.8
+ */
+public class UniversalDncFilter implements Closeable {
+    private static final Logger LOGGER = new Logger(UniversalDncFilter.class);
+    private static final int MAGIC = 0x55444E43;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int HASHES_OFFSET = 8;
+    private static final int BITS_OFFSET = 16;
+    private static final int COUNT_OFFSET = 24;
+    private static final long DEFAULT_EXPECTED_NUMBERS = 1000000;
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    private static final long MAX_BITS = (Integer.MAX_VALUE - HEADER_SIZE) * 8L;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int hashes;
+    private final long bits;
+
+    private UniversalDncFilter(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.hashes = buffer.getInt(HASHES_OFFSET);
+        this.bits = buffer.getLong(BITS_OFFSET);
+    }
+
+    /**
+     * Create builder of new filter, existing file is overwritten
+     *
+     * @param file file filter is stored in
+     * @return filter builder
+     */
+    public static Builder create(Path file) {
+        Validate.notNull(file, "file cannot be null");
+        return new Builder(file);
+    }
+
+    /**
+     * Open filter previously created with {@link #create(Path)}
+     *
+     * @param file file filter is stored in
+     * @return filter
+     * @throws CallfireClientException in case file cannot be read or it isn't filter file
+     */
+    public static UniversalDncFilter open(Path file) {
+        Validate.notNull(file, "file cannot be null");
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() < HEADER_SIZE) {
+                throw new CallfireClientException("File " + file + " isn't universal dnc filter");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            long bits = buffer.getLong(BITS_OFFSET);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || bits <= 0 || bits > MAX_BITS
+                || channel.size() != HEADER_SIZE + bits / 8) {
+                throw new CallfireClientException("File " + file + " isn't universal dnc filter");
+            }
+            return new UniversalDncFilter(channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(channel);
+            throw e instanceof CallfireClientException ? (CallfireClientException) e : new CallfireClientException(e);
+        }
+    }
+
+    /**
+     * Add number to filter
+     *
+     * @param number phone number
+     * @return false if number cannot be parsed and wasn't added
+     */
+    public synchronized boolean put(String number) {
+        long key = PhoneNumber.encode(number);
+        if (key == PhoneNumber.INVALID) {
+            return false;
+        }
+        long h1 = mix(key);
+        long h2 = mix(h1 ^ key);
+        for (int i = 0; i < hashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bits;
+            int offset = HEADER_SIZE + (int) (bit >>> 6) * 8;
+            buffer.putLong(offset, buffer.getLong(offset) | 1L << bit);
+        }
+        buffer.putLong(COUNT_OFFSET, buffer.getLong(COUNT_OFFSET) + 1);
+        return true;
+    }
+
+    /**
+     * Add {@link UniversalDnc#getToNumber()} of all entries to filter
+     *
+     * @param dncs universal dnc entries
+     * @return number of added entries
+     */
+    public synchronized int putAll(Iterable<UniversalDnc> dncs) {
+        int added = 0;
+        for (UniversalDnc dnc : dncs) {
+            if (put(dnc.getToNumber())) {
+                added++;
+            }
+        }
+        LOGGER.debug("added {} universal dnc numbers to filter", added);
+        return added;
+    }
+
+    /**
+     * Check if number may have universal dnc entry
+     *
+     * @param number phone number
+     * @return false if number definitely has no entry, true if it may have one
+     */
+    public boolean mightContain(String number) {
+        long key = PhoneNumber.encode(number);
+        if (key == PhoneNumber.INVALID) {
+            return true;
+        }
+        long h1 = mix(key);
+        long h2 = mix(h1 ^ key);
+        for (int i = 0; i < hashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bits;
+            if ((buffer.getLong(HEADER_SIZE + (int) (bit >>> 6) * 8) & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find universal dncs of request's toNumber, remote call is made only if filter reports that
+     * number may have entries
+     *
+     * @param api     dnc api
+     * @param request find request
+     * @return list with universal dncs, empty if number isn't in filter
+     * @see DncApi#findUniversalDncs(FindUniversalDncsRequest)
+     */
+    public List<UniversalDnc> findUniversalDncs(DncApi api, FindUniversalDncsRequest request) {
+        if (!mightContain(request.getToNumber())) {
+            return Collections.emptyList();
+        }
+        return api.findUniversalDncs(request);
+    }
+
+    /**
+     * Get number of numbers added to filter
+     *
+     * @return number of added numbers
+     */
+    public long getCount() {
+        return buffer.getLong(COUNT_OFFSET);
+    }
+
+    /**
+     * Get expected false positive rate for current number of added numbers
+     *
+     * @return false positive rate
+     */
+    public double getFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashes * (double) getCount() / bits), hashes);
+    }
+
+    /**
+     * Write changes to disk
+     */
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    /**
+     * Writes changes to disk and closes file, filter cannot be used after it's closed
+     */
+    @Override
+    public synchronized void close() {
+        buffer.force();
+        closeQuietly(channel);
+    }
+
+    // finalizer of MurmurHash3
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.debug("cannot close filter file: {}", e);
+        }
+    }
+
+    /**
+     * Builder of {@link UniversalDncFilter}
+     */
+    public static class Builder {
+        private final Path file;
+        private long expectedNumbers = DEFAULT_EXPECTED_NUMBERS;
+        private double falsePositiveRate = DEFAULT_FALSE_POSITIVE_RATE;
+
+        private Builder(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Set number of numbers filter is sized for, default is 1000000
+         *
+         * @param expectedNumbers expected number of numbers
+         * @return builder self reference
+         */
+        public Builder expectedNumbers(long expectedNumbers) {
+            this.expectedNumbers = expectedNumbers;
+            return this;
+        }
+
+        /**
+         * Set false positive rate at expected number of numbers, default is 0.01
+         *
+         * @param falsePositiveRate false positive rate
+         * @return builder self reference
+         */
+        public Builder falsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+            return this;
+        }
+
+        /**
+         * Create filter file and map it to memory
+         *
+         * @return empty filter
+         * @throws CallfireClientException in case file cannot be created or filter is too big
+         */
+        public UniversalDncFilter build() {
+            Validate.isTrue(expectedNumbers > 0, "expectedNumbers must be positive");
+            Validate.isTrue(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be in (0, 1)");
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-expectedNumbers * Math.log(falsePositiveRate) / (ln2 * ln2));
+            bits = (bits + 63) / 64 * 64;
+            if (bits > MAX_BITS) {
+                throw new CallfireClientException("Filter of " + bits + " bits exceeds max size of mapped file");
+            }
+            int hashes = Math.max(1, (int) Math.round((double) bits / expectedNumbers * ln2));
+
+            FileChannel channel = null;
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + bits / 8);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(HASHES_OFFSET, hashes);
+                buffer.putLong(BITS_OFFSET, bits);
+                buffer.putLong(COUNT_OFFSET, 0);
+                LOGGER.debug("created universal dnc filter {}, bits: {}, hashes: {}", file, bits, hashes);
+                return new UniversalDncFilter(channel, buffer);
+            } catch (IOException e) {
+                closeQuietly(channel);
+                throw new CallfireClientException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.callfire.api.client.api.webhooks;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.DaemonThreadFactory;
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.api.callstexts.model.Action;
+import com.callfire.api.client.api.campaigns.model.Broadcast;
+import com.callfire.api.client.api.common.model.CallfireModel;
+import com.callfire.api.client.api.webhooks.model.WebhookEvent;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Webhook handler stage which removes duplicate callbacks and restores order of events of the same
+ * resource before passing them to downstream handler.
+ * <pre>
+ * WebhookReceiver.create(converter)
+ *     .onTextBroadcast(WebhookEventBuffer.create(broadcastHandler).reorderDelay(1, TimeUnit.SECONDS).build())
+ *     ...
+ * </pre>
+ * Events are keyed by resource type and id of {@link Action} (calls and texts) or {@link Broadcast}
+ * resource. They are held for reorder delay after first event of resource arrived, then passed downstream
+ * ordered by {@link Action#getModified()} or {@link Broadcast#getLastModified()}, event callback timestamp
+ * is used if resource has no modification time. Event type only breaks ties of events modified at the
+ * same time, so broadcast restarted after it was stopped is still delivered. For each resource the last
+ * delivered transition is remembered for dedupe window, events which aren't newer than it are dropped, so
+ * downstream sees every transition once and in order. Remembered transitions are kept in primitive long
+ * tables which are evicted bucket by bucket as window passes. Events of other resources and events
+ * without resource id are passed through immediately.
+ * <p>
+ * Downstream handler is invoked on buffer's scheduler thread, buffer is thread-safe.
+ *
+ * @param <T> type of resource
+ * @since 1.8
+ */
+public class WebhookEventBuffer<T extends CallfireModel> implements WebhookHandler<T>, Closeable {
+    private static final Logger LOGGER = new Logger(WebhookEventBuffer.class);
+    private static final long DEFAULT_REORDER_DELAY_MILLIS = 500;
+    private static final long DEFAULT_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int DEFAULT_BUCKETS = 10;
+    private static final int EVENT_BITS = 3;
+
+    private final WebhookHandler<T> handler;
+    private final long reorderDelayMillis;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final RecentRanks delivered;
+    private final Map<Long, List<WebhookEvent<T>>> pending = new HashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private boolean closed;
+
+    private WebhookEventBuffer(Builder<T> builder) {
+        this.handler = builder.handler;
+        this.reorderDelayMillis = builder.reorderDelayMillis;
+        this.ownScheduler = builder.scheduler == null;
+        this.scheduler = ownScheduler ? Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("callfire-webhook-buffer")) : builder.scheduler;
+        this.delivered = new RecentRanks(builder.windowMillis, builder.buckets);
+    }
+
+    /**
+     * Create buffer builder
+     *
+     * @param handler downstream handler
+     * @param <T>     type of resource
+     * @return buffer builder
+     */
+    public static <T extends CallfireModel> Builder<T> create(WebhookHandler<T> handler) {
+        Validate.notNull(handler, "handler cannot be null");
+        return new Builder<>(handler);
+    }
+
+    @Override
+    public void handle(WebhookEvent<T> event) {
+        Long id = id(event.getResource());
+        if (id == null || id < 0) {
+            handler.handle(event);
+            return;
+        }
+        final long key = id << 4 | (event.getResourceType() == null ? 0 : event.getResourceType().ordinal());
+        long rank = rank(event);
+        synchronized (pending) {
+            if (closed) {
+                throw new IllegalStateException("buffer is closed");
+            }
+            if (rank <= delivered.get(key, now())) {
+                dropped.incrementAndGet();
+                LOGGER.debug("dropping duplicate or stale event: {}", event);
+                return;
+            }
+            List<WebhookEvent<T>> events = pending.get(key);
+            if (events == null) {
+                events = new ArrayList<>(2);
+                pending.put(key, events);
+                scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        release(key);
+                    }
+                }, reorderDelayMillis, TimeUnit.MILLISECONDS);
+            }
+            events.add(event);
+        }
+    }
+
+    /**
+     * Get number of events dropped as duplicate or older than already delivered event
+     *
+     * @return number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Passes all held events downstream and stops accepting new ones. Scheduler is shut down if
+     * it was created by buffer.
+     */
+    @Override
+    public void close() {
+        synchronized (pending) {
+            closed = true;
+        }
+        // released on scheduler to keep order with already running releases
+        Future<?> flushed = scheduler.submit(new Runnable() {
+            @Override
+            public void run() {
+                List<Long> keys;
+                synchronized (pending) {
+                    keys = new ArrayList<>(pending.keySet());
+                }
+                for (Long key : keys) {
+                    release(key);
+                }
+            }
+        });
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new CallfireClientException(e.getCause());
+        }
+        if (ownScheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    private void release(long key) {
+        List<WebhookEvent<T>> events;
+        synchronized (pending) {
+            events = pending.remove(key);
+            if (events == null) {
+                return;
+            }
+            Collections.sort(events, new Comparator<WebhookEvent<T>>() {
+                @Override
+                public int compare(WebhookEvent<T> o1, WebhookEvent<T> o2) {
+                    return Long.compare(rank(o1), rank(o2));
+                }
+            });
+            long now = now();
+            long last = delivered.get(key, now);
+            for (int i = 0; i < events.size(); ) {
+                long rank = rank(events.get(i));
+                if (rank <= last) {
+                    dropped.incrementAndGet();
+                    events.remove(i);
+                } else {
+                    last = rank;
+                    i++;
+                }
+            }
+            delivered.put(key, last, now);
+        }
+        for (WebhookEvent<T> event : events) {
+            try {
+                handler.handle(event);
+            } catch (RuntimeException e) {
+                LOGGER.error("webhook handler failed, event: {}, error: {}", event, e);
+            }
+        }
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private static Long id(Object resource) {
+        if (resource instanceof Action) {
+            return ((Action<?>) resource).getId();
+        }
+        if (resource instanceof Broadcast) {
+            return ((Broadcast) resource).getId();
+        }
+        return null;
+    }
+
+    // modified time in high bits, event type breaks ties in low bits
+    private static long rank(WebhookEvent<?> event) {
+        Object resource = event.getResource();
+        Date modified = resource instanceof Action ? ((Action<?>) resource).getModified()
+            : ((Broadcast) resource).getLastModified();
+        long time = modified != null ? modified.getTime() : event.getTimestamp() != null ? event.getTimestamp() : 0;
+        long type = event.getResourceEvent() == null ? 0 : event.getResourceEvent().ordinal();
+        return time << EVENT_BITS | type;
+    }
+
+    /**
+     * Builder of {@link WebhookEventBuffer}
+     *
+     * @param <T> type of resource
+     */
+    public static class Builder<T extends CallfireModel> {
+        private final WebhookHandler<T> handler;
+        private long reorderDelayMillis = DEFAULT_REORDER_DELAY_MILLIS;
+        private long windowMillis = DEFAULT_WINDOW_MILLIS;
+        private int buckets = DEFAULT_BUCKETS;
+        private ScheduledExecutorService scheduler;
+
+        private Builder(WebhookHandler<T> handler) {
+            this.handler = handler;
+        }
+
+        /**
+         * Set time events of resource are held to be reordered, default is 500 milliseconds
+         *
+         * @param delay reorder delay
+         * @param unit  time unit
+         * @return builder self reference
+         */
+        public Builder<T> reorderDelay(long delay, TimeUnit unit) {
+            this.reorderDelayMillis = unit.toMillis(delay);
+            return this;
+        }
+
+        /**
+         * Set how long delivered transitions are remembered to drop duplicates, default is 10 minutes
+         *
+         * @param window dedupe window
+         * @param unit   time unit
+         * @return builder self reference
+         */
+        public Builder<T> window(long window, TimeUnit unit) {
+            this.windowMillis = unit.toMillis(window);
+            return this;
+        }
+
+        /**
+         * Set number of buckets dedupe window is split to, whole bucket is evicted once it's older
+         * than window. Default is 10
+         *
+         * @param buckets number of buckets
+         * @return builder self reference
+         */
+        public Builder<T> buckets(int buckets) {
+            this.buckets = buckets;
+            return this;
+        }
+
+        /**
+         * Set scheduler which releases held events and invokes downstream handler. It should run
+         * tasks sequentially to preserve order. If not set buffer creates single daemon thread and
+         * shuts it down on close.
+         *
+         * @param scheduler scheduler
+         * @return builder self reference
+         */
+        public Builder<T> scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Build buffer
+         *
+         * @return buffer
+         */
+        public WebhookEventBuffer<T> build() {
+            Validate.isTrue(reorderDelayMillis >= 0, "reorderDelay cannot be negative");
+            Validate.isTrue(buckets > 0, "buckets must be positive");
+            Validate.isTrue(windowMillis >= buckets, "window must be at least 1 millisecond per bucket");
+            return new WebhookEventBuffer<>(this);
+        }
+    }
+
+    /**
+     * Last delivered rank of each resource, split to time buckets. Lookup goes from the newest
+     * bucket, the oldest bucket is cleared when time passes to next one.
+     */
+    static class RecentRanks {
+        private final LongLongTable[] buckets;
+        private final long bucketMillis;
+        private int current;
+        private long currentStart = Long.MIN_VALUE;
+
+        RecentRanks(long windowMillis, int buckets) {
+            this.buckets = new LongLongTable[buckets];
+            for (int i = 0; i < buckets; i++) {
+                this.buckets[i] = new LongLongTable();
+            }
+            this.bucketMillis = windowMillis / buckets;
+        }
+
+        long get(long key, long now) {
+            rotate(now);
+            for (int i = 0; i < buckets.length; i++) {
+                LongLongTable bucket = buckets[(current - i + buckets.length) % buckets.length];
+                long value = bucket.get(key);
+                if (value != LongLongTable.MISSING) {
+                    return value;
+                }
+            }
+            return Long.MIN_VALUE;
+        }
+
+        void put(long key, long value, long now) {
+            rotate(now);
+            buckets[current].put(key, value);
+        }
+
+        int size() {
+            int size = 0;
+            for (LongLongTable bucket : buckets) {
+                size += bucket.size;
+            }
+            return size;
+        }
+
+        private void rotate(long now) {
+            if (currentStart == Long.MIN_VALUE) {
+                currentStart = now;
+                return;
+            }
+            long passed = (now - currentStart) / bucketMillis;
+            if (passed <= 0) {
+                return;
+            }
+            for (long i = 0; i < Math.min(passed, buckets.length); i++) {
+                current = (current + 1) % buckets.length;
+                buckets[current].clear();
+            }
+            currentStart += passed * bucketMillis;
+        }
+    }
+
+    /**
+     * Open addressing hash table with non-negative long keys and long values
+     */
+    static class LongLongTable {
+        static final long MISSING = Long.MIN_VALUE;
+        private static final long EMPTY = -1;
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] keys;
+        private long[] values;
+        private int size;
+
+        LongLongTable() {
+            clear();
+        }
+
+        long get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+                if (keys[i] == EMPTY) {
+                    return MISSING;
+                }
+            }
+        }
+
+        void put(long key, long value) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                if (keys[i] == EMPTY) {
+                    keys[i] = key;
+                    values[i] = value;
+                    if (++size > keys.length * 3 / 4) {
+                        grow();
+                    }
+                    return;
+                }
+            }
+        }
+
+        // shrinks table back to initial capacity to release memory of evicted bucket
+        void clear() {
+            keys = new long[INITIAL_CAPACITY];
+            values = new long[INITIAL_CAPACITY];
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new long[oldKeys.length * 2];
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int index(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ hash >>> 32) & mask;
+        }
+    }
+}
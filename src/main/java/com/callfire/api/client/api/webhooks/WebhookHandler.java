@@ -0,0 +1,19 @@
+package com.callfire.api.client.api.webhooks;
+
+import com.callfire.api.client.api.webhooks.model.WebhookEvent;
+
+/**
+ * Handler of webhook events registered in {@link WebhookReceiver}
+ *
+ * @param <T> type of event resource
+ * @since 1.8
+ */
+public interface WebhookHandler<T> {
+
+    /**
+     * Handle event, invoked on receiver's worker thread
+     *
+     * @param event webhook event
+     */
+    void handle(WebhookEvent<T> event);
+}
@@ -0,0 +1,664 @@
+package com.callfire.api.client.api.webhooks;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.DaemonThreadFactory;
+import com.callfire.api.client.JsonConverter;
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.campaigns.model.CallBroadcast;
+import com.callfire.api.client.api.campaigns.model.TextBroadcast;
+import com.callfire.api.client.api.webhooks.model.ResourceType;
+import com.callfire.api.client.api.webhooks.model.ResourceType.ResourceEvent;
+import com.callfire.api.client.api.webhooks.model.Webhook;
+import com.callfire.api.client.api.webhooks.model.WebhookEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded HTTP server which receives webhook callbacks, verifies their signature and dispatches
+ * parsed events to typed handlers.
+ * <pre>
+ * WebhookReceiver receiver = WebhookReceiver.create(client.getRestApiClient().getJsonConverter())
+ *     .port(8090)
+ *     .webhook(webhook)
+ *     .onText(new WebhookHandler&lt;Text&gt;() {...})
+ *     .build();
+ * </pre>
+ * Requests are read on a small pool of I/O threads of JDK's NIO based HTTP server, handlers are
+ * invoked on a bounded worker pool. Callback is acknowledged with 200 once its events are queued,
+ * in case the queue is full receiver responds with 503 so Callfire delivers callback again later.
+ * <p>
+ * Signature is a hex encoded HMAC of request body computed with webhook secret, it is checked
+ * against every registered secret. At least one secret must be registered, unsigned callbacks are
+ * accepted only if {@link Builder#allowUnsigned()} is called explicitly, e.g. when receiver is bound to
+ * loopback address behind a proxy which verifies requests. Payload is
+ * either an object with {@code events} array or a single event, each event contains
+ * {@code resourceType}, {@code resourceEvent} and {@code resource} fields. Events of resource type
+ * without handler are acknowledged and skipped.
+ *
+ * @since 1.8
+ */
+public class WebhookReceiver implements Closeable {
+    /**
+     * Default name of header with request signature
+     */
+    public static final String DEFAULT_SIGNATURE_HEADER = "X-CallFire-Signature";
+    /**
+     * Default MAC algorithm of request signature
+     */
+    public static final String DEFAULT_SIGNATURE_ALGORITHM = "HmacSHA1";
+
+    private static final Logger LOGGER = new Logger(WebhookReceiver.class);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int DEFAULT_IO_THREADS = 2;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 30000;
+
+    private final ObjectMapper mapper;
+    private final Map<ResourceType, Registration<?>> handlers;
+    private final List<SecretKeySpec> secrets;
+    private final String signatureHeader;
+    private final String signatureAlgorithm;
+    private final int maxBodySize;
+    private final long shutdownTimeoutMillis;
+    private final ThreadLocal<Mac> macs;
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService ioExecutor;
+    private final HttpServer server;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private WebhookReceiver(Builder builder) throws IOException {
+        this.mapper = builder.jsonConverter.getMapper();
+        this.handlers = new EnumMap<>(builder.handlers);
+        this.signatureHeader = builder.signatureHeader;
+        this.signatureAlgorithm = builder.signatureAlgorithm;
+        this.maxBodySize = builder.maxBodySize;
+        this.shutdownTimeoutMillis = builder.shutdownTimeoutMillis;
+        this.secrets = new ArrayList<>();
+        for (String secret : builder.secrets) {
+            secrets.add(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), signatureAlgorithm));
+        }
+        this.macs = new ThreadLocal<Mac>() {
+            @Override
+            protected Mac initialValue() {
+                try {
+                    return Mac.getInstance(signatureAlgorithm);
+                } catch (GeneralSecurityException e) {
+                    throw new CallfireClientException(e);
+                }
+            }
+        };
+        this.workers = new ThreadPoolExecutor(builder.workerThreads, builder.workerThreads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<Runnable>(builder.queueCapacity), new DaemonThreadFactory("callfire-webhook-worker"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.ioExecutor = Executors.newFixedThreadPool(builder.ioThreads,
+            new DaemonThreadFactory("callfire-webhook-io"));
+        this.server = HttpServer.create(builder.address, builder.backlog);
+        server.createContext(builder.path, new CallbackHandler());
+        server.setExecutor(ioExecutor);
+    }
+
+    /**
+     * Create receiver builder
+     *
+     * @param jsonConverter converter used to parse payloads, use converter of client to share its settings
+     * @return receiver builder
+     */
+    public static Builder create(JsonConverter jsonConverter) {
+        Validate.notNull(jsonConverter, "jsonConverter cannot be null");
+        return new Builder(jsonConverter);
+    }
+
+    /**
+     * Get address receiver is bound to, useful if receiver was bound to ephemeral port
+     *
+     * @return bound address
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Get number of events queued for handling since receiver was started
+     *
+     * @return number of accepted events
+     */
+    public long getAcceptedCount() {
+        return accepted.get();
+    }
+
+    /**
+     * Get number of callbacks rejected with 503 because worker queue was full
+     *
+     * @return number of rejected callbacks
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Get number of events which handler threw exception for
+     *
+     * @return number of failed events
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Stops accepting callbacks and waits until queued events are handled or shutdown timeout passes
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        ioExecutor.shutdown();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("{} webhook events weren't handled before shutdown", workers.getQueue().size());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class CallbackHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                    exchange.sendResponseHeaders(405, -1);
+                    return;
+                }
+                byte[] body = readBody(exchange);
+                if (body == null) {
+                    exchange.sendResponseHeaders(413, -1);
+                    return;
+                }
+                if (!verifySignature(body, exchange.getRequestHeaders().getFirst(signatureHeader))) {
+                    LOGGER.warn("webhook callback from {} has invalid signature", exchange.getRemoteAddress());
+                    exchange.sendResponseHeaders(401, -1);
+                    return;
+                }
+                final List<Delivery<?>> deliveries;
+                try {
+                    deliveries = parse(body);
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.warn("cannot parse webhook callback from {}, error: {}", exchange.getRemoteAddress(), e);
+                    exchange.sendResponseHeaders(400, -1);
+                    return;
+                }
+                if (!deliveries.isEmpty()) {
+                    try {
+                        workers.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                deliver(deliveries);
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        rejected.incrementAndGet();
+                        exchange.getResponseHeaders().set("Retry-After", "1");
+                        exchange.sendResponseHeaders(503, -1);
+                        return;
+                    }
+                    accepted.addAndGet(deliveries.size());
+                }
+                exchange.sendResponseHeaders(200, -1);
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        int expectedSize = 1024;
+        if (StringUtils.isNumeric(contentLength)) {
+            if (contentLength.length() > 10 || Long.parseLong(contentLength) > maxBodySize) {
+                return null;
+            }
+            expectedSize = Integer.parseInt(contentLength);
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream(expectedSize);
+        byte[] buffer = new byte[8192];
+        InputStream in = exchange.getRequestBody();
+        for (int read; (read = in.read(buffer)) != -1; ) {
+            if (body.size() + read > maxBodySize) {
+                return null;
+            }
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+
+    private boolean verifySignature(byte[] body, String signature) {
+        if (secrets.isEmpty()) {
+            return true;
+        }
+        if (signature == null) {
+            return false;
+        }
+        byte[] expected = signature.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        Mac mac = macs.get();
+        for (SecretKeySpec secret : secrets) {
+            try {
+                mac.init(secret);
+            } catch (GeneralSecurityException e) {
+                throw new CallfireClientException(e);
+            }
+            if (MessageDigest.isEqual(expected, toHex(mac.doFinal(body)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] toHex(byte[] bytes) {
+        byte[] hex = new byte[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = (byte) HEX[(bytes[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = (byte) HEX[bytes[i] & 0xF];
+        }
+        return hex;
+    }
+
+    private List<Delivery<?>> parse(byte[] body) throws IOException {
+        JsonNode root = mapper.readTree(body);
+        if (root == null || !root.isObject()) {
+            throw new CallfireClientException("webhook payload isn't JSON object");
+        }
+        List<Delivery<?>> deliveries = new ArrayList<>();
+        JsonNode events = root.get("events");
+        if (events == null) {
+            addDelivery(deliveries, root, root);
+        } else {
+            for (JsonNode event : events) {
+                addDelivery(deliveries, root, event);
+            }
+        }
+        return deliveries;
+    }
+
+    private void addDelivery(List<Delivery<?>> deliveries, JsonNode root, JsonNode event)
+        throws JsonProcessingException {
+        ResourceType type = ResourceType.of(textValue(root, event, "resourceType"));
+        Registration<?> registration = handlers.get(type);
+        if (registration == null) {
+            LOGGER.debug("no handler registered for {} resource, event skipped", type);
+            return;
+        }
+        deliveries.add(registration.parse(mapper, root, event));
+    }
+
+    private void deliver(List<Delivery<?>> deliveries) {
+        for (Delivery<?> delivery : deliveries) {
+            try {
+                delivery.deliver();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                LOGGER.error("webhook handler failed, event: {}, error: {}", delivery.event, e);
+            }
+        }
+    }
+
+    private static JsonNode field(JsonNode root, JsonNode event, String name) {
+        JsonNode value = event.get(name);
+        return value == null ? root.get(name) : value;
+    }
+
+    private static String textValue(JsonNode root, JsonNode event, String name) {
+        JsonNode value = field(root, event, name);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Long longValue(JsonNode root, JsonNode event, String name) {
+        JsonNode value = field(root, event, name);
+        return value == null || value.isNull() ? null : value.asLong();
+    }
+
+    /**
+     * Builder of {@link WebhookReceiver}
+     */
+    public static class Builder {
+        private final JsonConverter jsonConverter;
+        private final Map<ResourceType, Registration<?>> handlers = new EnumMap<>(ResourceType.class);
+        private final List<String> secrets = new ArrayList<>();
+        private boolean allowUnsigned;
+        private InetSocketAddress address;
+        private String path = "/";
+        private String signatureHeader = DEFAULT_SIGNATURE_HEADER;
+        private String signatureAlgorithm = DEFAULT_SIGNATURE_ALGORITHM;
+        private int backlog;
+        private int ioThreads = DEFAULT_IO_THREADS;
+        private int workerThreads = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private int maxBodySize = DEFAULT_MAX_BODY_SIZE;
+        private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+
+        private Builder(JsonConverter jsonConverter) {
+            this.jsonConverter = jsonConverter;
+        }
+
+        /**
+         * Set port to listen on all interfaces, 0 binds to ephemeral port
+         *
+         * @param port port
+         * @return builder self reference
+         */
+        public Builder port(int port) {
+            this.address = new InetSocketAddress(port);
+            return this;
+        }
+
+        /**
+         * Set address to listen on
+         *
+         * @param address socket address
+         * @return builder self reference
+         */
+        public Builder address(InetSocketAddress address) {
+            this.address = address;
+            return this;
+        }
+
+        /**
+         * Set path of callback url, default is /
+         *
+         * @param path callback path
+         * @return builder self reference
+         */
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * Add secret of webhook which sends callbacks to receiver
+         *
+         * @param webhook webhook
+         * @return builder self reference
+         */
+        public Builder webhook(Webhook webhook) {
+            Validate.notNull(webhook, "webhook cannot be null");
+            return secret(webhook.getSecret());
+        }
+
+        /**
+         * Add secret used to verify callback signature
+         *
+         * @param secret webhook secret
+         * @return builder self reference
+         */
+        public Builder secret(String secret) {
+            Validate.notEmpty(secret, "secret cannot be empty");
+            secrets.add(secret);
+            return this;
+        }
+
+        /**
+         * Accept callbacks without checking their signature if no secret is registered. Anyone who can
+         * reach receiver's address can then post events, so use it only if callbacks are verified elsewhere.
+         *
+         * @return builder self reference
+         */
+        public Builder allowUnsigned() {
+            this.allowUnsigned = true;
+            return this;
+        }
+
+        /**
+         * Set name of header with signature, default is {@value WebhookReceiver#DEFAULT_SIGNATURE_HEADER}
+         *
+         * @param signatureHeader header name
+         * @return builder self reference
+         */
+        public Builder signatureHeader(String signatureHeader) {
+            this.signatureHeader = signatureHeader;
+            return this;
+        }
+
+        /**
+         * Set MAC algorithm of signature, default is {@value WebhookReceiver#DEFAULT_SIGNATURE_ALGORITHM}
+         *
+         * @param signatureAlgorithm JCA name of MAC algorithm
+         * @return builder self reference
+         */
+        public Builder signatureAlgorithm(String signatureAlgorithm) {
+            this.signatureAlgorithm = signatureAlgorithm;
+            return this;
+        }
+
+        /**
+         * Set max number of pending connections, default is system default
+         *
+         * @param backlog socket backlog
+         * @return builder self reference
+         */
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * Set number of threads which read and parse callbacks, default is 2
+         *
+         * @param ioThreads number of I/O threads
+         * @return builder self reference
+         */
+        public Builder ioThreads(int ioThreads) {
+            this.ioThreads = ioThreads;
+            return this;
+        }
+
+        /**
+         * Set number of threads which invoke handlers, default is number of processors
+         *
+         * @param workerThreads number of worker threads
+         * @return builder self reference
+         */
+        public Builder workerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+            return this;
+        }
+
+        /**
+         * Set max number of callbacks waiting for worker thread, default is 1000
+         *
+         * @param queueCapacity worker queue capacity
+         * @return builder self reference
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Set max size of callback body, larger callbacks are rejected with 413. Default is 1MB
+         *
+         * @param maxBodySize max body size in bytes
+         * @return builder self reference
+         */
+        public Builder maxBodySize(int maxBodySize) {
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+
+        /**
+         * Set max time {@link WebhookReceiver#close()} waits for queued events, default is 30 seconds
+         *
+         * @param timeout shutdown timeout
+         * @param unit    time unit
+         * @return builder self reference
+         */
+        public Builder shutdownTimeout(long timeout, TimeUnit unit) {
+            this.shutdownTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Register handler of events of given resource type, previously registered handler is replaced
+         *
+         * @param type          resource type
+         * @param resourceClass model class resource is parsed to
+         * @param handler       event handler
+         * @param <T>           type of resource
+         * @return builder self reference
+         */
+        public <T> Builder handler(ResourceType type, Class<T> resourceClass, WebhookHandler<T> handler) {
+            Validate.notNull(type, "type cannot be null");
+            Validate.notNull(resourceClass, "resourceClass cannot be null");
+            Validate.notNull(handler, "handler cannot be null");
+            handlers.put(type, new Registration<>(resourceClass, handler));
+            return this;
+        }
+
+        /**
+         * Register handler of inbound and outbound call events
+         *
+         * @param handler event handler
+         * @return builder self reference
+         */
+        public Builder onCall(WebhookHandler<Call> handler) {
+            handler(ResourceType.OUTBOUND_CALL, Call.class, handler);
+            return handler(ResourceType.INBOUND_CALL, Call.class, handler);
+        }
+
+        /**
+         * Register handler of inbound and outbound text events
+         *
+         * @param handler event handler
+         * @return builder self reference
+         */
+        public Builder onText(WebhookHandler<Text> handler) {
+            handler(ResourceType.OUTBOUND_TEXT, Text.class, handler);
+            return handler(ResourceType.INBOUND_TEXT, Text.class, handler);
+        }
+
+        /**
+         * Register handler of text broadcast events
+         *
+         * @param handler event handler
+         * @return builder self reference
+         */
+        public Builder onTextBroadcast(WebhookHandler<TextBroadcast> handler) {
+            return handler(ResourceType.TEXT_BROADCAST, TextBroadcast.class, handler);
+        }
+
+        /**
+         * Register handler of call broadcast events
+         *
+         * @param handler event handler
+         * @return builder self reference
+         */
+        public Builder onCallBroadcast(WebhookHandler<CallBroadcast> handler) {
+            return handler(ResourceType.CALL_BROADCAST, CallBroadcast.class, handler);
+        }
+
+        /**
+         * Build receiver and start listening
+         *
+         * @return started receiver
+         * @throws CallfireClientException in case receiver cannot bind to address
+         * @throws IllegalArgumentException in case no secret is registered and unsigned callbacks aren't allowed
+         */
+        public WebhookReceiver build() {
+            Validate.notNull(address, "port or address must be set");
+            Validate.isTrue(!secrets.isEmpty() || allowUnsigned,
+                "secret or webhook must be set, call allowUnsigned() to accept callbacks without signature");
+            Validate.notEmpty(path, "path cannot be empty");
+            Validate.notEmpty(signatureHeader, "signatureHeader cannot be empty");
+            Validate.isTrue(ioThreads > 0, "ioThreads must be positive");
+            Validate.isTrue(workerThreads > 0, "workerThreads must be positive");
+            Validate.isTrue(queueCapacity > 0, "queueCapacity must be positive");
+            Validate.isTrue(maxBodySize > 0, "maxBodySize must be positive");
+            try {
+                Mac.getInstance(signatureAlgorithm);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalArgumentException("unsupported signatureAlgorithm: " + signatureAlgorithm, e);
+            }
+            WebhookReceiver receiver;
+            try {
+                receiver = new WebhookReceiver(this);
+            } catch (IOException e) {
+                throw new CallfireClientException(e);
+            }
+            receiver.server.start();
+            LOGGER.debug("webhook receiver listening on {}", receiver.getAddress());
+            return receiver;
+        }
+    }
+
+    private static class Registration<T> {
+        private final Class<T> resourceClass;
+        private final WebhookHandler<T> handler;
+
+        Registration(Class<T> resourceClass, WebhookHandler<T> handler) {
+            this.resourceClass = resourceClass;
+            this.handler = handler;
+        }
+
+        Delivery<T> parse(ObjectMapper mapper, JsonNode root, JsonNode event) throws JsonProcessingException {
+            JsonNode resourceNode = event.get("resource");
+            T resource = resourceNode == null || resourceNode.isNull() ? null
+                : mapper.treeToValue(resourceNode, resourceClass);
+            String resourceEvent = textValue(root, event, "resourceEvent");
+            return new Delivery<>(handler, new WebhookEvent<>(
+                longValue(root, event, "webhookId"),
+                textValue(root, event, "webhookName"),
+                longValue(root, event, "timestamp"),
+                ResourceType.of(textValue(root, event, "resourceType")),
+                resourceEvent == null ? null : ResourceEvent.of(resourceEvent),
+                resource));
+        }
+    }
+
+    private static class Delivery<T> {
+        private final WebhookHandler<T> handler;
+        private final WebhookEvent<T> event;
+
+        Delivery(WebhookHandler<T> handler, WebhookEvent<T> event) {
+            this.handler = handler;
+            this.event = event;
+        }
+
+        void deliver() {
+            handler.handle(event);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.callfire.api.client.api.webhooks.model;
+
+import com.callfire.api.client.api.webhooks.model.ResourceType.ResourceEvent;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Single event delivered by webhook callback, resource is parsed into model type
+ * registered for resource type of event
+ *
+ * @param <T> type of resource
+ * @since 1.8
+ */
+public class WebhookEvent<T> {
+    private final Long webhookId;
+    private final String webhookName;
+    private final Long timestamp;
+    private final ResourceType resourceType;
+    private final ResourceEvent resourceEvent;
+    private final T resource;
+
+    public WebhookEvent(Long webhookId, String webhookName, Long timestamp, ResourceType resourceType,
+        ResourceEvent resourceEvent, T resource) {
+        this.webhookId = webhookId;
+        this.webhookName = webhookName;
+        this.timestamp = timestamp;
+        this.resourceType = resourceType;
+        this.resourceEvent = resourceEvent;
+        this.resource = resource;
+    }
+
+    public Long getWebhookId() {
+        return webhookId;
+    }
+
+    public String getWebhookName() {
+        return webhookName;
+    }
+
+    /**
+     * Get time when event was fired
+     *
+     * @return event time in milliseconds since epoch or null if not sent
+     */
+    public Long getTimestamp() {
+        return timestamp;
+    }
+
+    public ResourceType getResourceType() {
+        return resourceType;
+    }
+
+    public ResourceEvent getResourceEvent() {
+        return resourceEvent;
+    }
+
+    public T getResource() {
+        return resource;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("webhookId", webhookId)
+            .append("webhookName", webhookName)
+            .append("timestamp", timestamp)
+            .append("resourceType", resourceType)
+            .append("resourceEvent", resourceEvent)
+            .append("resource", resource)
+            .toString();
+    }
+}
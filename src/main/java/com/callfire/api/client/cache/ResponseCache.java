@@ -0,0 +1,311 @@
+package com.callfire.api.client.cache;
+
+import com.callfire.api.client.Logger;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded LRU cache of GET response bodies. Responses are cached only for endpoints which have TTL
+ * configured, endpoints are identified by path templates where ids are replaced with {},
+ * e.g. /campaigns/sounds/{}. Entries are keyed by request path and query string, so requests which differ
+ * in query params or fields filter are cached separately.
+ * <p>
+ * Each PUT, POST or DELETE made by the same client invalidates cached responses of the resource path,
+ * its sub-resources and parent collections. GET response which was in flight while related path was
+ * invalidated isn't cached, it may hold state from before modification.
+ * </p>
+ * <pre>
+ * ResponseCache cache = ResponseCache.create()
+ *     .maxEntries(500)
+ *     .ttl("/me/account", 5, TimeUnit.MINUTES)
+ *     .ttl("/campaigns/sounds/{}", 1, TimeUnit.HOURS)
+ *     .build();
+ * client.getRestApiClient().setResponseCache(cache);
+ * </pre>
+ * Cache is thread-safe. Don't share it between clients of different accounts.
+ *
+ * @since 1.8
+ */
+public class ResponseCache {
+    private static final Logger LOGGER = new Logger(ResponseCache.class);
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final int MAX_TRACKED_INVALIDATIONS = 64;
+
+    private final Map<String, Long> ttls;
+    private final long defaultTtlMillis;
+    private final LinkedHashMap<String, CacheEntry> entries;
+    // recent invalidations and their generation, guarded by entries
+    private final ArrayDeque<Invalidation> invalidations = new ArrayDeque<>();
+    private long generation;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private ResponseCache(Builder builder) {
+        this.ttls = new HashMap<>(builder.ttls);
+        this.defaultTtlMillis = builder.defaultTtlMillis;
+        final int maxEntries = builder.maxEntries;
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Create builder of response cache, responses are cached only for endpoints which have TTL set
+     *
+     * @return response cache builder
+     */
+    public static Builder create() {
+        return new Builder();
+    }
+
+    /**
+     * Get time responses of given endpoint are kept in cache
+     *
+     * @param pathTemplate path template of endpoint
+     * @return TTL in milliseconds, 0 if responses of endpoint aren't cached
+     */
+    public long getTtl(String pathTemplate) {
+        Long ttl = ttls.get(pathTemplate);
+        return ttl != null ? ttl : defaultTtlMillis;
+    }
+
+    /**
+     * Get cached response body
+     *
+     * @param key request key, path with query string
+     * @return response body or null if response isn't cached or expired
+     */
+    public byte[] get(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.incrementAndGet();
+                return entry.body;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Get current invalidation generation, it's taken before GET request is sent and passed to
+     * {@link #put(String, String, byte[], long, long)}
+     *
+     * @return number of invalidations made so far
+     */
+    public long getGeneration() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    /**
+     * Puts response body to cache unless related path was invalidated after request was sent
+     *
+     * @param key        request key, path with query string
+     * @param path       request path, used for invalidation
+     * @param body       response body
+     * @param ttlMillis  time to keep response in cache
+     * @param generation invalidation generation taken before request was sent
+     */
+    public void put(String key, String path, byte[] body, long ttlMillis, long generation) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        CacheEntry entry = new CacheEntry(path, body, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            if (isInvalidatedSince(path, generation)) {
+                LOGGER.debug("response of {} isn't cached, it was invalidated while request was in flight", path);
+                return;
+            }
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes cached responses of given resource, its sub-resources and parent collections
+     *
+     * @param path resource path, e.g. /campaigns/sounds/10
+     */
+    public void invalidate(String path) {
+        int removed = 0;
+        synchronized (entries) {
+            addInvalidation(path);
+            for (Iterator<CacheEntry> it = entries.values().iterator(); it.hasNext(); ) {
+                if (isRelated(it.next().path, path)) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            LOGGER.debug("invalidated {} cached responses of {}", removed, path);
+        }
+    }
+
+    /**
+     * Removes all cached responses
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            addInvalidation(null);
+            entries.clear();
+        }
+    }
+
+    /**
+     * Get number of cached responses, expired ones are included until they are accessed or evicted
+     *
+     * @return number of entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Get number of requests served from cache
+     *
+     * @return cache hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get number of cacheable requests which were sent to server
+     *
+     * @return cache misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private void addInvalidation(String path) {
+        invalidations.addLast(new Invalidation(++generation, path));
+        if (invalidations.size() > MAX_TRACKED_INVALIDATIONS) {
+            invalidations.removeFirst();
+        }
+    }
+
+    private boolean isInvalidatedSince(String path, long since) {
+        if (since == generation) {
+            return false;
+        }
+        // invalidations made right after request was sent are no longer tracked
+        if (invalidations.isEmpty() || invalidations.peekFirst().generation > since + 1) {
+            return true;
+        }
+        for (Invalidation invalidation : invalidations) {
+            if (invalidation.generation > since && (invalidation.path == null || isRelated(path, invalidation.path))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRelated(String cachedPath, String modifiedPath) {
+        return cachedPath.equals(modifiedPath) || cachedPath.startsWith(modifiedPath + "/")
+            || modifiedPath.startsWith(cachedPath + "/");
+    }
+
+    private static class CacheEntry {
+        private final String path;
+        private final byte[] body;
+        private final long expiresAt;
+
+        CacheEntry(String path, byte[] body, long expiresAt) {
+            this.path = path;
+            this.body = body;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Invalidation {
+        private final long generation;
+        private final String path;
+
+        Invalidation(long generation, String path) {
+            this.generation = generation;
+            this.path = path;
+        }
+    }
+
+    /**
+     * Builder class for response cache
+     */
+    public static class Builder {
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private long defaultTtlMillis;
+        private Map<String, Long> ttls = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Set max number of cached responses, least recently used responses are evicted first.
+         * Default is 1000.
+         *
+         * @param maxEntries max number of entries
+         * @return builder self reference
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Set TTL of endpoints which don't have own TTL, by default such endpoints aren't cached
+         *
+         * @param ttl  time to keep response in cache
+         * @param unit time unit
+         * @return builder self reference
+         */
+        public Builder defaultTtl(long ttl, TimeUnit unit) {
+            Validate.isTrue(ttl >= 0, "ttl cannot be negative");
+            this.defaultTtlMillis = unit.toMillis(ttl);
+            return this;
+        }
+
+        /**
+         * Set TTL of particular endpoint
+         *
+         * @param path path template, e.g. /me/account or /campaigns/sounds/{}
+         * @param ttl  time to keep response in cache, 0 disables caching of endpoint
+         * @param unit time unit
+         * @return builder self reference
+         */
+        public Builder ttl(String path, long ttl, TimeUnit unit) {
+            Validate.notBlank(path, "path cannot be blank");
+            Validate.isTrue(ttl >= 0, "ttl cannot be negative");
+            ttls.put(path, unit.toMillis(ttl));
+            return this;
+        }
+
+        /**
+         * Build response cache
+         *
+         * @return empty response cache
+         * @throws IllegalArgumentException in case settings are invalid
+         */
+        public ResponseCache build() {
+            Validate.isTrue(maxEntries > 0, "maxEntries must be positive");
+            return new ResponseCache(this);
+        }
+    }
+}
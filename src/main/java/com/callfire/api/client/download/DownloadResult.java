@@ -0,0 +1,63 @@
+package com.callfire.api.client.download;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of file download: number of written bytes and time spent on transfer
+ *
+ * @since 1.8
+ */
+public class DownloadResult {
+    private final Path path;
+    private final long bytes;
+    private final long elapsedNanos;
+
+    public DownloadResult(Path path, long bytes, long elapsedNanos) {
+        this.path = path;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get target file
+     *
+     * @return file path or null if data was written to channel
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get number of bytes written to file
+     *
+     * @return number of bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Get time spent on reading response body and writing it to file
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get download throughput
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "DownloadResult{path=" + path + ", bytes=" + bytes + ", elapsedMillis="
+            + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + ", bytesPerSecond=" + (long) getBytesPerSecond() + '}';
+    }
+}
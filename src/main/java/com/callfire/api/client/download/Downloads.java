@@ -0,0 +1,139 @@
+package com.callfire.api.client.download;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.Logger;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.conn.ConnectionReleaseTrigger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes binary responses like call recordings, sounds and media files straight to disk.
+ * Response stream is always closed once transfer is done so HTTP connection goes back to pool,
+ * in case transfer fails connection is aborted instead of reading rest of response body.
+ * <pre>
+ * DownloadResult result = Downloads.transfer(client.callsApi().getCallRecordingMp3(id), path,
+ *     recording.getLengthInBytes());
+ * </pre>
+ *
+ * @since 1.8
+ */
+public final class Downloads {
+    private static final Logger LOGGER = new Logger(Downloads.class);
+    private static final long TRANSFER_CHUNK_SIZE = 1 << 20;
+
+    private Downloads() {
+    }
+
+    /**
+     * Write response body to file, existing file is overwritten. Partially written file is deleted
+     * in case transfer fails.
+     *
+     * @param content        response body
+     * @param target         file to write to
+     * @param expectedLength expected number of bytes, null if length isn't known
+     * @return download result
+     * @throws CallfireClientException in case of I/O error or if number of bytes differs from expected
+     */
+    public static DownloadResult transfer(InputStream content, Path target, Long expectedLength) {
+        Validate.notNull(content, "content cannot be null");
+        Validate.notNull(target, "target cannot be null");
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            release(content, true);
+            throw new CallfireClientException("Cannot open file " + target, e);
+        }
+        boolean done = false;
+        try {
+            DownloadResult result = transfer(content, channel, expectedLength);
+            channel.close();
+            done = true;
+            LOGGER.debug("downloaded {} bytes to {} in {} ms", result.getBytes(), target,
+                TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()));
+            return new DownloadResult(target, result.getBytes(), result.getElapsedNanos());
+        } catch (IOException e) {
+            throw new CallfireClientException("Cannot write file " + target, e);
+        } finally {
+            if (!done) {
+                closeQuietly(channel);
+                deleteQuietly(target);
+            }
+        }
+    }
+
+    /**
+     * Write response body to channel starting from its current position, channel isn't closed
+     *
+     * @param content        response body
+     * @param channel        file channel to write to
+     * @param expectedLength expected number of bytes, null if length isn't known
+     * @return download result without path
+     * @throws CallfireClientException in case of I/O error or if number of bytes differs from expected
+     */
+    public static DownloadResult transfer(InputStream content, FileChannel channel, Long expectedLength) {
+        Validate.notNull(content, "content cannot be null");
+        Validate.notNull(channel, "channel cannot be null");
+        long start = System.nanoTime();
+        long written = 0;
+        boolean failed = true;
+        try {
+            ReadableByteChannel source = Channels.newChannel(content);
+            long position = channel.position();
+            long count;
+            // transferFrom returns 0 only at the end of blocking stream
+            while ((count = channel.transferFrom(source, position + written, TRANSFER_CHUNK_SIZE)) > 0) {
+                written += count;
+            }
+            channel.position(position + written);
+            if (expectedLength != null && expectedLength != written) {
+                throw new CallfireClientException(
+                    "Downloaded " + written + " bytes but " + expectedLength + " bytes were expected");
+            }
+            failed = false;
+        } catch (IOException e) {
+            throw new CallfireClientException("Cannot download file", e);
+        } finally {
+            release(content, failed);
+        }
+        return new DownloadResult(null, written, System.nanoTime() - start);
+    }
+
+    static void release(InputStream content, boolean abort) {
+        try {
+            if (abort && content instanceof ConnectionReleaseTrigger) {
+                ((ConnectionReleaseTrigger) content).abortConnection();
+            } else {
+                content.close();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("cannot release connection: {}", e);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warn("cannot close file channel: {}", e);
+        }
+    }
+
+    private static void deleteQuietly(Path target) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            LOGGER.warn("cannot delete partially downloaded file {}: {}", target, e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.callfire.api.client.download;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.io.InputStream;
+
+/**
+ * Response to GET request with Range header. Server which doesn't support ranges returns whole
+ * resource, in that case {@link #isPartial()} is false and content starts from the first byte.
+ * Server also returns whole resource if If-Range validator sent with request doesn't match
+ * current version of resource.
+ *
+ * @since 1.8
+ */
+public class RangeResponse {
+    private final boolean partial;
+    private final long first;
+    private final long totalLength;
+    private final InputStream content;
+    private final String etag;
+    private final String lastModified;
+
+    /**
+     * Constructs range response
+     *
+     * @param partial     true if server returned 206 Partial Content
+     * @param first       offset of first returned byte in resource
+     * @param totalLength length of whole resource, -1 if unknown
+     * @param content     response body
+     */
+    public RangeResponse(boolean partial, long first, long totalLength, InputStream content) {
+        this(partial, first, totalLength, content, null, null);
+    }
+
+    /**
+     * Constructs range response
+     *
+     * @param partial      true if server returned 206 Partial Content
+     * @param first        offset of first returned byte in resource
+     * @param totalLength  length of whole resource, -1 if unknown
+     * @param content      response body
+     * @param etag         value of ETag header, null if not returned
+     * @param lastModified value of Last-Modified header, null if not returned
+     */
+    public RangeResponse(boolean partial, long first, long totalLength, InputStream content, String etag,
+        String lastModified) {
+        this.partial = partial;
+        this.first = first;
+        this.totalLength = totalLength;
+        this.content = content;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Check if server returned requested range instead of whole resource
+     *
+     * @return true if response is 206 Partial Content
+     */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    /**
+     * Get offset of first returned byte
+     *
+     * @return offset in resource
+     */
+    public long getFirst() {
+        return first;
+    }
+
+    /**
+     * Get length of whole resource taken from Content-Range or Content-Length header
+     *
+     * @return resource length or -1 if unknown
+     */
+    public long getTotalLength() {
+        return totalLength;
+    }
+
+    /**
+     * Get ETag of resource
+     *
+     * @return value of ETag header or null if it wasn't returned
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Get last modification date of resource
+     *
+     * @return value of Last-Modified header or null if it wasn't returned
+     */
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Get validator of resource version which can be sent in If-Range header, weak ETags aren't allowed
+     * there, so Last-Modified is used instead of them
+     *
+     * @return strong ETag, Last-Modified date or null if server returned neither
+     */
+    public String getValidator() {
+        return etag != null && !etag.startsWith("W/") ? etag : lastModified;
+    }
+
+    /**
+     * Get response body, stream must be closed to release connection
+     *
+     * @return response body
+     */
+    public InputStream getContent() {
+        return content;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("partial", partial)
+            .append("first", first)
+            .append("totalLength", totalLength)
+            .append("etag", etag)
+            .append("lastModified", lastModified)
+            .toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.callfire.api.client.download;
+
+/**
+ * Fetches byte ranges of binary resource, used by {@link ResumableDownloader} to request
+ * missing parts of file
+ *
+ * @since 1.8
+ */
+public interface RangeSource {
+
+    /**
+     * Request range of resource
+     *
+     * @param first   offset of first byte
+     * @param last    offset of last byte inclusive, null to request rest of resource
+     * @param ifRange validator of resource version previous ranges were received for, sent as If-Range
+     *                header so server returns whole resource if it has changed; null if version isn't known
+     * @return range response with open body stream
+     */
+    RangeResponse get(long first, Long last, String ifRange);
+}
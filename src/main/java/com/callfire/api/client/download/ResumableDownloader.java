@@ -0,0 +1,528 @@
+package com.callfire.api.client.download;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.Logger;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Downloads large files with HTTP Range requests so interrupted download continues from the last
+ * received byte instead of starting over. Data is written to {target}.part, progress is kept in
+ * {target}.part.state, both files survive failed download and are picked up by the next call with
+ * the same target. Once all bytes are received and length is verified file is renamed to target.
+ * <p>
+ * ETag or Last-Modified date of resource is kept in state file as well and sent in If-Range header
+ * when download is resumed, so if resource was replaced meanwhile server returns it whole instead of
+ * range which doesn't fit data received so far.
+ * </p>
+ * <p>
+ * When resource length is known in advance file can be split into segments which are fetched in
+ * parallel with separate range requests:
+ * </p>
+ * <pre>
+ * ResumableDownloader downloader = ResumableDownloader.create()
+ *     .segments(4)
+ *     .executor(executor)
+ *     .build();
+ * DownloadResult result = client.mediaApi().downloadData(media, target, downloader);
+ * </pre>
+ * Dropped connections are resumed up to max attempts times per segment, errors returned by API
+ * aren't retried by downloader.
+ *
+ * @since 1.8
+ */
+public class ResumableDownloader {
+    private static final Logger LOGGER = new Logger(ResumableDownloader.class);
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_MIN_SEGMENT_SIZE = 8 << 20;
+    private static final int BUFFER_SIZE = 64 << 10;
+    private static final long CHECKPOINT_BYTES = 1 << 20;
+    private static final String PART_SUFFIX = ".part";
+    private static final String STATE_SUFFIX = ".part.state";
+
+    private final int segments;
+    private final long minSegmentSize;
+    private final int maxAttempts;
+    private final Executor executor;
+
+    private ResumableDownloader(Builder builder) {
+        this.segments = builder.segments;
+        this.minSegmentSize = builder.minSegmentSize;
+        this.maxAttempts = builder.maxAttempts;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Create builder of downloader, by default file is downloaded in single segment
+     *
+     * @return downloader builder
+     */
+    public static Builder create() {
+        return new Builder();
+    }
+
+    /**
+     * Download resource to file or continue previously interrupted download
+     *
+     * @param source         fetches ranges of resource
+     * @param target         file to write resource to, existing file is overwritten
+     * @param expectedLength expected length of resource, null if unknown. Resource of unknown length is
+     *                       downloaded with single request.
+     * @return download result, number of bytes includes only bytes received by this call
+     * @throws CallfireClientException in case download cannot be completed or length doesn't match
+     */
+    public DownloadResult download(RangeSource source, Path target, Long expectedLength) {
+        Validate.notNull(source, "source cannot be null");
+        Validate.notNull(target, "target cannot be null");
+        Validate.isTrue(expectedLength == null || expectedLength >= 0, "expectedLength cannot be negative");
+        long start = System.nanoTime();
+        Path part = target.resolveSibling(target.getFileName() + PART_SUFFIX);
+        Path statePath = target.resolveSibling(target.getFileName() + STATE_SUFFIX);
+        AtomicLong received = new AtomicLong();
+        try {
+            long length;
+            try (State state = openState(statePath, part, expectedLength);
+                 FileChannel data = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                fetchSegments(source, data, state, received);
+                length = state.length;
+                data.truncate(length);
+                data.force(true);
+            }
+            if (expectedLength != null && length != expectedLength) {
+                throw new ResourceChangedException(
+                    "Downloaded " + length + " bytes but " + expectedLength + " bytes were expected");
+            }
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(statePath);
+        } catch (ResourceChangedException e) {
+            // received data doesn't belong to expected resource, next call starts from scratch
+            deleteQuietly(part);
+            deleteQuietly(statePath);
+            throw e;
+        } catch (IOException e) {
+            throw new CallfireClientException("Cannot download file " + target, e);
+        }
+        DownloadResult result = new DownloadResult(target, received.get(), System.nanoTime() - start);
+        LOGGER.debug("downloaded {}", result);
+        return result;
+    }
+
+    private State openState(Path statePath, Path part, Long expectedLength) throws IOException {
+        State state = State.open(statePath);
+        if (state.isValid() && Files.exists(part)
+            && (expectedLength == null || state.length < 0 || state.length == expectedLength)) {
+            LOGGER.debug("resuming download of {} with {} bytes received", part, state.received());
+            return state;
+        }
+        long length = expectedLength == null ? -1 : expectedLength;
+        int count = length < 0 ? 1 : (int) Math.max(1, Math.min(segments, length / minSegmentSize));
+        long segmentSize = length < 0 ? 0 : (length + count - 1) / count;
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = i * segmentSize;
+            ends[i] = length < 0 ? -1 : Math.min(length, (i + 1) * segmentSize);
+        }
+        Files.deleteIfExists(part);
+        state.reset(length, starts, ends);
+        return state;
+    }
+
+    private void fetchSegments(final RangeSource source, final FileChannel data, final State state,
+        final AtomicLong received) {
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < state.starts.length; i++) {
+            if (state.ends[i] < 0 || state.positions[i] < state.ends[i]) {
+                pending.add(i);
+            }
+        }
+        if (executor == null || pending.size() < 2) {
+            for (int segment : pending) {
+                fetchSegment(source, data, state, segment, received);
+            }
+            return;
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (final int segment : pending) {
+            futures.add(CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
+                    fetchSegment(source, data, state, segment, received);
+                }
+            }, executor));
+        }
+        // wait for all segments so progress of successful ones is saved before error is thrown
+        RuntimeException error = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (error == null) {
+                    error = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                        : new CallfireClientException(e.getCause());
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void fetchSegment(RangeSource source, FileChannel data, State state, int segment, AtomicLong received) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transferSegment(source, data, state, segment, received);
+                return;
+            } catch (IOException e) {
+                if (attempt >= maxAttempts) {
+                    throw new CallfireClientException("Cannot download segment " + segment + " after " + attempt
+                        + " attempts", e);
+                }
+                LOGGER.debug("segment {} interrupted at {}: {}, resuming", segment, state.positions[segment], e);
+            }
+        }
+    }
+
+    private void transferSegment(RangeSource source, FileChannel data, State state, int segment,
+        AtomicLong received) throws IOException {
+        long position = state.positions[segment];
+        long end = state.ends[segment];
+        String ifRange = state.getValidator();
+        RangeResponse response = source.get(position, end < 0 ? null : end - 1, ifRange);
+        InputStream content = response.getContent();
+        boolean done = false;
+        try {
+            String validator = response.getValidator();
+            if (!response.isPartial()) {
+                if (state.starts.length > 1) {
+                    if (ifRange != null && validator != null && !ifRange.equals(validator)) {
+                        throw new ResourceChangedException("Resource changed since download started");
+                    }
+                    throw new CallfireClientException("Server doesn't support range requests");
+                }
+                // whole resource is returned, either ranges aren't supported or resource has changed
+                position = 0;
+                state.replaceValidator(validator);
+            } else if (response.getFirst() != position) {
+                throw new CallfireClientException(
+                    "Server returned range starting at " + response.getFirst() + ", expected " + position);
+            } else {
+                state.updateValidator(validator);
+            }
+            end = state.updateLength(segment, response.getTotalLength());
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long checkpoint = position;
+            int read;
+            while (end < 0 || position < end) {
+                int max = end < 0 ? BUFFER_SIZE : (int) Math.min(BUFFER_SIZE, end - position);
+                read = content.read(buffer.array(), 0, max);
+                if (read < 0) {
+                    break;
+                }
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    position += data.write(buffer, position);
+                }
+                received.addAndGet(read);
+                if (position - checkpoint >= CHECKPOINT_BYTES) {
+                    state.setPosition(segment, position);
+                    checkpoint = position;
+                }
+            }
+            state.setPosition(segment, position);
+            if (end < 0) {
+                state.complete(segment, position);
+            } else if (position < end) {
+                throw new EOFException("Connection closed at " + position + ", expected " + end + " bytes");
+            }
+            done = true;
+        } finally {
+            if (!done && position > state.positions[segment]) {
+                // keep received part for the next attempt
+                try {
+                    state.setPosition(segment, position);
+                } catch (IOException e) {
+                    LOGGER.warn("cannot save progress of segment {}: {}", segment, e);
+                }
+            }
+            Downloads.release(content, !done);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("cannot delete file {}: {}", file, e);
+        }
+    }
+
+    /**
+     * Builder of {@link ResumableDownloader}
+     */
+    public static class Builder {
+        private int segments = 1;
+        private long minSegmentSize = DEFAULT_MIN_SEGMENT_SIZE;
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * Set max number of segments downloaded in parallel, default is 1.
+         * Executor must be set to download segments in parallel.
+         *
+         * @param segments max number of segments
+         * @return builder self reference
+         */
+        public Builder segments(int segments) {
+            this.segments = segments;
+            return this;
+        }
+
+        /**
+         * Set min size of segment, files smaller than two segments are downloaded with single request.
+         * Default is 8 MB.
+         *
+         * @param minSegmentSize min segment size in bytes
+         * @return builder self reference
+         */
+        public Builder minSegmentSize(long minSegmentSize) {
+            this.minSegmentSize = minSegmentSize;
+            return this;
+        }
+
+        /**
+         * Set max number of requests per segment in case connection is dropped, default is 3
+         *
+         * @param maxAttempts max attempts
+         * @return builder self reference
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Set executor which downloads segments in parallel
+         *
+         * @param executor executor
+         * @return builder self reference
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Build downloader, it doesn't hold state between downloads and can be shared
+         *
+         * @return resumable downloader
+         * @throws IllegalArgumentException in case settings are invalid
+         */
+        public ResumableDownloader build() {
+            Validate.isTrue(segments > 0, "segments must be positive");
+            Validate.isTrue(minSegmentSize > 0, "minSegmentSize must be positive");
+            Validate.isTrue(maxAttempts > 0, "maxAttempts must be positive");
+            return new ResumableDownloader(this);
+        }
+    }
+
+    /**
+     * Progress of download: resource length, count of segments and start, end and position of each segment
+     * as longs, followed by length and UTF-8 bytes of resource validator. Positions are updated in place
+     * so segments can be saved concurrently.
+     */
+    private static class State implements Closeable {
+        private static final int HEADER_SIZE = 12;
+        private static final int SEGMENT_SIZE = 24;
+
+        private final FileChannel channel;
+        private boolean valid;
+        private long length;
+        private long[] starts;
+        private long[] ends;
+        private long[] positions;
+        private String validator;
+
+        private State(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        static State open(Path file) throws IOException {
+            State state = new State(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE));
+            try {
+                state.load();
+            } catch (IOException e) {
+                state.close();
+                throw e;
+            }
+            return state;
+        }
+
+        private void load() throws IOException {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    return;
+                }
+            }
+            buffer.flip();
+            length = buffer.getLong();
+            int count = buffer.getInt();
+            long validatorOffset = HEADER_SIZE + (long) count * SEGMENT_SIZE;
+            if (count <= 0 || size < validatorOffset + 4) {
+                return;
+            }
+            int validatorLength = buffer.getInt((int) validatorOffset);
+            if (validatorLength < 0 || size != validatorOffset + 4 + validatorLength) {
+                return;
+            }
+            starts = new long[count];
+            ends = new long[count];
+            positions = new long[count];
+            for (int i = 0; i < count; i++) {
+                starts[i] = buffer.getLong();
+                ends[i] = buffer.getLong();
+                positions[i] = buffer.getLong();
+            }
+            if (validatorLength > 0) {
+                byte[] bytes = new byte[validatorLength];
+                buffer.position((int) validatorOffset + 4);
+                buffer.get(bytes);
+                validator = new String(bytes, StandardCharsets.UTF_8);
+            }
+            valid = true;
+        }
+
+        boolean isValid() {
+            return valid;
+        }
+
+        long received() {
+            long received = 0;
+            for (int i = 0; i < starts.length; i++) {
+                received += positions[i] - starts[i];
+            }
+            return received;
+        }
+
+        void reset(long length, long[] starts, long[] ends) throws IOException {
+            this.length = length;
+            this.starts = starts;
+            this.ends = ends;
+            this.positions = starts.clone();
+            this.validator = null;
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + starts.length * SEGMENT_SIZE + 4);
+            buffer.putLong(length).putInt(starts.length);
+            for (int i = 0; i < starts.length; i++) {
+                buffer.putLong(starts[i]).putLong(ends[i]).putLong(positions[i]);
+            }
+            buffer.putInt(0);
+            buffer.flip();
+            channel.truncate(0);
+            write(buffer, 0);
+            valid = true;
+        }
+
+        // takes resource length from response if it wasn't known before
+        synchronized long updateLength(int segment, long totalLength) throws IOException {
+            if (totalLength < 0) {
+                return ends[segment];
+            }
+            if (length >= 0 && length != totalLength) {
+                throw new ResourceChangedException("Resource length changed from " + length + " to " + totalLength);
+            }
+            if (length < 0) {
+                complete(segment, totalLength);
+            }
+            return ends[segment];
+        }
+
+        synchronized void complete(int segment, long end) throws IOException {
+            length = end;
+            ends[segment] = end;
+            write(ByteBuffer.allocate(8).putLong(0, end), 0);
+            write(ByteBuffer.allocate(8).putLong(0, end), HEADER_SIZE + segment * SEGMENT_SIZE + 8);
+        }
+
+        synchronized String getValidator() {
+            return validator;
+        }
+
+        // remembers validator of the first response, following ranges must belong to the same version
+        synchronized void updateValidator(String received) throws IOException {
+            if (received == null) {
+                return;
+            }
+            if (validator == null) {
+                saveValidator(received);
+            } else if (!validator.equals(received)) {
+                throw new ResourceChangedException("Resource changed from " + validator + " to " + received);
+            }
+        }
+
+        // whole resource is received again, its version replaces the previous one
+        synchronized void replaceValidator(String received) throws IOException {
+            if (!Objects.equals(validator, received)) {
+                saveValidator(received);
+            }
+        }
+
+        private void saveValidator(String value) throws IOException {
+            byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            long offset = HEADER_SIZE + (long) starts.length * SEGMENT_SIZE;
+            ByteBuffer buffer = ByteBuffer.allocate(4 + bytes.length);
+            buffer.putInt(bytes.length).put(bytes).flip();
+            write(buffer, offset);
+            channel.truncate(offset + 4 + bytes.length);
+            validator = value;
+        }
+
+        synchronized void setPosition(int segment, long position) throws IOException {
+            positions[segment] = position;
+            write(ByteBuffer.allocate(8).putLong(0, position), HEADER_SIZE + segment * SEGMENT_SIZE + 16);
+        }
+
+        private void write(ByteBuffer buffer, long offset) throws IOException {
+            while (buffer.hasRemaining()) {
+                offset += channel.write(buffer, offset);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static class ResourceChangedException extends CallfireClientException {
+        ResourceChangedException(String message) {
+            super(message);
+        }
+    }
+}
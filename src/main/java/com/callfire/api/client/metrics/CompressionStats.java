@@ -0,0 +1,71 @@
+package com.callfire.api.client.metrics;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Immutable totals of request and response body sizes before and after content encoding
+ *
+ * @since 1.8
+ */
+public class CompressionStats {
+    private final long requestBodyBytes;
+    private final long encodedRequestBodyBytes;
+    private final long responseBodyBytes;
+    private final long encodedResponseBodyBytes;
+
+    CompressionStats(long requestBodyBytes, long encodedRequestBodyBytes, long responseBodyBytes,
+        long encodedResponseBodyBytes) {
+        this.requestBodyBytes = requestBodyBytes;
+        this.encodedRequestBodyBytes = encodedRequestBodyBytes;
+        this.responseBodyBytes = responseBodyBytes;
+        this.encodedResponseBodyBytes = encodedResponseBodyBytes;
+    }
+
+    public long getRequestBodyBytes() {
+        return requestBodyBytes;
+    }
+
+    public long getEncodedRequestBodyBytes() {
+        return encodedRequestBodyBytes;
+    }
+
+    public long getResponseBodyBytes() {
+        return responseBodyBytes;
+    }
+
+    public long getEncodedResponseBodyBytes() {
+        return encodedResponseBodyBytes;
+    }
+
+    /**
+     * Get ratio of sent request body size to its original size
+     *
+     * @return compression ratio, 1 if nothing was compressed or no bodies were sent
+     */
+    public double getRequestRatio() {
+        return ratio(encodedRequestBodyBytes, requestBodyBytes);
+    }
+
+    /**
+     * Get ratio of received response body size to its decoded size
+     *
+     * @return compression ratio, 1 if nothing was compressed or no bodies were received
+     */
+    public double getResponseRatio() {
+        return ratio(encodedResponseBodyBytes, responseBodyBytes);
+    }
+
+    private static double ratio(long encoded, long original) {
+        return original == 0 ? 1 : (double) encoded / original;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("requestBodyBytes", requestBodyBytes)
+            .append("encodedRequestBodyBytes", encodedRequestBodyBytes)
+            .append("responseBodyBytes", responseBodyBytes)
+            .append("encodedResponseBodyBytes", encodedResponseBodyBytes)
+            .toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.callfire.api.client.metrics;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Response entity wrapper which counts bytes read from content stream and adds them to request timings
+ * once stream is closed. Used to compare size of response body received from server with its decoded size.
+ *
+ * @since 1.8
+ */
+public class CountingEntity extends HttpEntityWrapper {
+    private final RequestTimings timings;
+    private final boolean encoded;
+
+    private CountingEntity(HttpEntity entity, RequestTimings timings, boolean encoded) {
+        super(entity);
+        this.timings = timings;
+        this.encoded = encoded;
+    }
+
+    /**
+     * Wraps entity which content is read as it was received from server
+     *
+     * @param entity  response entity
+     * @param timings timings of current request
+     * @return counting entity
+     */
+    public static CountingEntity encoded(HttpEntity entity, RequestTimings timings) {
+        return new CountingEntity(entity, timings, true);
+    }
+
+    /**
+     * Wraps entity which content is already decoded
+     *
+     * @param entity  response entity
+     * @param timings timings of current request
+     * @return counting entity
+     */
+    public static CountingEntity decoded(HttpEntity entity, RequestTimings timings) {
+        return new CountingEntity(entity, timings, false);
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new CountingStream(super.getContent());
+    }
+
+    private class CountingStream extends FilterInputStream {
+        private long count;
+        private boolean closed;
+
+        CountingStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!closed) {
+                    closed = true;
+                    if (encoded) {
+                        timings.addEncodedResponseBodyBytes(count);
+                    } else {
+                        timings.addResponseBodyBytes(count);
+                    }
+                }
+            }
+        }
+    }
+}
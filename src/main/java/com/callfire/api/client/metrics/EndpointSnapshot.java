@@ -0,0 +1,161 @@
+package com.callfire.api.client.metrics;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Map;
+
+/**
+ * Immutable aggregated metrics of single endpoint
+ *
+ * @since 1.8
+ */
+public class EndpointSnapshot {
+    private final String method;
+    private final String pathTemplate;
+    private final long requests;
+    private final long errors;
+    private final Map<Integer, Long> statusCodes;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final CompressionStats compression;
+    private final HistogramSnapshot total;
+    private final HistogramSnapshot queue;
+    private final HistogramSnapshot connect;
+    private final HistogramSnapshot server;
+    private final HistogramSnapshot deserialization;
+
+    EndpointSnapshot(String method, String pathTemplate, long requests, long errors, Map<Integer, Long> statusCodes,
+        long bytesSent, long bytesReceived, CompressionStats compression, HistogramSnapshot total,
+        HistogramSnapshot queue, HistogramSnapshot connect, HistogramSnapshot server,
+        HistogramSnapshot deserialization) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.requests = requests;
+        this.errors = errors;
+        this.statusCodes = statusCodes;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.compression = compression;
+        this.total = total;
+        this.queue = queue;
+        this.connect = connect;
+        this.server = server;
+        this.deserialization = deserialization;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * Get number of completed requests including failed ones
+     *
+     * @return number of requests
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Get number of requests which failed with exception, including error status codes
+     *
+     * @return number of failed requests
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get number of responses per HTTP status code
+     *
+     * @return status code counts
+     */
+    public Map<Integer, Long> getStatusCodes() {
+        return statusCodes;
+    }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Get sizes of request and response bodies before and after content encoding
+     *
+     * @return compression stats
+     */
+    public CompressionStats getCompression() {
+        return compression;
+    }
+
+    /**
+     * Get histogram of total request time
+     *
+     * @return total time histogram
+     */
+    public HistogramSnapshot getTotal() {
+        return total;
+    }
+
+    /**
+     * Get histogram of time spent waiting for pooled connection
+     *
+     * @return queueing time histogram
+     */
+    public HistogramSnapshot getQueue() {
+        return queue;
+    }
+
+    /**
+     * Get histogram of time spent opening connections
+     *
+     * @return connect time histogram
+     */
+    public HistogramSnapshot getConnect() {
+        return connect;
+    }
+
+    /**
+     * Get histogram of time between request was sent and response headers were received
+     *
+     * @return server time histogram
+     */
+    public HistogramSnapshot getServer() {
+        return server;
+    }
+
+    /**
+     * Get histogram of response mapping time
+     *
+     * @return deserialization time histogram
+     */
+    public HistogramSnapshot getDeserialization() {
+        return deserialization;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("method", method)
+            .append("pathTemplate", pathTemplate)
+            .append("requests", requests)
+            .append("errors", errors)
+            .append("statusCodes", statusCodes)
+            .append("bytesSent", bytesSent)
+            .append("bytesReceived", bytesReceived)
+            .append("compression", compression)
+            .append("total", total)
+            .append("queue", queue)
+            .append("connect", connect)
+            .append("server", server)
+            .append("deserialization", deserialization)
+            .toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.callfire.api.client.metrics;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable state of latency histogram. Buckets have exponential bounds, so percentiles are
+ * approximated by upper bound of bucket, max value is exact.
+ *
+ * @since 1.8
+ */
+public class HistogramSnapshot {
+    private final long[] buckets;
+    private final long count;
+    private final long sumNanos;
+    private final long maxNanos;
+
+    HistogramSnapshot(long[] buckets, long count, long sumNanos, long maxNanos) {
+        this.buckets = buckets;
+        this.count = count;
+        this.sumNanos = sumNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Get number of recorded values
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get sum of recorded values
+     *
+     * @return sum in nanos
+     */
+    public long getSumNanos() {
+        return sumNanos;
+    }
+
+    /**
+     * Get max recorded value
+     *
+     * @return max in nanos
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Get mean of recorded values
+     *
+     * @return mean in nanos or 0 if histogram is empty
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) sumNanos / count;
+    }
+
+    /**
+     * Get approximate percentile
+     *
+     * @param quantile quantile between 0 and 1, e.g. 0.99
+     * @return value in nanos which isn't exceeded by given fraction of recorded values
+     */
+    public long getPercentileNanos(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank && buckets[i] > 0) {
+                return Math.min(LatencyHistogram.upperBoundNanos(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Get upper bound of histogram bucket
+     *
+     * @param bucket bucket index
+     * @return upper bound in nanos
+     */
+    public long getBucketUpperBoundNanos(int bucket) {
+        return LatencyHistogram.upperBoundNanos(bucket);
+    }
+
+    /**
+     * Get counts of values in each bucket
+     *
+     * @return bucket counts
+     */
+    public long[] getBuckets() {
+        return buckets.clone();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("count", count)
+            .append("meanMs", TimeUnit.NANOSECONDS.toMillis((long) getMeanNanos()))
+            .append("p50Ms", TimeUnit.NANOSECONDS.toMillis(getPercentileNanos(0.5)))
+            .append("p99Ms", TimeUnit.NANOSECONDS.toMillis(getPercentileNanos(0.99)))
+            .append("maxMs", TimeUnit.NANOSECONDS.toMillis(maxNanos))
+            .toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.callfire.api.client.metrics;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpConnectionMetrics;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection manager decorator which records connection lease and connect times and number of bytes
+ * transferred over connection into {@link RequestTimings} of current thread
+ *
+ * @since 1.8
+ */
+public class InstrumentedConnectionManager implements HttpClientConnectionManager {
+    private final HttpClientConnectionManager delegate;
+
+    public InstrumentedConnectionManager(HttpClientConnectionManager delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        final ConnectionRequest request = delegate.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit tunit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                HttpClientConnection conn = request.get(timeout, tunit);
+                RequestTimings timings = RequestTimings.current();
+                if (timings != null) {
+                    timings.addQueueNanos(System.nanoTime() - start);
+                    HttpConnectionMetrics metrics = conn.isOpen() ? conn.getMetrics() : null;
+                    if (metrics != null) {
+                        timings.addBytesSent(-metrics.getSentBytesCount());
+                        timings.addBytesReceived(-metrics.getReceivedBytesCount());
+                    }
+                }
+                return conn;
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null && conn.isOpen()) {
+            HttpConnectionMetrics metrics = conn.getMetrics();
+            timings.addBytesSent(metrics.getSentBytesCount());
+            timings.addBytesReceived(metrics.getReceivedBytesCount());
+        }
+        delegate.releaseConnection(conn, newState, validDuration, timeUnit);
+    }
+
+    @Override
+    public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context)
+        throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.connect(conn, route, connectTimeout, context);
+        } finally {
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.addConnectNanos(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public void upgrade(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.upgrade(conn, route, context);
+        } finally {
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.addConnectNanos(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public void routeComplete(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        delegate.routeComplete(conn, route, context);
+    }
+
+    @Override
+    public void closeIdleConnections(long idletime, TimeUnit tunit) {
+        delegate.closeIdleConnections(idletime, tunit);
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        delegate.closeExpiredConnections();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+}
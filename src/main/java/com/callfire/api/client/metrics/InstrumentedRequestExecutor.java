@@ -0,0 +1,33 @@
+package com.callfire.api.client.metrics;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.IOException;
+
+/**
+ * Request executor which records time between request was sent and response headers were received
+ * into {@link RequestTimings} of current thread
+ *
+ * @since 1.8
+ */
+public class InstrumentedRequestExecutor extends HttpRequestExecutor {
+
+    @Override
+    protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+        throws HttpException, IOException {
+        long start = System.nanoTime();
+        try {
+            return super.doReceiveResponse(request, conn, context);
+        } finally {
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.addServerNanos(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.callfire.api.client.metrics;
+
+/**
+ * Receives measurements of each HTTP request made by client. Listener is invoked in the thread which
+ * executed request, so it should return quickly.
+ *
+ * @since 1.8
+ */
+public interface MetricsListener {
+
+    /**
+     * Called once request is completed, successfully or not. Each retry attempt is reported separately.
+     *
+     * @param metrics request measurements
+     */
+    void onRequest(RequestMetrics metrics);
+}
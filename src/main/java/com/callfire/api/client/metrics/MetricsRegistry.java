@@ -0,0 +1,179 @@
+package com.callfire.api.client.metrics;
+
+import com.callfire.api.client.Logger;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregates request metrics per HTTP method and endpoint path template. Register it as listener and
+ * periodically scrape {@link #snapshot()} into your monitoring system:
+ * <pre>
+ * MetricsRegistry registry = new MetricsRegistry();
+ * client.getRestApiClient().addMetricsListener(registry);
+ * ...
+ * EndpointSnapshot sends = registry.snapshot().getEndpoint("POST", "/texts");
+ * </pre>
+ * Registry is thread-safe, recording doesn't block.
+ * <p>
+ * Only numeric ids are replaced in path templates, so endpoints addressed by string keys, e.g.
+ * /media/public/{key}.mp3 or /keywords/{keyword}/available, produce template per key. To keep memory
+ * bounded registry tracks at most {@code maxEndpoints} distinct endpoints, requests to endpoints seen
+ * after the limit was reached are aggregated under {@link #OVERFLOW_PATH_TEMPLATE}.
+ * </p>
+ *
+ * @since 1.8
+ */
+public class MetricsRegistry implements MetricsListener {
+    /**
+     * Default max number of distinct endpoints tracked by registry
+     */
+    public static final int DEFAULT_MAX_ENDPOINTS = 500;
+    /**
+     * Path template of endpoint which aggregates requests to endpoints seen after limit was reached
+     */
+    public static final String OVERFLOW_PATH_TEMPLATE = "/{other}";
+
+    private static final Logger LOGGER = new Logger(MetricsRegistry.class);
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final int maxEndpoints;
+
+    /**
+     * Constructs registry which tracks at most {@value #DEFAULT_MAX_ENDPOINTS} endpoints
+     */
+    public MetricsRegistry() {
+        this(DEFAULT_MAX_ENDPOINTS);
+    }
+
+    /**
+     * Constructs registry
+     *
+     * @param maxEndpoints max number of distinct endpoints tracked, limit may be exceeded by a few
+     *                     endpoints registered concurrently
+     */
+    public MetricsRegistry(int maxEndpoints) {
+        Validate.isTrue(maxEndpoints > 0, "maxEndpoints must be positive");
+        this.maxEndpoints = maxEndpoints;
+    }
+
+    @Override
+    public void onRequest(RequestMetrics metrics) {
+        EndpointMetrics endpoint = endpoints.get(key(metrics.getMethod(), metrics.getPathTemplate()));
+        if (endpoint == null) {
+            endpoint = register(metrics.getMethod(), metrics.getPathTemplate());
+        }
+        endpoint.record(metrics);
+    }
+
+    private EndpointMetrics register(String method, String pathTemplate) {
+        if (endpoints.size() >= maxEndpoints) {
+            pathTemplate = OVERFLOW_PATH_TEMPLATE;
+        }
+        String key = key(method, pathTemplate);
+        EndpointMetrics created = new EndpointMetrics(method, pathTemplate);
+        EndpointMetrics endpoint = endpoints.putIfAbsent(key, created);
+        if (endpoint != null) {
+            return endpoint;
+        }
+        if (OVERFLOW_PATH_TEMPLATE.equals(pathTemplate)) {
+            LOGGER.warn("more than {} endpoints are tracked, metrics of new {} endpoints go to {}", maxEndpoints,
+                method, OVERFLOW_PATH_TEMPLATE);
+        }
+        return created;
+    }
+
+    /**
+     * Takes snapshot of metrics of all endpoints
+     *
+     * @return metrics snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, EndpointSnapshot> snapshots = new TreeMap<>();
+        for (Map.Entry<String, EndpointMetrics> entry : endpoints.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return new MetricsSnapshot(System.currentTimeMillis(), Collections.unmodifiableMap(snapshots));
+    }
+
+    /**
+     * Removes all collected metrics
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    static String key(String method, String pathTemplate) {
+        return method + " " + pathTemplate;
+    }
+
+    private static class EndpointMetrics {
+        private final String method;
+        private final String pathTemplate;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final ConcurrentMap<Integer, AtomicLong> statusCodes = new ConcurrentHashMap<>();
+        private final AtomicLong bytesSent = new AtomicLong();
+        private final AtomicLong bytesReceived = new AtomicLong();
+        private final AtomicLong requestBodyBytes = new AtomicLong();
+        private final AtomicLong encodedRequestBodyBytes = new AtomicLong();
+        private final AtomicLong responseBodyBytes = new AtomicLong();
+        private final AtomicLong encodedResponseBodyBytes = new AtomicLong();
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram queue = new LatencyHistogram();
+        private final LatencyHistogram connect = new LatencyHistogram();
+        private final LatencyHistogram server = new LatencyHistogram();
+        private final LatencyHistogram deserialization = new LatencyHistogram();
+
+        EndpointMetrics(String method, String pathTemplate) {
+            this.method = method;
+            this.pathTemplate = pathTemplate;
+        }
+
+        void record(RequestMetrics metrics) {
+            requests.incrementAndGet();
+            if (metrics.getError() != null) {
+                errors.incrementAndGet();
+            }
+            if (metrics.getStatusCode() > 0) {
+                AtomicLong counter = statusCodes.get(metrics.getStatusCode());
+                if (counter == null) {
+                    AtomicLong created = new AtomicLong();
+                    counter = statusCodes.putIfAbsent(metrics.getStatusCode(), created);
+                    counter = counter == null ? created : counter;
+                }
+                counter.incrementAndGet();
+            }
+            bytesSent.addAndGet(metrics.getBytesSent());
+            bytesReceived.addAndGet(metrics.getBytesReceived());
+            requestBodyBytes.addAndGet(metrics.getRequestBodyBytes());
+            encodedRequestBodyBytes.addAndGet(metrics.getEncodedRequestBodyBytes());
+            responseBodyBytes.addAndGet(metrics.getResponseBodyBytes());
+            encodedResponseBodyBytes.addAndGet(metrics.getEncodedResponseBodyBytes());
+            total.record(metrics.getTotalNanos());
+            queue.record(metrics.getQueueNanos());
+            if (metrics.getConnectNanos() > 0) {
+                connect.record(metrics.getConnectNanos());
+            }
+            server.record(metrics.getServerNanos());
+            deserialization.record(metrics.getDeserializationNanos());
+        }
+
+        EndpointSnapshot snapshot() {
+            Map<Integer, Long> codes = new TreeMap<>();
+            for (Map.Entry<Integer, AtomicLong> entry : statusCodes.entrySet()) {
+                codes.put(entry.getKey(), entry.getValue().get());
+            }
+            return new EndpointSnapshot(method, pathTemplate, requests.get(), errors.get(),
+                Collections.unmodifiableMap(codes), bytesSent.get(), bytesReceived.get(),
+                new CompressionStats(requestBodyBytes.get(), encodedRequestBodyBytes.get(), responseBodyBytes.get(),
+                    encodedResponseBodyBytes.get()),
+                total.snapshot(), queue.snapshot(), connect.snapshot(), server.snapshot(), deserialization.snapshot());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.callfire.api.client.metrics;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Immutable state of all endpoint metrics at given moment. Throughput can be calculated from
+ * difference of request counts between two snapshots.
+ *
+ * @since 1.8
+ */
+public class MetricsSnapshot {
+    private final long timestamp;
+    private final Map<String, EndpointSnapshot> endpoints;
+
+    MetricsSnapshot(long timestamp, Map<String, EndpointSnapshot> endpoints) {
+        this.timestamp = timestamp;
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Get time when snapshot was taken
+     *
+     * @return unix time in milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Get metrics of all endpoints which were called
+     *
+     * @return endpoint metrics
+     */
+    public Collection<EndpointSnapshot> getEndpoints() {
+        return endpoints.values();
+    }
+
+    /**
+     * Get metrics of endpoint
+     *
+     * @param method       HTTP method
+     * @param pathTemplate path template, e.g. /calls/broadcasts/{}/recipients
+     * @return endpoint metrics or null if endpoint wasn't called
+     */
+    public EndpointSnapshot getEndpoint(String method, String pathTemplate) {
+        return endpoints.get(MetricsRegistry.key(method, pathTemplate));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("timestamp", timestamp)
+            .append("endpoints", endpoints.values())
+            .toString();
+    }
+}
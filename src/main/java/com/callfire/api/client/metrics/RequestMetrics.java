@@ -0,0 +1,204 @@
+package com.callfire.api.client.metrics;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Measurements of single HTTP request. Timings which aren't available for request,
+ * e.g. connect time when pooled connection was reused, are zero.
+ *
+ * @since 1.8
+ */
+public class RequestMetrics {
+    private final String method;
+    private final String pathTemplate;
+    private final int statusCode;
+    private final Throwable error;
+    private final long totalNanos;
+    private final long queueNanos;
+    private final long connectNanos;
+    private final long serverNanos;
+    private final long deserializationNanos;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long requestBodyBytes;
+    private final long encodedRequestBodyBytes;
+    private final long responseBodyBytes;
+    private final long encodedResponseBodyBytes;
+
+    public RequestMetrics(String method, String pathTemplate, int statusCode, Throwable error, long totalNanos,
+        RequestTimings timings) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.statusCode = statusCode;
+        this.error = error;
+        this.totalNanos = totalNanos;
+        this.queueNanos = timings.getQueueNanos();
+        this.connectNanos = timings.getConnectNanos();
+        this.serverNanos = timings.getServerNanos();
+        this.deserializationNanos = timings.getDeserializationNanos();
+        this.bytesSent = timings.getBytesSent();
+        this.bytesReceived = timings.getBytesReceived();
+        this.requestBodyBytes = timings.getRequestBodyBytes();
+        this.encodedRequestBodyBytes = timings.getEncodedRequestBodyBytes();
+        this.responseBodyBytes = timings.getResponseBodyBytes();
+        this.encodedResponseBodyBytes = timings.getEncodedResponseBodyBytes();
+    }
+
+    /**
+     * Get HTTP method
+     *
+     * @return HTTP method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Get endpoint path template where ids are replaced with {}
+     *
+     * @return path template, e.g. /calls/broadcasts/{}/recipients
+     */
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * Get HTTP status code of response
+     *
+     * @return status code or 0 if response wasn't received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get exception request failed with
+     *
+     * @return exception or null if request succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Get time from sending request till response is mapped
+     *
+     * @return total time in nanos
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Get time request waited for free connection in pool
+     *
+     * @return queueing time in nanos
+     */
+    public long getQueueNanos() {
+        return queueNanos;
+    }
+
+    /**
+     * Get time spent on opening new connection, including TLS handshake
+     *
+     * @return connect time in nanos
+     */
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    /**
+     * Get time between request was sent and response headers were received
+     *
+     * @return server time in nanos
+     */
+    public long getServerNanos() {
+        return serverNanos;
+    }
+
+    /**
+     * Get time spent on reading and mapping response entity
+     *
+     * @return deserialization time in nanos
+     */
+    public long getDeserializationNanos() {
+        return deserializationNanos;
+    }
+
+    /**
+     * Get number of bytes written to connection, including headers
+     *
+     * @return bytes sent
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Get number of bytes read from connection, including headers
+     *
+     * @return bytes received
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Get size of request body before content encoding was applied
+     *
+     * @return request body bytes
+     */
+    public long getRequestBodyBytes() {
+        return requestBodyBytes;
+    }
+
+    /**
+     * Get size of request body sent to server, differs from {@link #getRequestBodyBytes()}
+     * if body was compressed
+     *
+     * @return encoded request body bytes
+     */
+    public long getEncodedRequestBodyBytes() {
+        return encodedRequestBodyBytes;
+    }
+
+    /**
+     * Get size of decoded response body which was read by client
+     *
+     * @return response body bytes
+     */
+    public long getResponseBodyBytes() {
+        return responseBodyBytes;
+    }
+
+    /**
+     * Get size of response body as it was received from server, differs from {@link #getResponseBodyBytes()}
+     * if body was compressed
+     *
+     * @return encoded response body bytes
+     */
+    public long getEncodedResponseBodyBytes() {
+        return encodedResponseBodyBytes;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append("method", method)
+            .append("pathTemplate", pathTemplate)
+            .append("statusCode", statusCode)
+            .append("error", error)
+            .append("totalNanos", totalNanos)
+            .append("queueNanos", queueNanos)
+            .append("connectNanos", connectNanos)
+            .append("serverNanos", serverNanos)
+            .append("deserializationNanos", deserializationNanos)
+            .append("bytesSent", bytesSent)
+            .append("bytesReceived", bytesReceived)
+            .append("requestBodyBytes", requestBodyBytes)
+            .append("encodedRequestBodyBytes", encodedRequestBodyBytes)
+            .append("responseBodyBytes", responseBodyBytes)
+            .append("encodedResponseBodyBytes", encodedResponseBodyBytes)
+            .toString();
+    }
+}
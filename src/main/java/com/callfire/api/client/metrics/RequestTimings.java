@@ -0,0 +1,128 @@
+package com.callfire.api.client.metrics;
+
+/**
+ * Collects timings of request which is being executed in current thread. HTTP client components
+ * record phases they are responsible for, client turns collected values into {@link RequestMetrics}
+ * once request is completed.
+ *
+ * @since 1.8
+ */
+public final class RequestTimings {
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private long queueNanos;
+    private long connectNanos;
+    private long serverNanos;
+    private long deserializationNanos;
+    private long bytesSent;
+    private long bytesReceived;
+    private long requestBodyBytes;
+    private long encodedRequestBodyBytes;
+    private long responseBodyBytes;
+    private long encodedResponseBodyBytes;
+
+    /**
+     * Starts collecting timings of request in current thread
+     *
+     * @return timings holder
+     */
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Get timings of request which is being executed in current thread
+     *
+     * @return timings or null if timings aren't collected
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops collecting timings in current thread
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public void addQueueNanos(long nanos) {
+        queueNanos += nanos;
+    }
+
+    public void addConnectNanos(long nanos) {
+        connectNanos += nanos;
+    }
+
+    public void addServerNanos(long nanos) {
+        serverNanos += nanos;
+    }
+
+    public void addDeserializationNanos(long nanos) {
+        deserializationNanos += nanos;
+    }
+
+    public void addBytesSent(long bytes) {
+        bytesSent += bytes;
+    }
+
+    public void addBytesReceived(long bytes) {
+        bytesReceived += bytes;
+    }
+
+    public void addRequestBody(long bytes, long encodedBytes) {
+        requestBodyBytes += bytes;
+        encodedRequestBodyBytes += encodedBytes;
+    }
+
+    public void addResponseBodyBytes(long bytes) {
+        responseBodyBytes += bytes;
+    }
+
+    public void addEncodedResponseBodyBytes(long bytes) {
+        encodedResponseBodyBytes += bytes;
+    }
+
+    public long getQueueNanos() {
+        return queueNanos;
+    }
+
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    public long getServerNanos() {
+        return serverNanos;
+    }
+
+    public long getDeserializationNanos() {
+        return deserializationNanos;
+    }
+
+    // byte counters are calculated from connection totals and can't be determined if connection was dropped
+    public long getBytesSent() {
+        return Math.max(bytesSent, 0);
+    }
+
+    public long getBytesReceived() {
+        return Math.max(bytesReceived, 0);
+    }
+
+    public long getRequestBodyBytes() {
+        return requestBodyBytes;
+    }
+
+    public long getEncodedRequestBodyBytes() {
+        return encodedRequestBodyBytes;
+    }
+
+    public long getResponseBodyBytes() {
+        return responseBodyBytes;
+    }
+
+    public long getEncodedResponseBodyBytes() {
+        return encodedResponseBodyBytes;
+    }
+}
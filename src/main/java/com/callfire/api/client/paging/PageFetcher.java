@@ -0,0 +1,22 @@
+package com.callfire.api.client.paging;
+
+import com.callfire.api.client.api.common.model.Page;
+
+/**
+ * Loads single page of items from paging source, used by {@link PagedIterable} to fetch
+ * pages on demand
+ *
+ * @param <T> type of page items
+ * @since 1.8
+ */
+public interface PageFetcher<T> {
+
+    /**
+     * Fetch page of items
+     *
+     * @param offset offset from start of paging source
+     * @param limit  max number of items to return
+     * @return page of items
+     */
+    Page<T> fetch(long offset, long limit);
+}
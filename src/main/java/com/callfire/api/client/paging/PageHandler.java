@@ -0,0 +1,19 @@
+package com.callfire.api.client.paging;
+
+import com.callfire.api.client.api.common.model.Page;
+
+/**
+ * Receives pages loaded by {@link ParallelPageLoader}
+ *
+ * @param <T> type of page items
+ * @since 1.8
+ */
+public interface PageHandler<T> {
+
+    /**
+     * Handle loaded page, method is called from the thread which started loading
+     *
+     * @param page loaded page
+     */
+    void handle(Page<T> page);
+}
@@ -0,0 +1,211 @@
+package com.callfire.api.client.paging;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.api.common.model.Page;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy view over all items of paged endpoint. Pages are loaded on demand while items are consumed,
+ * loading stops once {@link Page#getTotalCount()} is reached or server returns an empty or incomplete page.
+ * Optionally next pages can be prefetched in background while current one is being consumed:
+ * <pre>
+ * for (Call call : client.callsApi().findAll(request).prefetch(2, executor)) {
+ *     ...
+ * }
+ * </pre>
+ * Each call of {@link #iterator()} starts new iteration from the first page. Iterators aren't thread-safe.
+ *
+ * @param <T> type of items
+ * @since 1.8
+ */
+public class PagedIterable<T> implements Iterable<T> {
+    private final PageFetcher<T> fetcher;
+    private final long offset;
+    private final long pageSize;
+    private int prefetchDepth;
+    private Executor executor;
+
+    /**
+     * Constructs paged view
+     *
+     * @param fetcher  loads pages from server
+     * @param offset   offset of first item
+     * @param pageSize number of items requested per page
+     */
+    public PagedIterable(PageFetcher<T> fetcher, long offset, long pageSize) {
+        Validate.notNull(fetcher, "fetcher cannot be null");
+        Validate.isTrue(offset >= 0, "offset cannot be negative");
+        Validate.isTrue(pageSize > 0, "pageSize must be positive");
+        this.fetcher = fetcher;
+        this.offset = offset;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Enables prefetching of next pages, pages are loaded with provided executor.
+     * Prefetching works only for endpoints which return total count of items.
+     *
+     * @param depth    max number of pages loaded ahead of the page being consumed
+     * @param executor executor which runs page requests
+     * @return self reference
+     */
+    public PagedIterable<T> prefetch(int depth, Executor executor) {
+        Validate.isTrue(depth >= 0, "depth cannot be negative");
+        Validate.isTrue(depth == 0 || executor != null, "executor cannot be null");
+        this.prefetchDepth = depth;
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Returns loader which fetches all pages concurrently, use it for bulk exports when whole
+     * result set is needed
+     *
+     * @param executor       executor which runs page requests
+     * @param maxConcurrency max number of page requests in flight
+     * @return parallel page loader
+     */
+    public ParallelPageLoader<T> parallel(Executor executor, int maxConcurrency) {
+        return new ParallelPageLoader<>(fetcher, offset, pageSize, executor, maxConcurrency);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PagedIterator();
+    }
+
+    /**
+     * Returns sequential stream over all items, pages are loaded while stream is consumed
+     *
+     * @return stream of items
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    private class PagedIterator implements Iterator<T> {
+        private final Deque<Future<Page<T>>> pending = new ArrayDeque<>();
+        private Iterator<T> current = Collections.emptyIterator();
+        private long nextOffset = offset;
+        private long effectivePageSize = pageSize;
+        private Long totalCount;
+        private boolean firstPage = true;
+        private boolean finished;
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (!advance()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+
+        private boolean advance() {
+            if (pending.isEmpty()) {
+                if (finished) {
+                    return false;
+                }
+                schedule(false);
+            }
+            Page<T> page = await(pending.poll());
+            List<T> items = page.getItems() == null ? Collections.<T>emptyList() : page.getItems();
+            if (page.getTotalCount() != null) {
+                totalCount = page.getTotalCount();
+            }
+            if (firstPage) {
+                firstPage = false;
+                // server may cap requested limit, continue with page size it actually returns
+                if (page.getLimit() != null && page.getLimit() > 0 && page.getLimit() < effectivePageSize) {
+                    nextOffset -= effectivePageSize - page.getLimit();
+                    effectivePageSize = page.getLimit();
+                }
+            }
+            if (items.isEmpty() || totalCount == null && items.size() < effectivePageSize
+                || totalCount != null && nextOffset >= totalCount) {
+                finished = true;
+            }
+            if (items.isEmpty()) {
+                cancelPending();
+                return false;
+            }
+            while (prefetchDepth > 0 && totalCount != null && !finished && pending.size() < prefetchDepth) {
+                schedule(true);
+            }
+            current = items.iterator();
+            return true;
+        }
+
+        private void schedule(boolean async) {
+            final long pageOffset = nextOffset;
+            final long limit = effectivePageSize;
+            nextOffset += limit;
+            if (totalCount != null && nextOffset >= totalCount) {
+                finished = true;
+            }
+            if (async) {
+                pending.add(CompletableFuture.supplyAsync(new Supplier<Page<T>>() {
+                    @Override
+                    public Page<T> get() {
+                        return fetcher.fetch(pageOffset, limit);
+                    }
+                }, executor));
+            } else {
+                pending.add(CompletableFuture.completedFuture(fetcher.fetch(pageOffset, limit)));
+            }
+        }
+
+        private void cancelPending() {
+            for (Future<Page<T>> future : pending) {
+                future.cancel(true);
+            }
+            pending.clear();
+        }
+
+        private Page<T> await(Future<Page<T>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelPending();
+                throw new CallfireClientException("Interrupted while waiting for page", e);
+            } catch (ExecutionException e) {
+                cancelPending();
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new CallfireClientException(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.callfire.api.client.paging;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.api.common.model.Page;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+/**
+ * Loads all pages of paged endpoint in parallel. First page is loaded to get {@link Page#getTotalCount()},
+ * after that remaining offset windows are requested concurrently on provided executor, number of requests in
+ * flight never exceeds concurrency limit. Pages are passed to handler in the calling thread either in
+ * offset order or in order of arrival.
+ * <pre>
+ * List&lt;Call&gt; calls = client.callsApi().findAll(request).parallel(executor, 8).loadAll();
+ * </pre>
+ * If endpoint doesn't return total count pages are loaded sequentially.
+ *
+ * @param <T> type of page items
+ * @since 1.8
+ */
+public class ParallelPageLoader<T> {
+    private static final Logger LOGGER = new Logger(ParallelPageLoader.class);
+
+    private final PageFetcher<T> fetcher;
+    private final long offset;
+    private final long pageSize;
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    /**
+     * Constructs parallel loader
+     *
+     * @param fetcher        loads pages from server
+     * @param offset         offset of first item
+     * @param pageSize       number of items requested per page
+     * @param executor       executor which runs page requests
+     * @param maxConcurrency max number of page requests in flight
+     */
+    public ParallelPageLoader(PageFetcher<T> fetcher, long offset, long pageSize, Executor executor,
+        int maxConcurrency) {
+        Validate.notNull(fetcher, "fetcher cannot be null");
+        Validate.notNull(executor, "executor cannot be null");
+        Validate.isTrue(offset >= 0, "offset cannot be negative");
+        Validate.isTrue(pageSize > 0, "pageSize must be positive");
+        Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+        this.fetcher = fetcher;
+        this.offset = offset;
+        this.pageSize = pageSize;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Loads all items and returns them in offset order
+     *
+     * @return all items
+     * @throws CallfireClientException in case error has occurred in client or thread is interrupted
+     */
+    public List<T> loadAll() {
+        final List<T> items = new ArrayList<>();
+        loadAll(new PageHandler<T>() {
+            @Override
+            public void handle(Page<T> page) {
+                if (page.getItems() != null) {
+                    items.addAll(page.getItems());
+                }
+            }
+        }, true);
+        return items;
+    }
+
+    /**
+     * Loads all pages and passes them to handler. Handler is invoked in the calling thread. In case any
+     * page request fails all pending requests are cancelled and exception is rethrown.
+     *
+     * @param handler page handler
+     * @param ordered if true pages are passed in offset order, otherwise in order of arrival which requires
+     *                less buffering
+     * @throws CallfireClientException in case error has occurred in client or thread is interrupted
+     */
+    public void loadAll(PageHandler<T> handler, boolean ordered) {
+        Page<T> first = fetcher.fetch(offset, pageSize);
+        handler.handle(first);
+        long windowSize = first.getLimit() != null && first.getLimit() > 0 && first.getLimit() < pageSize
+            ? first.getLimit() : pageSize;
+        int firstSize = first.getItems() == null ? 0 : first.getItems().size();
+        if (firstSize == 0) {
+            return;
+        }
+        if (first.getTotalCount() == null) {
+            LOGGER.debug("total count isn't returned, loading remaining pages sequentially");
+            loadSequentially(handler, offset + windowSize, windowSize, firstSize);
+            return;
+        }
+
+        long windowsStart = offset + windowSize;
+        int windows = (int) ((Math.max(first.getTotalCount() - windowsStart, 0) + windowSize - 1) / windowSize);
+        LOGGER.debug("loading {} pages of size {} with concurrency {}", windows, windowSize, maxConcurrency);
+
+        CompletionService<PageWindow<T>> completionService = new ExecutorCompletionService<>(executor);
+        // only requests in flight are tracked, completed futures are dropped so handled pages can be collected
+        Set<Future<PageWindow<T>>> pending = new HashSet<>();
+        Map<Integer, Page<T>> outOfOrder = new HashMap<>();
+        int submitted = 0;
+        int nextToHandle = 0;
+        try {
+            while (submitted < windows && submitted < maxConcurrency) {
+                pending.add(completionService.submit(newWindow(submitted++, windowsStart, windowSize)));
+            }
+            for (int completed = 1; completed <= windows; completed++) {
+                Future<PageWindow<T>> future = completionService.take();
+                pending.remove(future);
+                PageWindow<T> window = future.get();
+                if (ordered) {
+                    outOfOrder.put(window.index, window.page);
+                    while (outOfOrder.containsKey(nextToHandle)) {
+                        handler.handle(outOfOrder.remove(nextToHandle++));
+                    }
+                } else {
+                    handler.handle(window.page);
+                }
+                // in ordered mode slow page holds window back, so at most maxConcurrency pages wait for it
+                int limit = ordered ? nextToHandle + maxConcurrency : completed + maxConcurrency;
+                while (submitted < windows && submitted < limit) {
+                    pending.add(completionService.submit(newWindow(submitted++, windowsStart, windowSize)));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CallfireClientException("Interrupted while loading pages", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CallfireClientException(e.getCause());
+        } finally {
+            for (Future<PageWindow<T>> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private void loadSequentially(PageHandler<T> handler, long nextOffset, long windowSize, int lastSize) {
+        while (lastSize >= windowSize) {
+            Page<T> page = fetcher.fetch(nextOffset, windowSize);
+            lastSize = page.getItems() == null ? 0 : page.getItems().size();
+            if (lastSize == 0) {
+                return;
+            }
+            handler.handle(page);
+            nextOffset += windowSize;
+        }
+    }
+
+    private Callable<PageWindow<T>> newWindow(final int index, final long windowsStart, final long windowSize) {
+        return new Callable<PageWindow<T>>() {
+            @Override
+            public PageWindow<T> call() throws Exception {
+                return new PageWindow<>(index, fetcher.fetch(windowsStart + index * windowSize, windowSize));
+            }
+        };
+    }
+
+    private static class PageWindow<T> {
+        private final int index;
+        private final Page<T> page;
+
+        PageWindow(int index, Page<T> page) {
+            this.index = index;
+            this.page = page;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.callfire.api.client.paging;
+
+import com.callfire.api.client.RestApiClient;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.common.model.request.FindRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.http.NameValuePair;
+import org.apache.http.message.BasicNameValuePair;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.callfire.api.client.ClientUtils.buildQueryParams;
+
+/**
+ * Fetches pages from GET endpoint, query parameters are taken from find request, offset and limit
+ * are replaced with values of requested page
+ *
+ * @param <T> type of page items
+ * @since 1.8
+ */
+public class RequestPageFetcher<T> implements PageFetcher<T> {
+    private static final String OFFSET_PARAM = "offset";
+    private static final String LIMIT_PARAM = "limit";
+
+    private final RestApiClient client;
+    private final String path;
+    private final TypeReference<Page<T>> type;
+    private final List<NameValuePair> queryParams;
+
+    /**
+     * Constructs page fetcher
+     *
+     * @param client  REST client
+     * @param path    endpoint path
+     * @param type    page type
+     * @param request find request with filtering parameters
+     */
+    public RequestPageFetcher(RestApiClient client, String path, TypeReference<Page<T>> type,
+        FindRequest request) {
+        this.client = client;
+        this.path = path;
+        this.type = type;
+        this.queryParams = buildQueryParams(request);
+        for (Iterator<NameValuePair> it = queryParams.iterator(); it.hasNext(); ) {
+            String name = it.next().getName();
+            if (OFFSET_PARAM.equals(name) || LIMIT_PARAM.equals(name)) {
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public Page<T> fetch(long offset, long limit) {
+        List<NameValuePair> pageParams = new ArrayList<>(queryParams.size() + 2);
+        pageParams.addAll(queryParams);
+        pageParams.add(new BasicNameValuePair(OFFSET_PARAM, Long.toString(offset)));
+        pageParams.add(new BasicNameValuePair(LIMIT_PARAM, Long.toString(limit)));
+        return client.get(path, type, pageParams);
+    }
+}
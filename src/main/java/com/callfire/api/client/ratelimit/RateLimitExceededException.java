@@ -0,0 +1,27 @@
+package com.callfire.api.client.ratelimit;
+
+import com.callfire.api.client.CallfireClientException;
+
+/**
+ * Exception thrown by {@link RateLimiter} in case request cannot be sent without exceeding configured rate
+ * within max wait time, request isn't sent to server in this case
+ *
+ * @since 1.8
+ */
+public class RateLimitExceededException extends CallfireClientException {
+    private final String path;
+
+    public RateLimitExceededException(String path) {
+        super("Rate limit exceeded for " + path);
+        this.path = path;
+    }
+
+    /**
+     * Get path template of rejected request
+     *
+     * @return path template
+     */
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,225 @@
+package com.callfire.api.client.ratelimit;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.Logger;
+import org.apache.commons.lang3.Validate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side token bucket rate limiter. Limits overall request rate and optionally rate of requests to
+ * particular endpoints, endpoints are identified by path templates where ids are replaced with {},
+ * e.g. /calls/broadcasts/{}/recipients.
+ * <p>
+ * Limiter adapts to server feedback: each 429 response halves the rate of affected bucket and pauses it for
+ * time requested in Retry-After header, successful responses restore configured rate step by step.
+ * </p>
+ * <pre>
+ * RateLimiter limiter = RateLimiter.create()
+ *     .permitsPerSecond(50)
+ *     .pathPermitsPerSecond("/texts", 10)
+ *     .maxWait(5, TimeUnit.SECONDS)
+ *     .build();
+ * client.getRestApiClient().setRateLimiter(limiter);
+ * </pre>
+ * Limiter is thread-safe and can be shared between clients of the same account.
+ *
+ * @since 1.8
+ */
+public class RateLimiter {
+    private static final Logger LOGGER = new Logger(RateLimiter.class);
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_STEP = 0.01;
+    private static final double MIN_RATE_FACTOR = 0.05;
+
+    private final TokenBucket globalBucket;
+    private final Map<String, TokenBucket> pathBuckets;
+    private final long maxWaitNanos;
+
+    private RateLimiter(Builder builder) {
+        long now = System.nanoTime();
+        this.globalBucket = builder.permitsPerSecond > 0 ? newBucket(builder.permitsPerSecond, builder.burst, now)
+            : null;
+        this.pathBuckets = new HashMap<>();
+        for (Map.Entry<String, Double> entry : builder.pathPermitsPerSecond.entrySet()) {
+            pathBuckets.put(entry.getKey(), newBucket(entry.getValue(), 0, now));
+        }
+        this.maxWaitNanos = builder.maxWaitNanos;
+    }
+
+    /**
+     * Create builder of rate limiter, by default requests aren't limited
+     *
+     * @return rate limiter builder
+     */
+    public static Builder create() {
+        return new Builder();
+    }
+
+    /**
+     * Acquires permit to send request to given endpoint, blocks until permit is available
+     *
+     * @param path path template of endpoint
+     * @throws RateLimitExceededException in case permit isn't available within max wait time
+     * @throws CallfireClientException    in case thread is interrupted while waiting
+     */
+    public void acquire(String path) {
+        long now = System.nanoTime();
+        TokenBucket pathBucket = pathBuckets.get(path);
+        long wait = 0;
+        if (pathBucket != null) {
+            wait = pathBucket.reserve(now, maxWaitNanos);
+            if (wait < 0) {
+                throw new RateLimitExceededException(path);
+            }
+        }
+        if (globalBucket != null) {
+            long globalWait = globalBucket.reserve(now, maxWaitNanos);
+            if (globalWait < 0) {
+                if (pathBucket != null) {
+                    pathBucket.refund();
+                }
+                throw new RateLimitExceededException(path);
+            }
+            wait = Math.max(wait, globalWait);
+        }
+        if (wait > 0) {
+            LOGGER.debug("waiting {} ms for rate limit permit to {}", TimeUnit.NANOSECONDS.toMillis(wait), path);
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CallfireClientException("Interrupted while waiting for rate limit permit", e);
+            }
+        }
+    }
+
+    /**
+     * Notifies limiter that server rejected request because of rate limit, limiter decreases rate of
+     * endpoint bucket if it's configured or global rate otherwise
+     *
+     * @param path       path template of endpoint
+     * @param retryAfter delay in milliseconds from Retry-After header, can be null
+     */
+    public void onRateLimited(String path, Long retryAfter) {
+        TokenBucket bucket = bucketFor(path);
+        if (bucket != null) {
+            bucket.throttle(System.nanoTime(), retryAfter == null ? null : TimeUnit.MILLISECONDS.toNanos(retryAfter),
+                DECREASE_FACTOR);
+            LOGGER.debug("request to {} rate limited, retry after: {} ms, new rate: {}", path, retryAfter,
+                bucket.getRate());
+        }
+    }
+
+    /**
+     * Notifies limiter that request was accepted by server, limiter increases throttled rate back
+     * to configured value
+     *
+     * @param path path template of endpoint
+     */
+    public void onSuccess(String path) {
+        TokenBucket bucket = bucketFor(path);
+        if (bucket != null) {
+            bucket.recover(INCREASE_STEP);
+        }
+    }
+
+    /**
+     * Get current rate applied to requests to given endpoint
+     *
+     * @param path path template of endpoint
+     * @return permits per second or {@link Double#POSITIVE_INFINITY} if endpoint isn't limited
+     */
+    public double getRate(String path) {
+        TokenBucket bucket = bucketFor(path);
+        return bucket == null ? Double.POSITIVE_INFINITY : bucket.getRate();
+    }
+
+    private TokenBucket bucketFor(String path) {
+        TokenBucket bucket = pathBuckets.get(path);
+        return bucket != null ? bucket : globalBucket;
+    }
+
+    private static TokenBucket newBucket(double rate, int burst, long now) {
+        double capacity = burst > 0 ? burst : Math.max(1, rate);
+        return new TokenBucket(rate, rate * MIN_RATE_FACTOR, capacity, now);
+    }
+
+    /**
+     * Builder class for rate limiter
+     */
+    public static class Builder {
+        private double permitsPerSecond;
+        private int burst;
+        private Map<String, Double> pathPermitsPerSecond = new HashMap<>();
+        private long maxWaitNanos = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * Set max rate of all requests, not limited by default
+         *
+         * @param permitsPerSecond requests per second
+         * @return builder self reference
+         */
+        public Builder permitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set max number of requests which can be sent at once after limiter was idle,
+         * by default equals to one second worth of requests
+         *
+         * @param burst max burst size
+         * @return builder self reference
+         */
+        public Builder burst(int burst) {
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Set max rate of requests to particular endpoint
+         *
+         * @param path             path template, e.g. /texts or /calls/broadcasts/{}/recipients
+         * @param permitsPerSecond requests per second
+         * @return builder self reference
+         */
+        public Builder pathPermitsPerSecond(String path, double permitsPerSecond) {
+            Validate.notBlank(path, "path cannot be blank");
+            Validate.isTrue(permitsPerSecond > 0, "permitsPerSecond must be positive");
+            pathPermitsPerSecond.put(path, permitsPerSecond);
+            return this;
+        }
+
+        /**
+         * Set max time request waits for permit before {@link RateLimitExceededException} is thrown,
+         * waits without limit by default. Zero means requests are rejected instead of waiting.
+         *
+         * @param maxWait max wait time
+         * @param unit    time unit
+         * @return builder self reference
+         */
+        public Builder maxWait(long maxWait, TimeUnit unit) {
+            Validate.isTrue(maxWait >= 0, "maxWait cannot be negative");
+            this.maxWaitNanos = unit.toNanos(maxWait);
+            return this;
+        }
+
+        /**
+         * Build rate limiter
+         *
+         * @return rate limiter
+         * @throws IllegalArgumentException in case settings are invalid
+         */
+        public RateLimiter build() {
+            Validate.isTrue(permitsPerSecond >= 0, "permitsPerSecond cannot be negative");
+            Validate.isTrue(burst >= 0, "burst cannot be negative");
+            return new RateLimiter(this);
+        }
+    }
+}
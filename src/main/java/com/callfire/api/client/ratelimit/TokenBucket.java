@@ -0,0 +1,95 @@
+package com.callfire.api.client.ratelimit;
+
+/**
+ * Token bucket with adjustable refill rate. Permits are reserved in advance, so waiting callers are
+ * served in order of reservation and bucket can go into debt by the number of waiting callers.
+ *
+ * @since 1.8
+ */
+class TokenBucket {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+
+    TokenBucket(double maxRate, double minRate, double burst, long now) {
+        this.maxRate = maxRate;
+        this.minRate = minRate;
+        this.burst = burst;
+        this.rate = maxRate;
+        this.tokens = burst;
+        this.lastRefill = now;
+        this.blockedUntil = now;
+    }
+
+    /**
+     * Reserves one permit
+     *
+     * @param now         current time in nanos
+     * @param maxWaitNanos max time caller agrees to wait
+     * @return nanos to wait before permit can be used, or -1 if permit isn't reserved because wait time
+     * exceeds max wait
+     */
+    synchronized long reserve(long now, long maxWaitNanos) {
+        refill(now);
+        long wait = Math.max(blockedUntil - now, 0);
+        if (tokens < 1) {
+            wait = Math.max(wait, (long) ((1 - tokens) / rate * NANOS_PER_SECOND));
+        }
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return wait;
+    }
+
+    /**
+     * Returns previously reserved permit
+     */
+    synchronized void refund() {
+        tokens = Math.min(tokens + 1, burst);
+    }
+
+    /**
+     * Slows down bucket after server rejected request because of rate limit
+     *
+     * @param now        current time in nanos
+     * @param retryAfter nanos server asked to wait, or null
+     * @param decrease   factor rate is multiplied by
+     */
+    synchronized void throttle(long now, Long retryAfter, double decrease) {
+        refill(now);
+        rate = Math.max(rate * decrease, minRate);
+        tokens = Math.min(tokens, 0);
+        if (retryAfter != null) {
+            blockedUntil = Math.max(blockedUntil, now + retryAfter);
+        }
+    }
+
+    /**
+     * Speeds bucket up after successful request until configured rate is restored
+     *
+     * @param increase fraction of configured rate added to current rate
+     */
+    synchronized void recover(double increase) {
+        if (rate < maxRate) {
+            rate = Math.min(rate + maxRate * increase, maxRate);
+        }
+    }
+
+    synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(tokens + (now - lastRefill) * rate / NANOS_PER_SECOND, burst);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.callfire.api.client.retry;
+
+/**
+ * Limits number of retries to a fraction of requests, so retries can't multiply load on server
+ * during an outage. Each request deposits fraction of token, each retry withdraws one token.
+ *
+ * @since 1.8
+ */
+class RetryBudget {
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    RetryBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(tokens + ratio, maxTokens);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    synchronized double getTokens() {
+        return tokens;
+    }
+}
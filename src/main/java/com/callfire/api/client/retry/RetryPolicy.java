@@ -0,0 +1,277 @@
+package com.callfire.api.client.retry;
+
+import com.callfire.api.client.CallfireApiException;
+import com.callfire.api.client.Logger;
+import com.callfire.api.client.TooManyRequestsException;
+import com.callfire.api.client.api.common.model.ErrorMessage;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.conn.ConnectTimeoutException;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether failed request should be sent again and how long to wait before that.
+ * Delay grows exponentially with each attempt and is randomized with jitter, so clients which failed
+ * at the same moment don't retry at the same moment. Number of retries is limited per request by
+ * max attempts and across all requests by retry budget.
+ * <p>
+ * Only idempotent requests (GET, PUT, DELETE) are retried after I/O errors and retryable status codes.
+ * POST requests, e.g. POST /texts, create new resources each time they're processed, so they're retried
+ * only when it's known that server didn't process them: connection couldn't be established or server
+ * responded with 429. Endpoints which are safe to repeat can be marked with {@link Builder#idempotentPath}.
+ * </p>
+ * <pre>
+ * RetryPolicy policy = RetryPolicy.create()
+ *     .maxAttempts(4)
+ *     .backoff(200, 10000, TimeUnit.MILLISECONDS)
+ *     .build();
+ * client.getRestApiClient().setRetryPolicy(policy);
+ * </pre>
+ *
+ * @since 1.8
+ */
+public class RetryPolicy {
+    private static final Logger LOGGER = new Logger(RetryPolicy.class);
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(
+        Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE"));
+
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+    private final Set<Integer> retryableStatusCodes;
+    private final Set<String> idempotentPaths;
+    private final RetryBudget budget;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryableStatusCodes = Collections.unmodifiableSet(new HashSet<>(builder.retryableStatusCodes));
+        this.idempotentPaths = Collections.unmodifiableSet(new HashSet<>(builder.idempotentPaths));
+        this.budget = new RetryBudget(builder.budgetRatio, builder.budgetMaxRetries);
+    }
+
+    /**
+     * Create builder of retry policy with default attempts, backoff and retryable status codes
+     *
+     * @return retry policy builder
+     */
+    public static Builder create() {
+        return new Builder();
+    }
+
+    /**
+     * Notifies policy that new request is being sent, request adds to retry budget
+     */
+    public void onRequest() {
+        budget.deposit();
+    }
+
+    /**
+     * Returns delay before next attempt of failed request
+     *
+     * @param method       HTTP method
+     * @param pathTemplate endpoint path template, e.g. /texts/{}
+     * @param attempt      number of failed attempt starting from 1
+     * @param error        exception request failed with
+     * @return delay in milliseconds, or -1 if request shouldn't be retried
+     */
+    public long nextDelay(String method, String pathTemplate, int attempt, Exception error) {
+        if (attempt >= maxAttempts || !isRetryable(method, pathTemplate, error)) {
+            return -1;
+        }
+        if (!budget.tryWithdraw()) {
+            LOGGER.debug("retry budget is exhausted, not retrying {} {}", method, pathTemplate);
+            return -1;
+        }
+        double backoff = Math.min(initialBackoff * Math.pow(multiplier, attempt - 1), maxBackoff);
+        long delay = (long) (backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+        if (error instanceof TooManyRequestsException) {
+            Long retryAfter = ((TooManyRequestsException) error).getRetryAfter();
+            if (retryAfter != null) {
+                delay = Math.max(delay, retryAfter);
+            }
+        }
+        return delay;
+    }
+
+    /**
+     * Get max number of attempts including the first one
+     *
+     * @return max attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Get HTTP status codes which are retried
+     *
+     * @return retryable status codes
+     */
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    /**
+     * Checks whether request with given method to given endpoint can be safely repeated
+     *
+     * @param method       HTTP method
+     * @param pathTemplate endpoint path template
+     * @return true if request is idempotent
+     */
+    public boolean isIdempotent(String method, String pathTemplate) {
+        return IDEMPOTENT_METHODS.contains(method) || idempotentPaths.contains(method + " " + pathTemplate);
+    }
+
+    private boolean isRetryable(String method, String pathTemplate, Exception error) {
+        // server didn't process request, safe to repeat for any method
+        if (error instanceof ConnectException || error instanceof ConnectTimeoutException) {
+            return true;
+        }
+        if (error instanceof TooManyRequestsException) {
+            return retryableStatusCodes.contains(429);
+        }
+        if (!isIdempotent(method, pathTemplate)) {
+            return false;
+        }
+        if (error instanceof CallfireApiException) {
+            ErrorMessage message = ((CallfireApiException) error).getApiErrorMessage();
+            return message != null && retryableStatusCodes.contains(message.getHttpStatusCode());
+        }
+        // unknown host and TLS errors won't go away on retry
+        return error instanceof IOException && !(error instanceof UnknownHostException)
+            && !(error instanceof SSLException);
+    }
+
+    /**
+     * Builder class for retry policy
+     */
+    public static class Builder {
+        private int maxAttempts = 3;
+        private long initialBackoff = 100;
+        private long maxBackoff = 5000;
+        private double multiplier = 2;
+        private double jitter = 0.5;
+        private Set<Integer> retryableStatusCodes = new HashSet<>(Arrays.asList(429, 500, 502, 503, 504));
+        private Set<String> idempotentPaths = new HashSet<>();
+        private double budgetRatio = 0.2;
+        private int budgetMaxRetries = 10;
+
+        private Builder() {
+        }
+
+        /**
+         * Set max number of attempts including the first one, default is 3
+         *
+         * @param maxAttempts max attempts
+         * @return builder self reference
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Set delay before first retry and max delay between retries, default is 100 ms and 5 s
+         *
+         * @param initialBackoff delay before first retry
+         * @param maxBackoff     max delay
+         * @param unit           time unit
+         * @return builder self reference
+         */
+        public Builder backoff(long initialBackoff, long maxBackoff, TimeUnit unit) {
+            this.initialBackoff = unit.toMillis(initialBackoff);
+            this.maxBackoff = unit.toMillis(maxBackoff);
+            return this;
+        }
+
+        /**
+         * Set factor delay is multiplied by after each attempt, default is 2
+         *
+         * @param multiplier backoff multiplier
+         * @return builder self reference
+         */
+        public Builder multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Set max fraction of delay which is randomly subtracted from it, 0 disables jitter,
+         * 1 means delay is random between 0 and backoff. Default is 0.5
+         *
+         * @param jitter jitter fraction
+         * @return builder self reference
+         */
+        public Builder jitter(double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Set HTTP status codes which are retried, default are 429, 500, 502, 503, 504
+         *
+         * @param statusCodes status codes
+         * @return builder self reference
+         */
+        public Builder retryableStatusCodes(Integer... statusCodes) {
+            this.retryableStatusCodes = new HashSet<>(Arrays.asList(statusCodes));
+            return this;
+        }
+
+        /**
+         * Mark non-idempotent endpoint as safe to retry
+         *
+         * @param method       HTTP method, e.g. POST
+         * @param pathTemplate endpoint path template, e.g. /contacts/lists/{}/items
+         * @return builder self reference
+         */
+        public Builder idempotentPath(String method, String pathTemplate) {
+            idempotentPaths.add(method.toUpperCase() + " " + pathTemplate);
+            return this;
+        }
+
+        /**
+         * Set retry budget, each request adds ratio of retry to budget, budget can't exceed
+         * max retries. Default is 0.2 and 10, i.e. in long run no more than 20% of requests are retried
+         *
+         * @param ratio      retries per request
+         * @param maxRetries max number of retries in budget
+         * @return builder self reference
+         */
+        public Builder retryBudget(double ratio, int maxRetries) {
+            this.budgetRatio = ratio;
+            this.budgetMaxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Build retry policy
+         *
+         * @return retry policy
+         * @throws IllegalArgumentException in case settings are invalid
+         */
+        public RetryPolicy build() {
+            Validate.isTrue(maxAttempts > 0, "maxAttempts must be positive");
+            Validate.isTrue(initialBackoff >= 0 && maxBackoff >= initialBackoff, "invalid backoff");
+            Validate.isTrue(multiplier >= 1, "multiplier cannot be less than 1");
+            Validate.isTrue(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1");
+            Validate.isTrue(budgetRatio >= 0 && budgetMaxRetries >= 0, "invalid retry budget");
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.callfire.api.client;
+
+import com.callfire.api.client.api.AbstractApiTest;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.common.model.ListHolder;
+import com.callfire.api.client.auth.BasicAuth;
+import com.callfire.api.client.cache.ResponseCache;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.entity.EntityBuilder;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.callfire.api.client.ModelType.of;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AsyncRestApiClientTest extends AbstractApiTest {
+    private AsyncRestApiClient asyncClient = new AsyncRestApiClient(new BasicAuth("1", "2"));
+
+    @Mock
+    private CloseableHttpAsyncClient mockAsyncHttpClient;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        asyncClient.setAsyncHttpClient(mockAsyncHttpClient);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        asyncClient.close();
+    }
+
+    @Test
+    public void testGetAsync() throws Exception {
+        String responseJson = getJsonPayload("/callstexts/textsApi/response/getText.json");
+        ArgumentCaptor<HttpUriRequest> captor = mockAsyncResponse(responseJson, 200);
+
+        CompletableFuture<Text> future = asyncClient.getAsync("/texts/1", of(Text.class));
+        Text text = future.get();
+        assertThat(jsonConverter.serialize(text), containsString("\"id\":"));
+
+        HttpUriRequest arg = captor.getValue();
+        assertEquals(HttpGet.METHOD_NAME, arg.getMethod());
+        assertThat(arg.getURI().toString(), containsString("/texts/1"));
+        assertNotNull(arg.getFirstHeader("Authorization"));
+    }
+
+    @Test
+    public void testBlockingClientBuiltOnFirstUse() throws Exception {
+        int evictors = countEvictorThreads();
+        AsyncRestApiClient client = new AsyncRestApiClient(new BasicAuth("1", "2"),
+            ConnectionPoolConfig.create().idleTimeout(60000).build());
+        try {
+            assertEquals(evictors, countEvictorThreads());
+            assertNotNull(client.getHttpClient());
+            assertSame(client.getHttpClient(), client.getHttpClient());
+            assertEquals(evictors + 1, countEvictorThreads());
+        } finally {
+            client.close();
+        }
+    }
+
+    private static int countEvictorThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && "Connection evictor".equals(thread.getName())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testResponseDeserializedOnResponseExecutor() throws Exception {
+        mockAsyncResponse(getJsonPayload("/callstexts/textsApi/response/getText.json"), 200);
+        final AtomicInteger executed = new AtomicInteger();
+        asyncClient.setResponseExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                executed.incrementAndGet();
+                command.run();
+            }
+        });
+
+        Text text = asyncClient.getAsync("/texts/1", of(Text.class)).get();
+        assertNotNull(text.getId());
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    public void testListHolderItems() throws Exception {
+        String responseJson = getJsonPayload("/callstexts/textsApi/response/sendTexts.json");
+        mockAsyncResponse(responseJson, 200);
+
+        CompletableFuture<ListHolder<Text>> future = asyncClient.postAsync("/texts",
+            ModelType.listHolderOf(Text.class), null);
+        assertFalse(future.thenApply(AsyncRestApiClient.<Text>listHolderItems()).get().isEmpty());
+    }
+
+    @Test
+    public void testErrorCodeMappedToException() throws Exception {
+        mockAsyncResponse(getJsonPayload("/common/sampleErrorMessage.json"), 404);
+
+        CompletableFuture<Text> future = asyncClient.getAsync("/texts/1", of(Text.class));
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ResourceNotFoundException.class));
+        }
+    }
+
+    @Test
+    public void testFailedRequestMappedToClientException() throws Exception {
+        doAnswer(new Answer<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                FutureCallback<HttpResponse> callback = (FutureCallback<HttpResponse>) invocation.getArguments()[1];
+                callback.failed(new IOException("connection reset"));
+                return null;
+            }
+        }).when(mockAsyncHttpClient).execute(any(HttpUriRequest.class), any(FutureCallback.class));
+
+        CompletableFuture<Void> future = asyncClient.deleteAsync("/texts/1");
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(CallfireClientException.class));
+        }
+    }
+
+    @Test
+    public void testAsyncWriteInvalidatesCachedResponse() throws Exception {
+        asyncClient.setHttpClient(mockHttpClient);
+        asyncClient.setResponseCache(ResponseCache.create()
+            .ttl("/texts/{}", 1, TimeUnit.MINUTES)
+            .build());
+        String responseJson = getJsonPayload("/callstexts/textsApi/response/getText.json");
+        mockHttpResponse(responseJson, 200);
+        asyncClient.get("/texts/1", of(Text.class));
+        assertEquals(1, asyncClient.getResponseCache().size());
+
+        mockAsyncResponse(responseJson, 200);
+        asyncClient.deleteAsync("/texts/1").get();
+
+        asyncClient.get("/texts/1", of(Text.class));
+        verify(mockHttpClient, times(2)).execute(any(HttpUriRequest.class));
+        assertEquals(0, asyncClient.getResponseCache().getHits());
+    }
+
+    private ArgumentCaptor<HttpUriRequest> mockAsyncResponse(String responseJson, int responseCode) {
+        when(mockHttpResponse.getStatusLine()).thenReturn(getStatusForCode(responseCode));
+        when(mockHttpResponse.getEntity()).thenReturn(EntityBuilder.create().setText(responseJson).build());
+
+        final ArgumentCaptor<HttpUriRequest> captor = ArgumentCaptor.forClass(HttpUriRequest.class);
+        doAnswer(new Answer<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                FutureCallback<HttpResponse> callback = (FutureCallback<HttpResponse>) invocation.getArguments()[1];
+                callback.completed(mockHttpResponse);
+                return null;
+            }
+        }).when(mockAsyncHttpClient).execute(captor.capture(), any(FutureCallback.class));
+        return captor;
+    }
+}
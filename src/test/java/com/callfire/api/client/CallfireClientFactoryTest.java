@@ -0,0 +1,75 @@
+package com.callfire.api.client;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class CallfireClientFactoryTest {
+    private CallfireClientFactory factory;
+
+    @Before
+    public void setUp() throws Exception {
+        factory = CallfireClientFactory.create()
+            .connectionPoolConfig(ConnectionPoolConfig.create().maxTotal(50).maxPerRoute(50).build())
+            .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        factory.close();
+    }
+
+    @Test
+    public void testClientsShareHttpClientAndConverter() throws Exception {
+        RestApiClient first = factory.newClient("user1", "password1").getRestApiClient();
+        RestApiClient second = factory.newClient("user2", "password2").getRestApiClient();
+
+        assertSame(first.getHttpClient(), second.getHttpClient());
+        assertSame(first.getJsonConverter(), second.getJsonConverter());
+        assertSame(factory.getJsonConverter(), first.getJsonConverter());
+        assertEquals(50, factory.getConnectionPoolStats().getMax());
+        assertEquals(50, second.getConnectionPoolStats().getMax());
+    }
+
+    @Test
+    public void testClientsUseOwnAuthentication() throws Exception {
+        RestApiClient first = factory.newClient("user1", "password1").getRestApiClient();
+        RestApiClient second = factory.newClient("user2", "password2").getRestApiClient();
+
+        HttpUriRequest firstRequest = first.buildRequest(first.prepareGet("/me/account",
+            Collections.<NameValuePair>emptyList()));
+        HttpUriRequest secondRequest = second.buildRequest(second.prepareGet("/me/account",
+            Collections.<NameValuePair>emptyList()));
+
+        assertNotEquals(firstRequest.getFirstHeader(HttpHeaders.AUTHORIZATION).getValue(),
+            secondRequest.getFirstHeader(HttpHeaders.AUTHORIZATION).getValue());
+    }
+
+    @Test
+    public void testClosingClientKeepsSharedPoolOpen() throws Exception {
+        CallfireClient first = factory.newClient("user1", "password1");
+        CallfireClient second = factory.newClient("user2", "password2");
+
+        first.close();
+
+        // closed pool would throw IllegalStateException instead of trying to connect
+        try {
+            second.getRestApiClient().getHttpClient().execute(new HttpGet("http://127.0.0.1:1/"));
+            fail("connection refused expected");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
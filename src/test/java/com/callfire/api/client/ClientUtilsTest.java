@@ -60,4 +60,24 @@ public class ClientUtilsTest {
         assertThat(queryParams, hasItem(new BasicNameValuePair("limit", Long.valueOf(10).toString())));
     }
 
+    @Test
+    public void testBuildQueryParamsForSameTypeTwice() throws Exception {
+        FindCallsRequest first = FindCallsRequest.create().limit(3L).build();
+        FindCallsRequest second = FindCallsRequest.create().offset(5L).campaignId(2L).build();
+
+        List<NameValuePair> firstParams = ClientUtils.buildQueryParams(first);
+        List<NameValuePair> secondParams = ClientUtils.buildQueryParams(second);
+        assertEquals(1, firstParams.size());
+        assertThat(firstParams, hasItem(new BasicNameValuePair("limit", "3")));
+        assertEquals(2, secondParams.size());
+        assertThat(secondParams, hasItem(new BasicNameValuePair("offset", "5")));
+        assertThat(secondParams, hasItem(new BasicNameValuePair("campaignId", "2")));
+    }
+
+    @Test
+    public void testToPathTemplate() throws Exception {
+        assertEquals("/calls/broadcasts/{}/recipients", ClientUtils.toPathTemplate("/calls/broadcasts/10/recipients"));
+        assertEquals("/contacts/lists/{}/items/{}", ClientUtils.toPathTemplate("/contacts/lists/5/items/7"));
+        assertEquals("/texts", ClientUtils.toPathTemplate("/texts"));
+    }
 }
@@ -0,0 +1,53 @@
+package com.callfire.api.client;
+
+import com.callfire.api.client.api.campaigns.model.TextRecipient;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JsonEntityTest {
+    private JsonConverter jsonConverter = new JsonConverter();
+
+    @Test
+    public void testWritesSameJsonAsSerialize() throws Exception {
+        List<TextRecipient> recipients = recipients(1000);
+        JsonEntity entity = new JsonEntity(recipients, jsonConverter);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        assertEquals(jsonConverter.serialize(recipients), out.toString("UTF-8"));
+        assertEquals(-1, entity.getContentLength());
+        assertTrue(entity.isChunked());
+        assertEquals("application/json; charset=UTF-8", entity.getContentType().getValue());
+    }
+
+    @Test
+    public void testRepeatableEntity() throws Exception {
+        List<TextRecipient> recipients = recipients(2);
+        JsonEntity entity = new JsonEntity(recipients, jsonConverter);
+        assertTrue(entity.isRepeatable());
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        entity.writeTo(first);
+        entity.writeTo(second);
+        assertEquals(first.toString("UTF-8"), second.toString("UTF-8"));
+        assertEquals(jsonConverter.serialize(recipients), EntityUtils.toString(entity));
+    }
+
+    private static List<TextRecipient> recipients(int count) {
+        List<TextRecipient> recipients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TextRecipient recipient = new TextRecipient();
+            recipient.setPhoneNumber("1213555" + (1000 + i));
+            recipient.setMessage("message " + i);
+            recipients.add(recipient);
+        }
+        return recipients;
+    }
+}
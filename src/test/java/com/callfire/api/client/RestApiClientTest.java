@@ -1,14 +1,52 @@
 package com.callfire.api.client;
 
 import com.callfire.api.client.api.AbstractApiTest;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.campaigns.model.TextRecipient;
 import com.callfire.api.client.auth.BasicAuth;
+import com.callfire.api.client.cache.ResponseCache;
+import com.callfire.api.client.metrics.EndpointSnapshot;
+import com.callfire.api.client.metrics.MetricsRegistry;
+import com.callfire.api.client.ratelimit.RateLimiter;
+import com.callfire.api.client.retry.RetryPolicy;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockitoAnnotations;
 
 import javax.activation.MimetypesFileTypeMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
+import static com.callfire.api.client.ModelType.of;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class RestApiClientTest extends AbstractApiTest {
     private RestApiClient client = new RestApiClient(new BasicAuth("1", "2"));
@@ -44,6 +82,170 @@ public class RestApiClientTest extends AbstractApiTest {
         client.delete("/");
     }
 
+    @Test
+    public void testExpectTooManyRequestsWhen429() throws Exception {
+        mockHttpResponse(expectedJson, 429);
+        when(mockHttpResponse.getFirstHeader(HttpHeaders.RETRY_AFTER))
+            .thenReturn(new BasicHeader(HttpHeaders.RETRY_AFTER, "3"));
+        try {
+            client.delete("/");
+            fail();
+        } catch (TooManyRequestsException e) {
+            assertEquals(Long.valueOf(3000), e.getRetryAfter());
+        }
+    }
+
+    @Test
+    public void testRateLimiterThrottledBy429() throws Exception {
+        RateLimiter rateLimiter = RateLimiter.create()
+            .pathPermitsPerSecond("/texts/{}", 100)
+            .build();
+        client.setRateLimiter(rateLimiter);
+        mockHttpResponse(expectedJson, 429);
+        try {
+            client.delete("/texts/1");
+            fail();
+        } catch (TooManyRequestsException e) {
+            assertEquals(50, rateLimiter.getRate("/texts/{}"), 0.001);
+        }
+    }
+
+    @Test
+    public void testMetricsRecordedPerEndpoint() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        client.addMetricsListener(registry);
+        mockHttpResponse(expectedJson, 404);
+        try {
+            client.delete("/texts/1");
+            fail();
+        } catch (ResourceNotFoundException e) {
+            EndpointSnapshot endpoint = registry.snapshot().getEndpoint("DELETE", "/texts/{}");
+            assertEquals(1, endpoint.getRequests());
+            assertEquals(1, endpoint.getErrors());
+            assertEquals(Long.valueOf(1), endpoint.getStatusCodes().get(404));
+            assertEquals(1, endpoint.getTotal().getCount());
+        } finally {
+            client.removeMetricsListener(registry);
+        }
+    }
+
+    @Test
+    public void testResponseCacheInvalidatedByDelete() throws Exception {
+        client.setResponseCache(ResponseCache.create()
+            .ttl("/texts/{}", 1, TimeUnit.MINUTES)
+            .build());
+        mockHttpResponse(getJsonPayload("/callstexts/textsApi/response/getText.json"), 200);
+
+        Text first = client.get("/texts/1", of(Text.class));
+        Text second = client.get("/texts/1", of(Text.class));
+        assertEquals(first.getId(), second.getId());
+        verify(mockHttpClient, times(1)).execute(any(HttpUriRequest.class));
+
+        client.get("/texts/1", of(Text.class), asList((NameValuePair) new BasicNameValuePair("fields", "id")));
+        verify(mockHttpClient, times(2)).execute(any(HttpUriRequest.class));
+
+        client.delete("/texts/1");
+        client.get("/texts/1", of(Text.class));
+        verify(mockHttpClient, times(4)).execute(any(HttpUriRequest.class));
+        assertEquals(1, client.getResponseCache().getHits());
+    }
+
+    @Test
+    public void testRequestBodyCompressedAboveThreshold() throws Exception {
+        client.setRequestCompressionThreshold(10);
+        ArgumentCaptor<HttpUriRequest> captor = mockHttpResponse("{}", 200);
+        TextRecipient recipient = new TextRecipient();
+        recipient.setPhoneNumber("12135551100");
+        recipient.setMessage("Hello, this message is compressed");
+        client.post("/texts", null, asList(recipient));
+
+        HttpEntity entity = ((HttpEntityEnclosingRequest) captor.getValue()).getEntity();
+        assertEquals("gzip", entity.getContentEncoding().getValue());
+        String body = EntityUtils.toString(new GzipDecompressingEntity(entity), "UTF-8");
+        assertEquals(jsonConverter.serialize(asList(recipient)), body);
+
+        client.setRequestCompressionThreshold(-1);
+        client.post("/texts", null, asList(recipient));
+        assertNull(((HttpEntityEnclosingRequest) captor.getValue()).getEntity().getContentEncoding());
+    }
+
+    @Test
+    public void testRequestBodyStreamedAndRepeatable() throws Exception {
+        ArgumentCaptor<HttpUriRequest> captor = mockHttpResponse("{}", 200);
+        TextRecipient recipient = new TextRecipient();
+        recipient.setPhoneNumber("12135551100");
+        client.post("/texts", null, asList(recipient));
+        HttpEntity entity = ((HttpEntityEnclosingRequest) captor.getValue()).getEntity();
+        assertThat(entity, instanceOf(JsonEntity.class));
+        // repeatable without retry policy, HTTP client may resend request on stale connection
+        assertTrue(entity.isRepeatable());
+        assertEquals(jsonConverter.serialize(asList(recipient)), extractHttpEntity(captor.getValue()));
+    }
+
+    @Test
+    public void testGzipResponseDecoded() throws Exception {
+        String json = getJsonPayload("/callstexts/textsApi/response/getText.json");
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json.getBytes("UTF-8"));
+        }
+        HttpResponse response = new BasicHttpResponse(getStatusForCode(200));
+        response.setEntity(new ByteArrayEntity(compressed.toByteArray()));
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        client.decodeResponse(response);
+        assertNull(response.getFirstHeader(HttpHeaders.CONTENT_ENCODING));
+        Text text = client.readResponse(response, of(Text.class));
+        assertEquals(jsonConverter.deserialize(json, of(Text.class)).getId(), text.getId());
+    }
+
+    @Test
+    public void testRetriesIdempotentRequest() throws Exception {
+        client.setRetryPolicy(RetryPolicy.create()
+            .maxAttempts(3)
+            .backoff(1, 1, TimeUnit.MILLISECONDS)
+            .build());
+        mockHttpResponse("{\"httpStatusCode\":503,\"message\":\"unavailable\"}", 503);
+        try {
+            client.delete("/texts/1");
+            fail();
+        } catch (CallfireApiException e) {
+            assertEquals(Integer.valueOf(503), e.getApiErrorMessage().getHttpStatusCode());
+        }
+        verify(mockHttpClient, times(3)).execute(any(HttpUriRequest.class));
+    }
+
+    @Test
+    public void testDoesNotRetryNonIdempotentRequest() throws Exception {
+        client.setRetryPolicy(RetryPolicy.create()
+            .backoff(1, 1, TimeUnit.MILLISECONDS)
+            .build());
+        mockHttpResponse("{\"httpStatusCode\":500,\"message\":\"error\"}", 500);
+        try {
+            client.post("/texts", null);
+            fail();
+        } catch (InternalServerErrorException e) {
+            verify(mockHttpClient, times(1)).execute(any(HttpUriRequest.class));
+        }
+    }
+
+    @Test
+    public void testDoesNotRetryStreamedBody() throws Exception {
+        client.setRetryPolicy(RetryPolicy.create()
+            .maxAttempts(3)
+            .backoff(1, 1, TimeUnit.MILLISECONDS)
+            .build());
+        mockHttpResponse("{\"httpStatusCode\":429,\"message\":\"too many requests\"}", 429);
+        Map<String, Object> params = new HashMap<>();
+        params.put("file", new ByteArrayInputStream("number\n12135551100".getBytes("UTF-8")));
+        try {
+            client.postFile("/contacts/lists/upload", null, params);
+            fail();
+        } catch (TooManyRequestsException e) {
+            verify(mockHttpClient, times(1)).execute(any(HttpUriRequest.class));
+        }
+    }
+
     @Test(expected = InternalServerErrorException.class)
     public void testExpectInternalServerErrorWhen500() throws Exception {
         mockHttpResponse(expectedJson, 500);
@@ -56,6 +258,42 @@ public class RestApiClientTest extends AbstractApiTest {
         client.delete("/");
     }
 
+    @Test
+    public void testConnectionPoolConfig() throws Exception {
+        ConnectionPoolConfig config = ConnectionPoolConfig.create()
+            .maxTotal(64)
+            .maxPerRoute(32)
+            .build();
+        RestApiClient pooledClient = new RestApiClient(new BasicAuth("1", "2"), config);
+        try {
+            assertEquals(config, pooledClient.getConnectionPoolConfig());
+            PoolStats stats = pooledClient.getConnectionPoolStats();
+            assertEquals(64, stats.getMax());
+            assertEquals(0, stats.getLeased());
+            assertEquals(0, stats.getPending());
+            assertEquals(0, stats.getAvailable());
+        } finally {
+            pooledClient.close();
+        }
+    }
+
+    @Test
+    public void testDefaultConnectionPoolConfig() throws Exception {
+        ConnectionPoolConfig config = ConnectionPoolConfig.create().build();
+        assertEquals(ClientConstants.DEFAULT_POOL_MAX_TOTAL, config.getMaxTotal());
+        assertEquals(ClientConstants.DEFAULT_POOL_MAX_PER_ROUTE, config.getMaxPerRoute());
+        assertEquals(ClientConstants.DEFAULT_POOL_IDLE_TIMEOUT, config.getIdleTimeout());
+    }
+
+    @Test
+    public void testConnectionPoolConfigBuilderReuse() throws Exception {
+        ConnectionPoolConfig.Builder builder = ConnectionPoolConfig.create().maxTotal(10);
+        ConnectionPoolConfig first = builder.build();
+        ConnectionPoolConfig second = builder.maxTotal(30).build();
+        assertEquals(10, first.getMaxTotal());
+        assertEquals(30, second.getMaxTotal());
+    }
+
     @Test
     public void testMimeTypes() throws Exception {
         assertEquals("image/jpeg", MimetypesFileTypeMap.getDefaultFileTypeMap().getContentType("/tmp/1.jpeg"));
@@ -0,0 +1,149 @@
+package com.callfire.api.client.api.callstexts;
+
+import com.callfire.api.client.BadRequestException;
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.api.AbstractApiTest;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.campaigns.model.TextRecipient;
+import com.callfire.api.client.api.common.model.ListHolder;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class BatchSenderTest extends AbstractApiTest {
+    private static final String SEND_FIELDS = "items(id,toNumber)";
+
+    @Test
+    public void testSendWhenBatchIsFull() throws Exception {
+        ArgumentCaptor<HttpUriRequest> captor =
+            mockHttpResponse(getJsonPayload("/callstexts/textsApi/response/sendTexts.json"));
+
+        try (BatchSender<TextRecipient, Text> sender = BatchSender.forTexts(client.textsApi())
+            .maxBatchSize(2)
+            .linger(1, TimeUnit.HOURS)
+            .build()) {
+            CompletableFuture<Text> first = sender.send(recipient("12135551100"), 100L, SEND_FIELDS);
+            assertFalse(first.isDone());
+            CompletableFuture<Text> second = sender.send(recipient("12135551101"), 100L, SEND_FIELDS);
+
+            assertEquals(Long.valueOf(13413), first.get(5, TimeUnit.SECONDS).getId());
+            assertEquals(Long.valueOf(13414), second.get(5, TimeUnit.SECONDS).getId());
+        }
+        List<HttpUriRequest> requests = captor.getAllValues();
+        assertEquals(1, requests.size());
+        assertThat(requests.get(0).getURI().toString(), containsString("campaignId=100"));
+        assertThat(requests.get(0).getURI().toString(), containsString("fields=" + encode(SEND_FIELDS)));
+    }
+
+    @Test
+    public void testSendAfterLinger() throws Exception {
+        mockHttpResponse(getJsonPayload("/callstexts/textsApi/response/sendTexts.json"));
+
+        try (BatchSender<TextRecipient, Text> sender = BatchSender.forTexts(client.textsApi())
+            .maxBatchSize(10)
+            .linger(10, TimeUnit.MILLISECONDS)
+            .build()) {
+            CompletableFuture<Text> first = sender.send(recipient("12135551100"));
+            CompletableFuture<Text> second = sender.send(recipient("12135551101"));
+
+            assertEquals(Long.valueOf(13413), first.get(5, TimeUnit.SECONDS).getId());
+            assertEquals(Long.valueOf(13414), second.get(5, TimeUnit.SECONDS).getId());
+        }
+    }
+
+    @Test
+    public void testRejectedRecipientsMatchedByNumber() throws Exception {
+        Text text = new Text();
+        text.setId(13414L);
+        text.setToNumber("12135551101");
+        mockHttpResponse(jsonConverter.serialize(new ListHolder<>(singletonList(text))));
+
+        BatchSender<TextRecipient, Text> sender = BatchSender.forTexts(client.textsApi()).build();
+        CompletableFuture<Text> first = sender.send(recipient("12135551100"));
+        // server returns normalized number
+        CompletableFuture<Text> second = sender.send(recipient("+1 (213) 555-1101"));
+        sender.close();
+
+        assertEquals(Long.valueOf(13414), second.get(5, TimeUnit.SECONDS).getId());
+        try {
+            first.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(CallfireClientException.class));
+        }
+    }
+
+    @Test
+    public void testBatchFailure() throws Exception {
+        mockHttpResponse(getJsonPayload("/common/sampleErrorMessage.json"), 400);
+
+        BatchSender<TextRecipient, Text> sender = BatchSender.forTexts(client.textsApi()).build();
+        CompletableFuture<Text> first = sender.send(recipient("12135551100"));
+        sender.flush();
+        try {
+            first.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(BadRequestException.class));
+        } finally {
+            sender.close();
+        }
+    }
+
+    @Test
+    public void testRejectedBatchCompletesFutures() throws Exception {
+        BatchSender<TextRecipient, Text> sender = BatchSender.forTexts(client.textsApi())
+            .maxBatchSize(1)
+            .executor(new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    throw new RejectedExecutionException("executor is shut down");
+                }
+            })
+            .build();
+        CompletableFuture<Text> first = sender.send(recipient("12135551100"));
+        sender.close();
+        try {
+            first.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(CallfireClientException.class));
+            assertThat(e.getCause().getCause(), instanceOf(RejectedExecutionException.class));
+        }
+    }
+
+    @Test
+    public void testFieldsMustIncludeToNumber() throws Exception {
+        BatchSender<TextRecipient, Text> sender = BatchSender.forTexts(client.textsApi()).build();
+        try {
+            sender.send(recipient("12135551100"), null, "items(id,toNumberType)");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("toNumber"));
+        } finally {
+            sender.close();
+        }
+    }
+
+    private static TextRecipient recipient(String number) {
+        TextRecipient recipient = new TextRecipient();
+        recipient.setPhoneNumber(number);
+        recipient.setMessage("Hello World!");
+        return recipient;
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.util.Iterator;
 import java.util.List;
 
 import static java.util.Arrays.asList;
@@ -122,6 +123,31 @@ public class CallsApiTest extends AbstractApiTest {
         assertThat(arg.getURI().toString(), containsString("batchId=100"));
     }
 
+    @Test
+    public void testFindAllCalls() throws Exception {
+        String expectedJson = getJsonPayload(JSON_PATH + "/response/findCalls.json");
+        ArgumentCaptor<HttpUriRequest> captor = mockHttpResponse(expectedJson);
+
+        FindCallsRequest request = FindCallsRequest.create()
+            .limit(5L)
+            .offset(0L)
+            .batchId(100L)
+            .build();
+        Iterator<Call> calls = client.callsApi().findAll(request).iterator();
+        assertNotNull(calls.next());
+        assertNotNull(calls.next());
+        assertNotNull(calls.next());
+
+        // server returned limit 2, next page is requested with it
+        List<HttpUriRequest> requests = captor.getAllValues();
+        assertEquals(2, requests.size());
+        assertThat(requests.get(0).getURI().toString(), containsString("limit=5"));
+        assertThat(requests.get(0).getURI().toString(), containsString("offset=0"));
+        assertThat(requests.get(1).getURI().toString(), containsString("limit=2"));
+        assertThat(requests.get(1).getURI().toString(), containsString("offset=2"));
+        assertThat(requests.get(1).getURI().toString(), containsString("batchId=100"));
+    }
+
     @Test
     public void testGetCall() throws Exception {
         String expectedJson = getJsonPayload(JSON_PATH + "/response/getCall.json");
@@ -1,18 +1,30 @@
 package com.callfire.api.client.api.callstexts;
 
+import com.callfire.api.client.CallfireClientException;
 import com.callfire.api.client.api.AbstractApiTest;
 import com.callfire.api.client.api.callstexts.model.Media;
+import com.callfire.api.client.api.callstexts.model.MediaType;
 import com.callfire.api.client.api.common.model.ResourceId;
+import com.callfire.api.client.download.DownloadResult;
+import com.callfire.api.client.download.RangeResponse;
+import org.apache.http.HttpHeaders;
+import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.message.BasicHeader;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
 
+import static com.callfire.api.client.ModelType.of;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
 
 public class MediaApiTest extends AbstractApiTest {
 
@@ -53,6 +65,62 @@ public class MediaApiTest extends AbstractApiTest {
         client.mediaApi().get(null);
     }
 
+    @Test
+    public void downloadData() throws Exception {
+        ArgumentCaptor<HttpUriRequest> captor = mockHttpResponse("mp3 content");
+        Media media = jsonConverter.deserialize("{\"id\":11,\"mediaType\":\"audio/mp3\",\"lengthInBytes\":11}",
+            of(Media.class));
+        Path target = Files.createTempFile("media", ".mp3");
+        try {
+            DownloadResult result = client.mediaApi().downloadData(media, target);
+            assertEquals(11L, result.getBytes());
+            assertEquals("mp3 content", new String(Files.readAllBytes(target), "UTF-8"));
+            assertThat(captor.getValue().getURI().toString(), containsString("/media/11.mp3"));
+
+            Media changed = jsonConverter.deserialize("{\"id\":11,\"mediaType\":\"audio/mp3\",\"lengthInBytes\":12}",
+                of(Media.class));
+            ex.expect(CallfireClientException.class);
+            client.mediaApi().downloadData(changed, target);
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    public void getDataRange() throws Exception {
+        ArgumentCaptor<HttpUriRequest> captor = mockHttpResponse("part", 206);
+        when(mockHttpResponse.getFirstHeader(HttpHeaders.CONTENT_RANGE))
+            .thenReturn(new BasicHeader(HttpHeaders.CONTENT_RANGE, "bytes 100-103/5000"));
+
+        RangeResponse range = client.mediaApi().getDataRange(11L, MediaType.MP4, 100, 103L);
+        assertTrue(range.isPartial());
+        assertEquals(100, range.getFirst());
+        assertEquals(5000, range.getTotalLength());
+        range.getContent().close();
+
+        HttpUriRequest arg = captor.getValue();
+        assertEquals("bytes=100-103", arg.getFirstHeader(HttpHeaders.RANGE).getValue());
+        assertEquals("identity", arg.getFirstHeader(HttpHeaders.ACCEPT_ENCODING).getValue());
+        assertNull(arg.getFirstHeader(HttpHeaders.IF_RANGE));
+        assertThat(arg.getURI().toString(), containsString("/media/11.mp4"));
+    }
+
+    @Test
+    public void getRangeWithValidator() throws Exception {
+        ArgumentCaptor<HttpUriRequest> captor = mockHttpResponse("part", 206);
+        when(mockHttpResponse.getFirstHeader(HttpHeaders.CONTENT_RANGE))
+            .thenReturn(new BasicHeader(HttpHeaders.CONTENT_RANGE, "bytes 100-103/5000"));
+        when(mockHttpResponse.getFirstHeader(HttpHeaders.ETAG))
+            .thenReturn(new BasicHeader(HttpHeaders.ETAG, "\"abc\""));
+
+        RangeResponse range = client.getRestApiClient().getRange("/media/11.mp4",
+            Collections.<NameValuePair>emptyList(), 100, 103L, "\"abc\"");
+        assertEquals("\"abc\"", range.getValidator());
+        range.getContent().close();
+
+        assertEquals("\"abc\"", captor.getValue().getFirstHeader(HttpHeaders.IF_RANGE).getValue());
+    }
+
     @Test
     public void getDataNullId() throws Exception {
         ex.expectMessage("id cannot be null");
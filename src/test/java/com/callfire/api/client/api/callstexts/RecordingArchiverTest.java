@@ -0,0 +1,199 @@
+package com.callfire.api.client.api.callstexts;
+
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.request.FindCallsRequest;
+import com.callfire.api.client.api.campaigns.model.CallRecording;
+import com.callfire.api.client.api.campaigns.model.CallRecording.CallRecordingState;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.paging.PageFetcher;
+import com.callfire.api.client.paging.PagedIterable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class RecordingArchiverTest {
+    private ExecutorService executor = Executors.newFixedThreadPool(2);
+    private StubCallsApi api = new StubCallsApi();
+    private Path directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("recordings");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() throws Exception {
+        api.addRecording(1L, 10L, 5, CallRecordingState.READY);
+        api.addRecording(2L, 20L, 7, CallRecordingState.RECORDING);
+        api.addRecording(3L, 30L, 3, CallRecordingState.READY);
+        RecordingArchiver archiver = RecordingArchiver.create(api)
+            .directory(directory)
+            .executor(executor)
+            .maxConcurrency(2)
+            .build();
+        FindCallsRequest request = FindCallsRequest.create().limit(2L).build();
+
+        RecordingArchiver.ArchiveResult first = archiver.archive(request);
+        assertEquals(3, first.getCalls());
+        assertEquals(2, first.getDownloaded());
+        assertEquals(1, first.getNotReady());
+        assertEquals(8, first.getBytes());
+        assertArrayEquals(api.content(10L), Files.readAllBytes(directory.resolve("10.mp3")));
+        assertFalse(Files.exists(directory.resolve("20.mp3")));
+
+        // call 2 isn't checkpointed, its recording is ready now and 30.mp3 is damaged
+        api.recordings.get(2L).get(0).setState(CallRecordingState.READY);
+        Files.write(directory.resolve("30.mp3"), new byte[1]);
+        api.downloads.set(0);
+        api.listings.set(0);
+
+        RecordingArchiver.ArchiveResult second = archiver.archive(request);
+        assertEquals(2, second.getSkippedCalls());
+        assertEquals(1, second.getCalls());
+        assertEquals(1, second.getDownloaded());
+        assertEquals(1, api.listings.get());
+        assertEquals(1, api.downloads.get());
+        assertEquals(7, Files.size(directory.resolve("20.mp3")));
+
+        // without checkpoint recordings are listed again, only file with wrong size is downloaded
+        Files.delete(directory.resolve("archive.checkpoint"));
+        api.downloads.set(0);
+        RecordingArchiver.ArchiveResult third = archiver.archive(request);
+        assertEquals(3, third.getCalls());
+        assertEquals(2, third.getSkippedFiles());
+        assertEquals(1, api.downloads.get());
+        assertEquals(3, Files.size(directory.resolve("30.mp3")));
+    }
+
+    @Test
+    public void testFailedDownloadIsRetried() throws Exception {
+        api.addRecording(1L, 10L, 5, CallRecordingState.READY);
+        api.failures.put(10L, 1);
+        RecordingArchiver archiver = RecordingArchiver.create(api)
+            .directory(directory)
+            .executor(executor)
+            .build();
+        FindCallsRequest request = FindCallsRequest.create().build();
+
+        RecordingArchiver.ArchiveResult first = archiver.archive(request);
+        assertEquals(1, first.getFailed());
+        assertFalse(Files.exists(directory.resolve("10.mp3")));
+        assertFalse(Files.exists(directory.resolve("10.mp3.part")));
+
+        RecordingArchiver.ArchiveResult second = archiver.archive(request);
+        assertEquals(0, second.getSkippedCalls());
+        assertEquals(1, second.getDownloaded());
+        assertEquals(5, Files.size(directory.resolve("10.mp3")));
+    }
+
+    private static class StubCallsApi extends CallsApi {
+        private final Map<Long, List<CallRecording>> recordings = Collections.synchronizedMap(
+            new HashMap<Long, List<CallRecording>>());
+        private final Map<Long, Integer> lengths = Collections.synchronizedMap(new HashMap<Long, Integer>());
+        private final Map<Long, Integer> failures = Collections.synchronizedMap(new HashMap<Long, Integer>());
+        private final AtomicInteger listings = new AtomicInteger();
+        private final AtomicInteger downloads = new AtomicInteger();
+
+        StubCallsApi() {
+            super(null);
+        }
+
+        void addRecording(Long callId, Long recordingId, int length, CallRecordingState state) {
+            CallRecording recording = new CallRecording();
+            recording.setId(recordingId);
+            recording.setCallId(callId);
+            recording.setLengthInBytes((long) length);
+            recording.setState(state);
+            recordings.put(callId, new ArrayList<>(Collections.singletonList(recording)));
+            lengths.put(recordingId, length);
+        }
+
+        byte[] content(Long recordingId) {
+            byte[] content = new byte[lengths.get(recordingId)];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = (byte) (recordingId + i);
+            }
+            return content;
+        }
+
+        @Override
+        public PagedIterable<Call> findAll(FindCallsRequest request) {
+            final List<Long> ids = new ArrayList<>(recordings.keySet());
+            Collections.sort(ids);
+            long limit = request.getLimit() == null ? 100 : request.getLimit();
+            return new PagedIterable<>(new PageFetcher<Call>() {
+                @Override
+                public Page<Call> fetch(long offset, long limit) {
+                    List<Call> items = new ArrayList<>();
+                    for (long i = offset; i < Math.min(ids.size(), offset + limit); i++) {
+                        Call call = new Call();
+                        call.setId(ids.get((int) i));
+                        items.add(call);
+                    }
+                    Page<Call> page = new Page<>();
+                    page.setItems(items);
+                    page.setTotalCount((long) ids.size());
+                    return page;
+                }
+            }, 0, limit);
+        }
+
+        @Override
+        public List<CallRecording> getCallRecordings(Long id) {
+            listings.incrementAndGet();
+            return recordings.get(id);
+        }
+
+        @Override
+        public InputStream getCallRecordingMp3(Long id) {
+            downloads.incrementAndGet();
+            Integer failuresLeft = failures.get(id);
+            if (failuresLeft != null && failuresLeft > 0) {
+                failures.put(id, failuresLeft - 1);
+                // connection dropped in the middle of body
+                return new ByteArrayInputStream(content(id), 0, 2) {
+                    @Override
+                    public int read(byte[] b, int off, int len) {
+                        int read = super.read(b, off, len);
+                        if (read == -1) {
+                            throw new UncheckedIOException(new IOException("Connection reset"));
+                        }
+                        return read;
+                    }
+                };
+            }
+            return new ByteArrayInputStream(content(id));
+        }
+    }
+}
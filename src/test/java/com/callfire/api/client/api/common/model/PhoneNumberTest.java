@@ -0,0 +1,85 @@
+package com.callfire.api.client.api.common.model;
+
+import com.callfire.api.client.JsonConverter;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PhoneNumberTest {
+
+    @Test
+    public void testEncode() throws Exception {
+        assertEquals(12135551100L, PhoneNumber.encode("12135551100"));
+        assertEquals(12135551100L, PhoneNumber.encode("2135551100"));
+        assertEquals(12135551100L, PhoneNumber.encode("213-555-1100"));
+        assertEquals(12135551100L, PhoneNumber.encode("+1 (213) 555.1100"));
+        assertEquals(447911123456L, PhoneNumber.encode("+44 7911 123456"));
+        assertEquals(4420123456L, PhoneNumber.encode("+4420123456"));
+        assertEquals(999999999999999L, PhoneNumber.encode("+999999999999999"));
+
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode(null));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode(""));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode("+"));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode("67076"));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode("1135551100"));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode("02135551100"));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode("1+2135551100"));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode("++12135551100"));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode("2135551100x12"));
+        assertEquals(PhoneNumber.INVALID, PhoneNumber.encode("1234567890123456"));
+    }
+
+    @Test
+    public void testFormat() throws Exception {
+        assertEquals("12135551100", PhoneNumber.toDigits(12135551100L));
+        assertEquals("+12135551100", PhoneNumber.toE164(12135551100L));
+        assertEquals("+999999999999999", PhoneNumber.toE164(999999999999999L));
+        assertTrue(PhoneNumber.isNanp(12135551100L));
+        assertFalse(PhoneNumber.isNanp(447911123456L));
+        try {
+            PhoneNumber.toDigits(PhoneNumber.INVALID);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("-1"));
+        }
+    }
+
+    @Test
+    public void testValueType() throws Exception {
+        PhoneNumber number = PhoneNumber.parse("(213) 555-1100");
+        assertEquals(PhoneNumber.of(12135551100L), number);
+        assertEquals(PhoneNumber.parse("+12135551100").hashCode(), number.hashCode());
+        assertNotEquals(PhoneNumber.parse("12135551101"), number);
+        assertTrue(number.compareTo(PhoneNumber.parse("12135551101")) < 0);
+        assertEquals("+12135551100", number.toString());
+        assertEquals("12135551100", number.toDigits());
+        assertTrue(number.isNanp());
+        try {
+            PhoneNumber.parse("invalid");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("invalid"));
+        }
+
+        Set<Integer> hashes = new HashSet<>();
+        for (long value = 12135550000L; value < 12135551000L; value++) {
+            hashes.add(PhoneNumber.hash(value) & 1023);
+        }
+        assertTrue("buckets used: " + hashes.size(), hashes.size() > 600);
+    }
+
+    @Test
+    public void testJson() throws Exception {
+        JsonConverter jsonConverter = new JsonConverter();
+        assertEquals("\"12135551100\"", jsonConverter.serialize(PhoneNumber.parse("+1 213 555 1100")));
+        assertEquals(PhoneNumber.of(12135551100L),
+            jsonConverter.getMapper().readValue("\"2135551100\"", PhoneNumber.class));
+    }
+}
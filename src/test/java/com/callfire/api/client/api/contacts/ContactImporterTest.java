@@ -0,0 +1,92 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.BadRequestException;
+import com.callfire.api.client.api.AbstractApiTest;
+import com.callfire.api.client.api.contacts.model.Contact;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ContactImporterTest extends AbstractApiTest {
+    private ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testImportInChunks() throws Exception {
+        ArgumentCaptor<HttpUriRequest> captor =
+            mockHttpResponse(getJsonPayload("/contacts/contactsApi/response/createContact.json"));
+        ContactImporter importer = ContactImporter.forContacts(client.contactsApi())
+            .chunkSize(2)
+            .maxInFlight(2)
+            .executor(executor)
+            .build();
+
+        Iterator<ContactImporter.ChunkResult> results = importer.importAll(contacts(5).iterator());
+        List<ContactImporter.ChunkResult> chunks = new ArrayList<>();
+        while (results.hasNext()) {
+            chunks.add(results.next());
+        }
+
+        assertEquals(3, chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            assertEquals(i, chunks.get(i).getIndex());
+            assertEquals(i * 2, chunks.get(i).getOffset());
+            assertFalse(chunks.get(i).isFailed());
+            assertEquals(Long.valueOf(100500), chunks.get(i).getIds().get(0).getId());
+        }
+        assertEquals(1, chunks.get(2).getContacts().size());
+        assertEquals(3, captor.getAllValues().size());
+        assertThat(extractHttpEntity(captor.getAllValues().get(0)), containsString("\"firstName\":\"name"));
+    }
+
+    @Test
+    public void testFailedChunksReturnedForResume() throws Exception {
+        mockHttpResponse(getJsonPayload("/common/sampleErrorMessage.json"), 400);
+        ContactImporter importer = ContactImporter.forContactList(client.contactListsApi(), 10L)
+            .chunkSize(3)
+            .executor(executor)
+            .build();
+
+        List<ContactImporter.ChunkResult> chunks = importer.importAll(contacts(5).stream())
+            .collect(Collectors.<ContactImporter.ChunkResult>toList());
+
+        assertEquals(2, chunks.size());
+        for (ContactImporter.ChunkResult chunk : chunks) {
+            assertTrue(chunk.isFailed());
+            assertThat(chunk.getError(), instanceOf(BadRequestException.class));
+            assertTrue(chunk.getIds().isEmpty());
+        }
+        assertEquals(3, chunks.get(1).getOffset());
+        assertEquals(2, chunks.get(1).getContacts().size());
+    }
+
+    private static List<Contact> contacts(int count) {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Contact contact = new Contact();
+            contact.setFirstName("name" + i);
+            contact.setHomePhone("1213555" + (1000 + i));
+            contacts.add(contact);
+        }
+        return contacts;
+    }
+}
@@ -11,6 +11,7 @@ import com.callfire.api.client.api.contacts.model.request.AddContactListItemsReq
 import com.callfire.api.client.api.contacts.model.request.CreateContactListRequest;
 import com.callfire.api.client.api.contacts.model.request.FindContactListsRequest;
 import com.callfire.api.client.api.contacts.model.request.UpdateContactListRequest;
+import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.client.methods.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -20,6 +21,8 @@ import org.mockito.MockitoAnnotations;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.*;
@@ -158,6 +161,29 @@ public class ContactListsApiTest extends AbstractApiTest {
         assertThat(jsonConverter.serialize(resourceId), equalToIgnoringWhiteSpace(expectedJson));
     }
 
+    @Test
+    public void testCreateFromCsvStream() throws Exception {
+        String expectedJson = getJsonPayload(BASE_PATH + RESPONSES_PATH + "createContactList.json");
+        ArgumentCaptor<HttpUriRequest> captor = mockHttpResponse(expectedJson);
+
+        final Contact contact = new Contact();
+        contact.setFirstName("John");
+        contact.setHomePhone("12135551100");
+        Supplier<Iterator<Contact>> contacts = new Supplier<Iterator<Contact>>() {
+            @Override
+            public Iterator<Contact> get() {
+                return asList(contact).iterator();
+            }
+        };
+        ResourceId resourceId = client.contactListsApi().createFromCsv("testStream", contacts, true);
+        assertThat(jsonConverter.serialize(resourceId), equalToIgnoringWhiteSpace(expectedJson));
+
+        HttpUriRequest arg = captor.getValue();
+        assertEquals(HttpPost.METHOD_NAME, arg.getMethod());
+        // csv is generated while request is written so length is unknown
+        assertEquals(-1, ((HttpEntityEnclosingRequest) arg).getEntity().getContentLength());
+    }
+
     @Test
     public void testGetByNullId() throws Exception {
         ex.expectMessage(EMPTY_ID_MSG);
@@ -0,0 +1,42 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.api.contacts.model.Contact;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class ContactsCsvBodyTest {
+
+    @Test
+    public void testWriteTo() throws Exception {
+        Contact first = new Contact();
+        first.setFirstName("John");
+        first.setLastName("Doe, Jr.");
+        first.setHomePhone("12135551100");
+        first.setProperties(Collections.singletonMap("note", "says \"hi\""));
+        Contact second = new Contact();
+        second.setMobilePhone("12135551101");
+        final Iterator<Contact> contacts = asList(first, second).iterator();
+
+        ContactsCsvBody body = new ContactsCsvBody(new Supplier<Iterator<Contact>>() {
+            @Override
+            public Iterator<Contact> get() {
+                return contacts;
+            }
+        }, "contacts.csv");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        assertEquals("firstName,lastName,zipcode,homePhone,workPhone,mobilePhone,externalId,externalSystem,note\r\n"
+            + "John,\"Doe, Jr.\",,12135551100,,,,,\"says \"\"hi\"\"\"\r\n"
+            + ",,,,,12135551101,,,\r\n", out.toString("UTF-8"));
+        assertEquals("contacts.csv", body.getFilename());
+        assertEquals(-1, body.getContentLength());
+    }
+}
@@ -0,0 +1,162 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.JsonConverter;
+import com.callfire.api.client.api.callstexts.model.CallRecipient;
+import com.callfire.api.client.api.campaigns.model.TextRecipient;
+import com.callfire.api.client.api.common.model.Page;
+import com.callfire.api.client.api.contacts.model.DoNotContact;
+import com.callfire.api.client.api.contacts.model.request.FindDncNumbersRequest;
+import com.callfire.api.client.paging.PageFetcher;
+import com.callfire.api.client.paging.PagedIterable;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DncIndexTest {
+    private ExecutorService executor = Executors.newFixedThreadPool(2);
+    private StubDncApi api = new StubDncApi();
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testLoadAndRefresh() throws Exception {
+        api.add("12135551100", true, true, 1000L);
+        api.add("(213) 555-1101", true, false, 2000L);
+        api.add("+1 213 555 1102", false, true, 3000L);
+        api.add("12135551100", false, false, 500L);
+        api.add("not a number", true, true, 100L);
+        DncIndex index = DncIndex.create(api).pageSize(2).build();
+
+        assertEquals(3, index.load());
+        assertEquals("items(number,call,text,created),limit,totalCount", api.fields);
+        assertTrue(index.isCallBlocked("2135551100"));
+        assertTrue(index.isTextBlocked("+12135551100"));
+        assertTrue(index.isCallBlocked("12135551101"));
+        assertFalse(index.isTextBlocked("12135551101"));
+        assertFalse(index.isCallBlocked("12135551102"));
+        assertTrue(index.isTextBlocked("12135551102"));
+        assertFalse(index.isCallBlocked("12135551199"));
+        assertFalse(index.isCallBlocked(null));
+
+        // only entries newer than indexed ones are merged
+        api.add("12135551101", null, true, 4000L);
+        api.add("12135551103", true, true, 5000L);
+        api.add("12135551104", true, true, 1500L);
+        assertEquals(2, index.refresh());
+        assertEquals(4, index.size());
+        assertTrue(index.isTextBlocked("12135551101"));
+        assertTrue(index.isCallBlocked("12135551103"));
+        assertFalse(index.isCallBlocked("12135551104"));
+        assertEquals(0, index.refresh());
+
+        assertEquals(5, index.load());
+        assertTrue(index.isCallBlocked("12135551104"));
+    }
+
+    @Test
+    public void testFilterRecipients() throws Exception {
+        api.add("12135551100", true, false, 1000L);
+        api.add("12135551101", false, true, 1000L);
+        DncIndex index = DncIndex.create(api).parallel(executor, 2).build();
+        index.load();
+
+        List<TextRecipient> texts = Arrays.asList(textRecipient("12135551100"), textRecipient("12135551101"),
+            textRecipient(null));
+        List<TextRecipient> allowedTexts = index.filterForTexts(texts);
+        assertEquals(2, allowedTexts.size());
+        assertEquals("12135551100", allowedTexts.get(0).getPhoneNumber());
+
+        List<CallRecipient> calls = Arrays.asList(callRecipient("12135551100"), callRecipient("12135551101"));
+        List<CallRecipient> allowedCalls = index.filterForCalls(calls);
+        assertEquals(1, allowedCalls.size());
+        assertEquals("12135551101", allowedCalls.get(0).getPhoneNumber());
+    }
+
+    @Test
+    public void testServerClampsPageSize() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            api.add(String.valueOf(12135551100L + i), true, true, 1000L + i);
+        }
+        api.maxLimit = 4;
+
+        assertEquals(25, DncIndex.create(api).pageSize(10).build().load());
+        DncIndex parallel = DncIndex.create(api).pageSize(10).parallel(executor, 2).build();
+        assertEquals(25, parallel.load());
+        assertTrue(parallel.isCallBlocked("12135551124"));
+    }
+
+    @Test
+    public void testMerge() throws Exception {
+        long[] left = {1 << 2 | 1, 3 << 2 | 1};
+        long[] right = {2 << 2 | 2, 3 << 2 | 2, 4 << 2 | 2};
+        assertArrayEquals(new long[]{1 << 2 | 1, 2 << 2 | 2, 3 << 2 | 3, 4 << 2 | 2}, DncIndex.merge(left, right));
+    }
+
+    private static TextRecipient textRecipient(String number) {
+        TextRecipient recipient = new TextRecipient();
+        recipient.setPhoneNumber(number);
+        return recipient;
+    }
+
+    private static CallRecipient callRecipient(String number) {
+        CallRecipient recipient = new CallRecipient();
+        recipient.setPhoneNumber(number);
+        return recipient;
+    }
+
+    private static class StubDncApi extends DncApi {
+        private final JsonConverter jsonConverter = new JsonConverter();
+        private final List<DoNotContact> dncs = new ArrayList<>();
+        private volatile String fields;
+        private long maxLimit = Long.MAX_VALUE;
+
+        StubDncApi() {
+            super(null);
+        }
+
+        void add(String number, Boolean call, Boolean text, Long created) {
+            Map<String, Object> values = new HashMap<>();
+            values.put("number", number);
+            values.put("call", call);
+            values.put("text", text);
+            values.put("created", created);
+            dncs.add(jsonConverter.getMapper().convertValue(values, DoNotContact.class));
+        }
+
+        @Override
+        public PagedIterable<DoNotContact> findAll(FindDncNumbersRequest request) {
+            fields = request.getFields();
+            final boolean returnLimit = fields.matches(".*(^|,)limit(,|$).*");
+            final List<DoNotContact> snapshot = new ArrayList<>(dncs);
+            return new PagedIterable<>(new PageFetcher<DoNotContact>() {
+                @Override
+                public Page<DoNotContact> fetch(long offset, long requestedLimit) {
+                    // like server clamp limit and return only requested fields
+                    long limit = Math.min(requestedLimit, maxLimit);
+                    Page<DoNotContact> page = new Page<>();
+                    page.setLimit(returnLimit ? limit : null);
+                    page.setItems(new ArrayList<>(
+                        snapshot.subList((int) Math.min(offset, snapshot.size()),
+                            (int) Math.min(offset + limit, snapshot.size()))));
+                    page.setTotalCount((long) snapshot.size());
+                    return page;
+                }
+            }, 0, request.getLimit());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.callfire.api.client.api.contacts;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.api.contacts.model.UniversalDnc;
+import com.callfire.api.client.api.contacts.model.request.FindUniversalDncsRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class UniversalDncFilterTest {
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = Files.createTempFile("udnc", ".bloom");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testPersistedFilter() throws Exception {
+        List<UniversalDnc> snapshot = new ArrayList<>();
+        for (long number = 12135550000L; number < 12135560000L; number++) {
+            snapshot.add(universalDnc(String.valueOf(number)));
+        }
+        snapshot.add(universalDnc("invalid"));
+        try (UniversalDncFilter filter = UniversalDncFilter.create(file)
+            .expectedNumbers(10000)
+            .falsePositiveRate(0.01)
+            .build()) {
+            assertEquals(10000, filter.putAll(snapshot));
+            assertTrue(filter.mightContain("(213) 555-0000"));
+        }
+
+        try (UniversalDncFilter filter = UniversalDncFilter.open(file)) {
+            assertEquals(10000, filter.getCount());
+            assertEquals(0.01, filter.getFalsePositiveRate(), 0.002);
+            for (long number = 12135550000L; number < 12135560000L; number++) {
+                assertTrue(filter.mightContain(String.valueOf(number)));
+            }
+            assertTrue(filter.mightContain("invalid"));
+            int falsePositives = 0;
+            for (long number = 13105550000L; number < 13105560000L; number++) {
+                if (filter.mightContain(String.valueOf(number))) {
+                    falsePositives++;
+                }
+            }
+            assertTrue("false positives: " + falsePositives, falsePositives < 200);
+        }
+    }
+
+    @Test
+    public void testFindUniversalDncsSkipsRemoteCall() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        DncApi api = new DncApi(null) {
+            @Override
+            public List<UniversalDnc> findUniversalDncs(FindUniversalDncsRequest request) {
+                requests.incrementAndGet();
+                return Collections.singletonList(universalDnc(request.getToNumber()));
+            }
+        };
+        try (UniversalDncFilter filter = UniversalDncFilter.create(file).expectedNumbers(100).build()) {
+            filter.put("12135551188");
+
+            List<UniversalDnc> blocked = filter.findUniversalDncs(api,
+                FindUniversalDncsRequest.create().toNumber("12135551188").build());
+            assertEquals(1, blocked.size());
+            assertEquals(1, requests.get());
+
+            assertFalse(filter.mightContain("12135551189"));
+            assertTrue(filter.findUniversalDncs(api,
+                FindUniversalDncsRequest.create().toNumber("12135551189").build()).isEmpty());
+            assertEquals(1, requests.get());
+        }
+    }
+
+    @Test
+    public void testOpenInvalidFile() throws Exception {
+        Files.write(file, new byte[64]);
+        try {
+            UniversalDncFilter.open(file);
+            fail();
+        } catch (CallfireClientException e) {
+            assertTrue(e.getMessage().contains("isn't universal dnc filter"));
+        }
+    }
+
+    private static UniversalDnc universalDnc(String toNumber) {
+        UniversalDnc dnc = new UniversalDnc();
+        dnc.setToNumber(toNumber);
+        return dnc;
+    }
+}
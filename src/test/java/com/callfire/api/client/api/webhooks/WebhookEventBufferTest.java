@@ -0,0 +1,134 @@
+package com.callfire.api.client.api.webhooks;
+
+import com.callfire.api.client.JsonConverter;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.campaigns.model.TextBroadcast;
+import com.callfire.api.client.api.webhooks.WebhookEventBuffer.LongLongTable;
+import com.callfire.api.client.api.webhooks.WebhookEventBuffer.RecentRanks;
+import com.callfire.api.client.api.webhooks.model.ResourceType;
+import com.callfire.api.client.api.webhooks.model.ResourceType.ResourceEvent;
+import com.callfire.api.client.api.webhooks.model.WebhookEvent;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class WebhookEventBufferTest {
+    private JsonConverter jsonConverter = new JsonConverter();
+
+    @Test
+    public void testReorderAndDedupe() throws Exception {
+        final BlockingQueue<WebhookEvent<TextBroadcast>> received = new LinkedBlockingQueue<>();
+        WebhookEventBuffer<TextBroadcast> buffer = WebhookEventBuffer.create(new WebhookHandler<TextBroadcast>() {
+            @Override
+            public void handle(WebhookEvent<TextBroadcast> event) {
+                received.add(event);
+            }
+        }).reorderDelay(100, TimeUnit.MILLISECONDS).build();
+
+        // broadcast is restarted after it was stopped, callbacks arrive out of order and duplicated
+        buffer.handle(broadcastEvent(1L, ResourceEvent.STARTED, 3000L));
+        buffer.handle(broadcastEvent(1L, ResourceEvent.STOPPED, 2000L));
+        buffer.handle(broadcastEvent(1L, ResourceEvent.STOPPED, 2000L));
+        buffer.handle(broadcastEvent(1L, ResourceEvent.STARTED, 1000L));
+        buffer.handle(broadcastEvent(2L, ResourceEvent.STARTED, 1500L));
+
+        assertReceived(received, 1L, ResourceEvent.STARTED, 1000L);
+        assertReceived(received, 1L, ResourceEvent.STOPPED, 2000L);
+        assertReceived(received, 1L, ResourceEvent.STARTED, 3000L);
+        assertReceived(received, 2L, ResourceEvent.STARTED, 1500L);
+        assertEquals(1, buffer.getDroppedCount());
+
+        // redelivered and stale events after release are dropped, newer transition passes
+        buffer.handle(broadcastEvent(1L, ResourceEvent.STARTED, 3000L));
+        buffer.handle(broadcastEvent(1L, ResourceEvent.STOPPED, 2000L));
+        buffer.handle(broadcastEvent(2L, ResourceEvent.FINISHED, 4000L));
+        assertEquals(3, buffer.getDroppedCount());
+        buffer.close();
+        assertReceived(received, 2L, ResourceEvent.FINISHED, 4000L);
+        assertNull(received.poll());
+    }
+
+    @Test
+    public void testDuplicateTextDropped() throws Exception {
+        final BlockingQueue<WebhookEvent<Text>> received = new LinkedBlockingQueue<>();
+        WebhookEventBuffer<Text> buffer = WebhookEventBuffer.create(new WebhookHandler<Text>() {
+            @Override
+            public void handle(WebhookEvent<Text> event) {
+                received.add(event);
+            }
+        }).reorderDelay(10, TimeUnit.MILLISECONDS).build();
+
+        // same id of different resource type is a different resource
+        buffer.handle(textEvent(ResourceType.OUTBOUND_TEXT));
+        buffer.handle(textEvent(ResourceType.OUTBOUND_TEXT));
+        buffer.handle(textEvent(ResourceType.INBOUND_TEXT));
+        buffer.close();
+
+        assertEquals(ResourceType.OUTBOUND_TEXT, received.poll().getResourceType());
+        assertEquals(ResourceType.INBOUND_TEXT, received.poll().getResourceType());
+        assertNull(received.poll());
+        assertEquals(1, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void testRecentRanksEviction() throws Exception {
+        RecentRanks ranks = new RecentRanks(1000, 4);
+        ranks.put(1, 10, 0);
+        ranks.put(2, 20, 300);
+        assertEquals(10, ranks.get(1, 999));
+        assertEquals(20, ranks.get(2, 999));
+
+        // bucket of key 1 is evicted once window passed
+        assertEquals(Long.MIN_VALUE, ranks.get(1, 1000));
+        assertEquals(20, ranks.get(2, 1000));
+        ranks.put(2, 30, 1100);
+        assertEquals(30, ranks.get(2, 1200));
+        // older value of key 2 stays in its bucket until it's evicted
+        assertEquals(2, ranks.size());
+
+        // long pause clears everything
+        assertEquals(Long.MIN_VALUE, ranks.get(2, 10000));
+        assertEquals(0, ranks.size());
+    }
+
+    @Test
+    public void testLongLongTable() throws Exception {
+        LongLongTable table = new LongLongTable();
+        for (long key = 0; key < 10000; key++) {
+            table.put(key * 16, key);
+        }
+        for (long key = 0; key < 10000; key++) {
+            assertEquals(key, table.get(key * 16));
+        }
+        table.put(32, 7);
+        assertEquals(7, table.get(32));
+        assertEquals(LongLongTable.MISSING, table.get(33));
+        table.clear();
+        assertEquals(LongLongTable.MISSING, table.get(32));
+    }
+
+    private WebhookEvent<TextBroadcast> broadcastEvent(Long id, ResourceEvent resourceEvent, Long lastModified)
+        throws Exception {
+        TextBroadcast broadcast = jsonConverter.getMapper().readValue(
+            "{\"id\":" + id + ",\"lastModified\":" + lastModified + "}", TextBroadcast.class);
+        return new WebhookEvent<>(1L, "test", lastModified, ResourceType.TEXT_BROADCAST, resourceEvent, broadcast);
+    }
+
+    private WebhookEvent<Text> textEvent(ResourceType resourceType) throws Exception {
+        Text text = jsonConverter.getMapper().readValue("{\"id\":1,\"modified\":1000}", Text.class);
+        return new WebhookEvent<>(1L, "test", 1000L, resourceType, ResourceEvent.FINISHED, text);
+    }
+
+    private static void assertReceived(BlockingQueue<WebhookEvent<TextBroadcast>> received, Long id,
+        ResourceEvent resourceEvent, Long lastModified) throws Exception {
+        WebhookEvent<TextBroadcast> event = received.poll(5, TimeUnit.SECONDS);
+        assertEquals(id, event.getResource().getId());
+        assertEquals(resourceEvent, event.getResourceEvent());
+        assertEquals(lastModified, Long.valueOf(event.getResource().getLastModified().getTime()));
+    }
+}
@@ -0,0 +1,195 @@
+package com.callfire.api.client.api.webhooks;
+
+import com.callfire.api.client.JsonConverter;
+import com.callfire.api.client.api.callstexts.model.Call;
+import com.callfire.api.client.api.callstexts.model.Text;
+import com.callfire.api.client.api.webhooks.model.ResourceType;
+import com.callfire.api.client.api.webhooks.model.ResourceType.ResourceEvent;
+import com.callfire.api.client.api.webhooks.model.WebhookEvent;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WebhookReceiverTest {
+    private static final String SECRET = "webhook-secret";
+    private static final String PAYLOAD = "{\"timestamp\":1474292003843,\"webhookId\":12,\"webhookName\":\"test\","
+        + "\"events\":[{\"resourceType\":\"OutboundCall\",\"resourceEvent\":\"Finished\","
+        + "\"resource\":{\"id\":100,\"toNumber\":\"12135551100\",\"state\":\"FINISHED\"}},"
+        + "{\"resourceType\":\"InboundText\",\"resourceEvent\":\"Finished\","
+        + "\"resource\":{\"id\":200,\"message\":\"Hello\"}},"
+        + "{\"resourceType\":\"ContactList\",\"resourceEvent\":\"ValidationFinished\",\"resource\":{\"id\":1}}]}";
+
+    private WebhookReceiver receiver;
+
+    @After
+    public void tearDown() throws Exception {
+        if (receiver != null) {
+            receiver.close();
+        }
+    }
+
+    @Test
+    public void testDispatchToTypedHandlers() throws Exception {
+        final BlockingQueue<WebhookEvent<Call>> calls = new LinkedBlockingQueue<>();
+        final BlockingQueue<WebhookEvent<Text>> texts = new LinkedBlockingQueue<>();
+        receiver = WebhookReceiver.create(new JsonConverter())
+            .port(0)
+            .secret(SECRET)
+            .onCall(new WebhookHandler<Call>() {
+                @Override
+                public void handle(WebhookEvent<Call> event) {
+                    calls.add(event);
+                }
+            })
+            .onText(new WebhookHandler<Text>() {
+                @Override
+                public void handle(WebhookEvent<Text> event) {
+                    texts.add(event);
+                }
+            })
+            .build();
+
+        assertEquals(200, post(PAYLOAD, sign(PAYLOAD, SECRET)));
+
+        WebhookEvent<Call> call = calls.poll(5, TimeUnit.SECONDS);
+        assertNotNull(call);
+        assertEquals(Long.valueOf(12), call.getWebhookId());
+        assertEquals("test", call.getWebhookName());
+        assertEquals(Long.valueOf(1474292003843L), call.getTimestamp());
+        assertEquals(ResourceType.OUTBOUND_CALL, call.getResourceType());
+        assertEquals(ResourceEvent.FINISHED, call.getResourceEvent());
+        assertEquals(Long.valueOf(100), call.getResource().getId());
+        assertEquals("12135551100", call.getResource().getToNumber());
+
+        WebhookEvent<Text> text = texts.poll(5, TimeUnit.SECONDS);
+        assertNotNull(text);
+        assertEquals(ResourceType.INBOUND_TEXT, text.getResourceType());
+        assertEquals("Hello", text.getResource().getMessage());
+        // contact list event has no handler
+        assertEquals(2, receiver.getAcceptedCount());
+    }
+
+    @Test
+    public void testInvalidRequestsRejected() throws Exception {
+        final BlockingQueue<WebhookEvent<Call>> calls = new LinkedBlockingQueue<>();
+        receiver = WebhookReceiver.create(new JsonConverter())
+            .port(0)
+            .secret(SECRET)
+            .maxBodySize(PAYLOAD.length())
+            .onCall(new WebhookHandler<Call>() {
+                @Override
+                public void handle(WebhookEvent<Call> event) {
+                    calls.add(event);
+                }
+            })
+            .build();
+
+        assertEquals(401, post(PAYLOAD, sign(PAYLOAD, "other-secret")));
+        assertEquals(401, post(PAYLOAD, null));
+        assertEquals(400, post("[1, 2]", sign("[1, 2]", SECRET)));
+        String large = PAYLOAD + " ";
+        assertEquals(413, post(large, sign(large, SECRET)));
+        assertEquals(0, receiver.getAcceptedCount());
+        assertNull(calls.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSecretRequired() throws Exception {
+        receiver = WebhookReceiver.create(new JsonConverter())
+            .port(0)
+            .build();
+    }
+
+    @Test
+    public void testUppercaseSignatureAccepted() throws Exception {
+        receiver = WebhookReceiver.create(new JsonConverter())
+            .address(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+            .secret(SECRET)
+            .build();
+        String payload = "{\"resourceType\":\"OutboundCall\",\"resource\":{\"id\":1}}";
+
+        assertEquals(200, post(payload, sign(payload, SECRET).toUpperCase(Locale.ROOT)));
+        assertEquals(401, post(payload, null));
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        receiver = WebhookReceiver.create(new JsonConverter())
+            .port(0)
+            .allowUnsigned()
+            .workerThreads(1)
+            .queueCapacity(1)
+            .onCall(new WebhookHandler<Call>() {
+                @Override
+                public void handle(WebhookEvent<Call> event) {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            })
+            .build();
+        String payload = "{\"resourceType\":\"OutboundCall\",\"resource\":{\"id\":1}}";
+
+        // first callback occupies worker, second waits in queue, third is rejected
+        assertEquals(200, post(payload, null));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(200, post(payload, null));
+        assertEquals(503, post(payload, null));
+        assertEquals(1, receiver.getRejectedCount());
+
+        release.countDown();
+        receiver.close();
+        assertEquals(2, receiver.getAcceptedCount());
+        receiver = null;
+    }
+
+    private int post(String payload, String signature) throws Exception {
+        URL url = new URL("http://127.0.0.1:" + receiver.getAddress().getPort() + "/");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        if (signature != null) {
+            connection.setRequestProperty(WebhookReceiver.DEFAULT_SIGNATURE_HEADER, signature);
+        }
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(payload.getBytes(StandardCharsets.UTF_8));
+        }
+        int code = connection.getResponseCode();
+        connection.disconnect();
+        return code;
+    }
+
+    private static String sign(String payload, String secret) throws Exception {
+        Mac mac = Mac.getInstance(WebhookReceiver.DEFAULT_SIGNATURE_ALGORITHM);
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), mac.getAlgorithm()));
+        StringBuilder hex = new StringBuilder();
+        for (byte b : mac.doFinal(payload.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
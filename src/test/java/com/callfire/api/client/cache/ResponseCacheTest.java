@@ -0,0 +1,97 @@
+package com.callfire.api.client.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ResponseCacheTest {
+    private static final byte[] BODY = "{\"id\":1}".getBytes();
+
+    @Test
+    public void testTtlPerEndpoint() throws Exception {
+        ResponseCache cache = ResponseCache.create()
+            .ttl("/me/account", 1, TimeUnit.MINUTES)
+            .build();
+        assertEquals(60000, cache.getTtl("/me/account"));
+        assertEquals(0, cache.getTtl("/texts/{}"));
+
+        ResponseCache withDefault = ResponseCache.create()
+            .defaultTtl(10, TimeUnit.SECONDS)
+            .ttl("/texts/{}", 0, TimeUnit.SECONDS)
+            .build();
+        assertEquals(10000, withDefault.getTtl("/me/account"));
+        assertEquals(0, withDefault.getTtl("/texts/{}"));
+    }
+
+    @Test
+    public void testExpiredEntryRemoved() throws Exception {
+        ResponseCache cache = ResponseCache.create().build();
+        cache.put("/me/account", "/me/account", BODY, 1, cache.getGeneration());
+        Thread.sleep(5);
+        assertNull(cache.get("/me/account"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() throws Exception {
+        ResponseCache cache = ResponseCache.create().maxEntries(2).build();
+        cache.put("/a", "/a", BODY, 60000, cache.getGeneration());
+        cache.put("/b", "/b", BODY, 60000, cache.getGeneration());
+        cache.get("/a");
+        cache.put("/c", "/c", BODY, 60000, cache.getGeneration());
+
+        assertEquals(2, cache.size());
+        assertArrayEquals(BODY, cache.get("/a"));
+        assertNull(cache.get("/b"));
+        assertArrayEquals(BODY, cache.get("/c"));
+    }
+
+    @Test
+    public void testResponseInvalidatedInFlightNotCached() throws Exception {
+        ResponseCache cache = ResponseCache.create().build();
+        long generation = cache.getGeneration();
+        cache.invalidate("/campaigns/sounds/1");
+        cache.put("/campaigns/sounds", "/campaigns/sounds", BODY, 60000, generation);
+        cache.put("/me/account", "/me/account", BODY, 60000, generation);
+        assertNull(cache.get("/campaigns/sounds"));
+        assertArrayEquals(BODY, cache.get("/me/account"));
+
+        generation = cache.getGeneration();
+        cache.invalidateAll();
+        cache.put("/me/account", "/me/account", BODY, 60000, generation);
+        assertEquals(0, cache.size());
+
+        // too many invalidations to tell whether path was one of them
+        generation = cache.getGeneration();
+        for (int i = 0; i < 100; i++) {
+            cache.invalidate("/texts/" + i);
+        }
+        cache.put("/me/account", "/me/account", BODY, 60000, generation);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidateRelatedPaths() throws Exception {
+        ResponseCache cache = ResponseCache.create().build();
+        cache.put("/campaigns/sounds", "/campaigns/sounds", BODY, 60000, cache.getGeneration());
+        cache.put("/campaigns/sounds/1?fields=id", "/campaigns/sounds/1", BODY, 60000, cache.getGeneration());
+        cache.put("/campaigns/sounds/1", "/campaigns/sounds/1", BODY, 60000, cache.getGeneration());
+        cache.put("/campaigns/sounds/10", "/campaigns/sounds/10", BODY, 60000, cache.getGeneration());
+        cache.put("/me/account", "/me/account", BODY, 60000, cache.getGeneration());
+
+        cache.invalidate("/campaigns/sounds/1");
+        assertNull(cache.get("/campaigns/sounds"));
+        assertNull(cache.get("/campaigns/sounds/1"));
+        assertNull(cache.get("/campaigns/sounds/1?fields=id"));
+        assertArrayEquals(BODY, cache.get("/campaigns/sounds/10"));
+        assertArrayEquals(BODY, cache.get("/me/account"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+}
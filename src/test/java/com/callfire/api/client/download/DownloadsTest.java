@@ -0,0 +1,87 @@
+package com.callfire.api.client.download;
+
+import com.callfire.api.client.CallfireClientException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DownloadsTest {
+    private Path target;
+
+    @Before
+    public void setUp() throws Exception {
+        target = Files.createTempFile("callfire-download", ".mp3");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(target);
+    }
+
+    @Test
+    public void testTransferToFile() throws Exception {
+        byte[] data = new byte[3 * 1024 * 1024 + 17];
+        new Random(7).nextBytes(data);
+        TrackingStream content = new TrackingStream(data);
+
+        DownloadResult result = Downloads.transfer(content, target, (long) data.length);
+
+        assertEquals(target, result.getPath());
+        assertEquals(data.length, result.getBytes());
+        assertTrue(result.getBytesPerSecond() > 0);
+        assertTrue(content.closed);
+        assertArrayEquals(data, Files.readAllBytes(target));
+    }
+
+    @Test
+    public void testLengthMismatchDeletesFile() throws Exception {
+        TrackingStream content = new TrackingStream(new byte[100]);
+        try {
+            Downloads.transfer(content, target, 101L);
+            fail("length mismatch expected");
+        } catch (CallfireClientException e) {
+            assertTrue(e.getMessage().contains("101"));
+        }
+        assertTrue(content.closed);
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    public void testTransferAppendsToChannel() throws Exception {
+        byte[] first = "first part,".getBytes("UTF-8");
+        byte[] second = "second part".getBytes("UTF-8");
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            Downloads.transfer(new TrackingStream(first), channel, null);
+            DownloadResult result = Downloads.transfer(new TrackingStream(second), channel, null);
+            assertNull(result.getPath());
+            assertEquals(second.length, result.getBytes());
+            assertEquals(first.length + second.length, channel.position());
+        }
+        byte[] written = Files.readAllBytes(target);
+        assertEquals("first part,second part", new String(written, "UTF-8"));
+    }
+
+    private static class TrackingStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        TrackingStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.callfire.api.client.download;
+
+import com.callfire.api.client.CallfireClientException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class ResumableDownloaderTest {
+    private ExecutorService executor = Executors.newFixedThreadPool(4);
+    private byte[] data = new byte[10000];
+    private Path directory;
+    private Path target;
+
+    @Before
+    public void setUp() throws Exception {
+        new Random(3).nextBytes(data);
+        directory = Files.createTempDirectory("ranges");
+        target = directory.resolve("video.mp4");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        Files.deleteIfExists(target);
+        Files.deleteIfExists(directory.resolve("video.mp4.part"));
+        Files.deleteIfExists(directory.resolve("video.mp4.part.state"));
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testDroppedConnectionIsResumed() throws Exception {
+        StubSource source = new StubSource(true, 3000, 2);
+        ResumableDownloader downloader = ResumableDownloader.create().build();
+
+        DownloadResult result = downloader.download(source, target, null);
+
+        assertArrayEquals(data, Files.readAllBytes(target));
+        assertEquals(data.length, result.getBytes());
+        assertEquals(asList("0-", "3000-9999", "6000-9999"), source.ranges);
+        assertFalse(Files.exists(directory.resolve("video.mp4.part.state")));
+    }
+
+    @Test
+    public void testDownloadContinuesAfterFailedCall() throws Exception {
+        StubSource source = new StubSource(true, 4000, 1);
+        ResumableDownloader downloader = ResumableDownloader.create().maxAttempts(1).build();
+        try {
+            downloader.download(source, target, (long) data.length);
+            fail("dropped connection expected");
+        } catch (CallfireClientException e) {
+            assertTrue(Files.exists(directory.resolve("video.mp4.part")));
+        }
+
+        DownloadResult result = downloader.download(source, target, (long) data.length);
+
+        assertArrayEquals(data, Files.readAllBytes(target));
+        assertEquals(data.length - 4000, result.getBytes());
+        assertEquals(asList("0-9999", "4000-9999"), source.ranges);
+    }
+
+    @Test
+    public void testChangedResourceDownloadedAgain() throws Exception {
+        StubSource source = new StubSource(true, 4000, 1);
+        source.etag = "\"v1\"";
+        ResumableDownloader downloader = ResumableDownloader.create().maxAttempts(1).build();
+        try {
+            downloader.download(source, target, (long) data.length);
+            fail("dropped connection expected");
+        } catch (CallfireClientException e) {
+            assertTrue(Files.exists(directory.resolve("video.mp4.part")));
+        }
+
+        // resource is replaced with file of the same length
+        new Random(4).nextBytes(data);
+        source.etag = "\"v2\"";
+        DownloadResult result = downloader.download(source, target, (long) data.length);
+
+        assertArrayEquals(data, Files.readAllBytes(target));
+        assertEquals(data.length, result.getBytes());
+        assertEquals(asList("0-9999", "4000-9999 \"v1\""), source.ranges);
+    }
+
+    @Test
+    public void testParallelSegments() throws Exception {
+        StubSource source = new StubSource(true, 0, 0);
+        ResumableDownloader downloader = ResumableDownloader.create()
+            .segments(4)
+            .minSegmentSize(1000)
+            .executor(executor)
+            .build();
+
+        DownloadResult result = downloader.download(source, target, (long) data.length);
+
+        assertArrayEquals(data, Files.readAllBytes(target));
+        assertEquals(data.length, result.getBytes());
+        Collections.sort(source.ranges);
+        assertEquals(asList("0-2499", "2500-4999", "5000-7499", "7500-9999"), source.ranges);
+    }
+
+    @Test
+    public void testServerWithoutRangeSupport() throws Exception {
+        StubSource source = new StubSource(false, 5000, 1);
+        ResumableDownloader downloader = ResumableDownloader.create().build();
+
+        downloader.download(source, target, (long) data.length);
+
+        assertArrayEquals(data, Files.readAllBytes(target));
+        assertEquals(asList("0-9999", "5000-9999"), source.ranges);
+    }
+
+    @Test
+    public void testLengthMismatch() throws Exception {
+        ResumableDownloader downloader = ResumableDownloader.create().build();
+        try {
+            downloader.download(new StubSource(true, 0, 0), target, data.length + 1L);
+            fail("length mismatch expected");
+        } catch (CallfireClientException e) {
+            assertFalse(Files.exists(target));
+            assertFalse(Files.exists(directory.resolve("video.mp4.part")));
+        }
+    }
+
+    private static List<String> asList(String... ranges) {
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, ranges);
+        return list;
+    }
+
+    private class StubSource implements RangeSource {
+        private final boolean rangeSupported;
+        private final int dropAfter;
+        private int drops;
+        private String etag;
+        private final List<String> ranges = Collections.synchronizedList(new ArrayList<String>());
+
+        StubSource(boolean rangeSupported, int dropAfter, int drops) {
+            this.rangeSupported = rangeSupported;
+            this.dropAfter = dropAfter;
+            this.drops = drops;
+        }
+
+        @Override
+        public synchronized RangeResponse get(long first, Long last, String ifRange) {
+            ranges.add(first + "-" + (last == null ? "" : last) + (ifRange == null ? "" : " " + ifRange));
+            // like server return whole resource if it doesn't match If-Range validator
+            boolean partial = rangeSupported && (ifRange == null || ifRange.equals(etag));
+            int from = partial ? (int) first : 0;
+            int to = partial && last != null ? (int) (last + 1) : data.length;
+            InputStream content = new ByteArrayInputStream(data, from, to - from);
+            if (drops > 0) {
+                drops--;
+                content = new DroppingStream(data, from, Math.min(to - from, dropAfter));
+            }
+            return new RangeResponse(partial, from, data.length, content, etag, null);
+        }
+    }
+
+    // simulates connection reset after given number of bytes
+    private static class DroppingStream extends InputStream {
+        private final ByteArrayInputStream delegate;
+
+        DroppingStream(byte[] buf, int offset, int length) {
+            this.delegate = new ByteArrayInputStream(buf, offset, length);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read < 0) {
+                throw new IOException("Connection reset");
+            }
+            return read;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = delegate.read();
+            if (read < 0) {
+                throw new IOException("Connection reset");
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.callfire.api.client.metrics;
+
+import com.callfire.api.client.CallfireClientException;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void testAggregatesByEndpoint() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        RequestTimings timings = new RequestTimings();
+        timings.addQueueNanos(TimeUnit.MICROSECONDS.toNanos(10));
+        timings.addServerNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        timings.addBytesSent(100);
+        timings.addBytesReceived(200);
+        timings.addRequestBody(1000, 250);
+
+        registry.onRequest(new RequestMetrics("GET", "/texts/{}", 200, null, millis(6), timings));
+        registry.onRequest(new RequestMetrics("GET", "/texts/{}", 200, null, millis(8), timings));
+        registry.onRequest(new RequestMetrics("GET", "/texts/{}", 404, new CallfireClientException(), millis(3),
+            new RequestTimings()));
+        registry.onRequest(new RequestMetrics("POST", "/texts", 200, null, millis(20), new RequestTimings()));
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(2, snapshot.getEndpoints().size());
+        EndpointSnapshot get = snapshot.getEndpoint("GET", "/texts/{}");
+        assertEquals(3, get.getRequests());
+        assertEquals(1, get.getErrors());
+        assertEquals(Long.valueOf(2), get.getStatusCodes().get(200));
+        assertEquals(Long.valueOf(1), get.getStatusCodes().get(404));
+        assertEquals(200, get.getBytesSent());
+        assertEquals(400, get.getBytesReceived());
+        assertEquals(2000, get.getCompression().getRequestBodyBytes());
+        assertEquals(0.25, get.getCompression().getRequestRatio(), 0.0001);
+        assertEquals(1.0, get.getCompression().getResponseRatio(), 0.0001);
+        assertEquals(3, get.getTotal().getCount());
+        assertEquals(millis(8), get.getTotal().getMaxNanos());
+        assertEquals(millis(17), get.getTotal().getSumNanos());
+        assertEquals(millis(10), get.getServer().getSumNanos());
+        assertEquals(1, snapshot.getEndpoint("POST", "/texts").getRequests());
+
+        registry.reset();
+        assertNull(registry.snapshot().getEndpoint("GET", "/texts/{}"));
+    }
+
+    @Test
+    public void testNumberOfEndpointsIsCapped() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry(3);
+        for (int i = 0; i < 10; i++) {
+            registry.onRequest(new RequestMetrics("GET", "/media/public/key" + i + ".mp3", 200, null, millis(1),
+                new RequestTimings()));
+        }
+        registry.onRequest(new RequestMetrics("GET", "/media/public/key0.mp3", 200, null, millis(1),
+            new RequestTimings()));
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(4, snapshot.getEndpoints().size());
+        assertEquals(2, snapshot.getEndpoint("GET", "/media/public/key0.mp3").getRequests());
+        assertEquals(7, snapshot.getEndpoint("GET", MetricsRegistry.OVERFLOW_PATH_TEMPLATE).getRequests());
+    }
+
+    @Test
+    public void testHistogramPercentiles() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(millis(1));
+        }
+        histogram.record(millis(500));
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        long p50 = snapshot.getPercentileNanos(0.5);
+        assertTrue(p50 >= millis(1) && p50 <= millis(2));
+        long p99 = snapshot.getPercentileNanos(0.99);
+        assertTrue(p99 >= millis(1) && p99 <= millis(2));
+        assertEquals(millis(500), snapshot.getPercentileNanos(1.0));
+        assertEquals(millis(500), snapshot.getMaxNanos());
+    }
+
+    @Test
+    public void testHistogramBuckets() throws Exception {
+        assertEquals(0, LatencyHistogram.bucketOf(0));
+        assertEquals(0, LatencyHistogram.bucketOf(1000));
+        assertEquals(1, LatencyHistogram.bucketOf(2000));
+        assertEquals(2, LatencyHistogram.bucketOf(3000));
+        assertEquals(10, LatencyHistogram.bucketOf(millis(1)));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        assertTrue(LatencyHistogram.upperBoundNanos(10) >= millis(1));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
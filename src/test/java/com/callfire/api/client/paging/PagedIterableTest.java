@@ -0,0 +1,124 @@
+package com.callfire.api.client.paging;
+
+import com.callfire.api.client.api.common.model.Page;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class PagedIterableTest {
+
+    @Test
+    public void testIteratesAllPages() throws Exception {
+        TestFetcher fetcher = new TestFetcher(25, true);
+        List<Long> items = collect(new PagedIterable<>(fetcher, 0, 10));
+
+        assertEquals(25, items.size());
+        assertEquals(Long.valueOf(0), items.get(0));
+        assertEquals(Long.valueOf(24), items.get(24));
+        assertEquals(3, fetcher.requestedOffsets.size());
+    }
+
+    @Test
+    public void testIteratesWithoutTotalCount() throws Exception {
+        TestFetcher fetcher = new TestFetcher(20, false);
+        List<Long> items = collect(new PagedIterable<>(fetcher, 0, 10));
+
+        assertEquals(20, items.size());
+        // last page is empty, there is no total count to stop earlier
+        assertEquals(3, fetcher.requestedOffsets.size());
+    }
+
+    @Test
+    public void testStartsFromOffset() throws Exception {
+        TestFetcher fetcher = new TestFetcher(25, true);
+        List<Long> items = collect(new PagedIterable<>(fetcher, 20, 10));
+
+        assertEquals(5, items.size());
+        assertEquals(Long.valueOf(20), items.get(0));
+        assertEquals(1, fetcher.requestedOffsets.size());
+    }
+
+    @Test
+    public void testServerCappedLimit() throws Exception {
+        TestFetcher fetcher = new TestFetcher(25, true);
+        fetcher.maxLimit = 10;
+        List<Long> items = collect(new PagedIterable<>(fetcher, 0, 100));
+
+        assertEquals(25, items.size());
+        assertEquals(Long.valueOf(10), fetcher.requestedOffsets.get(1));
+    }
+
+    @Test
+    public void testPrefetch() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TestFetcher fetcher = new TestFetcher(95, true);
+            List<Long> items = collect(new PagedIterable<>(fetcher, 0, 10).prefetch(3, executor));
+
+            assertEquals(95, items.size());
+            for (int i = 0; i < items.size(); i++) {
+                assertEquals(Long.valueOf(i), items.get(i));
+            }
+            assertEquals(10, fetcher.requestedOffsets.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        TestFetcher fetcher = new TestFetcher(25, true);
+        assertEquals(25, new PagedIterable<>(fetcher, 0, 10).stream().count());
+    }
+
+    @Test
+    public void testEmptySource() throws Exception {
+        Iterator<Long> iterator = new PagedIterable<>(new TestFetcher(0, true), 0, 10).iterator();
+        assertFalse(iterator.hasNext());
+    }
+
+    private static List<Long> collect(Iterable<Long> iterable) {
+        List<Long> result = new ArrayList<>();
+        for (Long item : iterable) {
+            result.add(item);
+        }
+        return result;
+    }
+
+    private static class TestFetcher implements PageFetcher<Long> {
+        private final long total;
+        private final boolean returnTotalCount;
+        private final List<Long> requestedOffsets = new CopyOnWriteArrayList<>();
+        private long maxLimit = Long.MAX_VALUE;
+
+        TestFetcher(long total, boolean returnTotalCount) {
+            this.total = total;
+            this.returnTotalCount = returnTotalCount;
+        }
+
+        @Override
+        public Page<Long> fetch(long offset, long limit) {
+            requestedOffsets.add(offset);
+            limit = Math.min(limit, maxLimit);
+            List<Long> items = new ArrayList<>();
+            for (long i = offset; i < Math.min(offset + limit, total); i++) {
+                items.add(i);
+            }
+            Page<Long> page = new Page<>();
+            page.setItems(items.isEmpty() ? Collections.<Long>emptyList() : items);
+            page.setOffset(offset);
+            page.setLimit(limit);
+            page.setTotalCount(returnTotalCount ? total : null);
+            return page;
+        }
+    }
+}
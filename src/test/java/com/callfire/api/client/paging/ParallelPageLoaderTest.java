@@ -0,0 +1,167 @@
+package com.callfire.api.client.paging;
+
+import com.callfire.api.client.CallfireClientException;
+import com.callfire.api.client.api.common.model.Page;
+import org.junit.After;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelPageLoaderTest {
+    private ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testLoadAllInOrder() throws Exception {
+        TestFetcher fetcher = new TestFetcher(1005, true);
+        List<Long> items = new ParallelPageLoader<>(fetcher, 0, 10, executor, 4).loadAll();
+
+        assertEquals(1005, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(Long.valueOf(i), items.get(i));
+        }
+        assertEquals(101, fetcher.requests.get());
+        assertTrue(fetcher.maxInFlight.get() <= 4);
+    }
+
+    @Test
+    public void testSlowPageLimitsOrderedWindow() throws Exception {
+        TestFetcher fetcher = new TestFetcher(1000, true);
+        fetcher.slowOffset = 10;
+        List<Long> items = new ParallelPageLoader<>(fetcher, 0, 10, executor, 4).loadAll();
+
+        assertEquals(1000, items.size());
+        // first page and 4 windows starting with slow one
+        assertTrue("requests: " + fetcher.requestsBeforeSlowPage, fetcher.requestsBeforeSlowPage <= 5);
+    }
+
+    @Test
+    public void testLoadAllUnordered() throws Exception {
+        TestFetcher fetcher = new TestFetcher(95, true);
+        final List<Long> items = new ArrayList<>();
+        new ParallelPageLoader<>(fetcher, 0, 10, executor, 8).loadAll(new PageHandler<Long>() {
+            @Override
+            public void handle(Page<Long> page) {
+                items.addAll(page.getItems());
+            }
+        }, false);
+
+        assertEquals(95, items.size());
+        Collections.sort(items);
+        assertEquals(Long.valueOf(94), items.get(94));
+    }
+
+    @Test
+    public void testLoadAllWithoutTotalCount() throws Exception {
+        TestFetcher fetcher = new TestFetcher(35, false);
+        List<Long> items = new ParallelPageLoader<>(fetcher, 0, 10, executor, 4).loadAll();
+
+        assertEquals(35, items.size());
+        assertEquals(4, fetcher.requests.get());
+    }
+
+    @Test
+    public void testHandledPagesAreNotRetained() throws Exception {
+        final TestFetcher fetcher = new TestFetcher(100, true);
+        final AtomicInteger retained = new AtomicInteger(-1);
+        new ParallelPageLoader<>(fetcher, 0, 10, executor, 2).loadAll(new PageHandler<Long>() {
+            @Override
+            public void handle(Page<Long> page) {
+                if (page.getOffset() < 90) {
+                    return;
+                }
+                // last page, all earlier windows are handled and shouldn't be referenced by loader
+                for (int i = 0; i < 20 && retained.get() != 0; i++) {
+                    System.gc();
+                    retained.set(countRetained(fetcher, page));
+                }
+            }
+        }, true);
+
+        assertEquals(10, fetcher.pages.size());
+        assertEquals(0, retained.get());
+    }
+
+    private static int countRetained(TestFetcher fetcher, Page<Long> current) {
+        int count = 0;
+        for (WeakReference<Page<Long>> ref : fetcher.pages) {
+            Page<Long> page = ref.get();
+            // first page is held by loader until the end, last completed window may still be in local variable
+            if (page != null && page != current && page.getOffset() > 0 && page.getOffset() < 80) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test(expected = CallfireClientException.class)
+    public void testFailedPageRethrown() throws Exception {
+        TestFetcher fetcher = new TestFetcher(100, true);
+        fetcher.failOffset = 50;
+        new ParallelPageLoader<>(fetcher, 0, 10, executor, 4).loadAll();
+    }
+
+    private static class TestFetcher implements PageFetcher<Long> {
+        private final long total;
+        private final boolean returnTotalCount;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private long failOffset = -1;
+        private long slowOffset = -1;
+        private volatile int requestsBeforeSlowPage;
+        private final List<WeakReference<Page<Long>>> pages = Collections.synchronizedList(
+            new ArrayList<WeakReference<Page<Long>>>());
+
+        TestFetcher(long total, boolean returnTotalCount) {
+            this.total = total;
+            this.returnTotalCount = returnTotalCount;
+        }
+
+        @Override
+        public Page<Long> fetch(long offset, long limit) {
+            requests.incrementAndGet();
+            int current = inFlight.incrementAndGet();
+            try {
+                if (current > maxInFlight.get()) {
+                    maxInFlight.set(current);
+                }
+                if (offset == failOffset) {
+                    throw new CallfireClientException("test failure");
+                }
+                if (offset == slowOffset) {
+                    Thread.sleep(200);
+                    requestsBeforeSlowPage = requests.get();
+                }
+                List<Long> items = new ArrayList<>();
+                for (long i = offset; i < Math.min(offset + limit, total); i++) {
+                    items.add(i);
+                }
+                Page<Long> page = new Page<>();
+                page.setItems(items);
+                page.setLimit(limit);
+                page.setOffset(offset);
+                page.setTotalCount(returnTotalCount ? total : null);
+                pages.add(new WeakReference<>(page));
+                return page;
+            } catch (InterruptedException e) {
+                throw new CallfireClientException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
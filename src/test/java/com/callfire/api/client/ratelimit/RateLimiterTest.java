@@ -0,0 +1,76 @@
+package com.callfire.api.client.ratelimit;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RateLimiterTest {
+
+    @Test
+    public void testBurstIsNotDelayed() throws Exception {
+        RateLimiter limiter = RateLimiter.create().permitsPerSecond(10).build();
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("/texts");
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void testBlocksWhenBucketIsEmpty() throws Exception {
+        RateLimiter limiter = RateLimiter.create().permitsPerSecond(20).burst(1).build();
+        limiter.acquire("/texts");
+        long start = System.nanoTime();
+        limiter.acquire("/texts");
+        limiter.acquire("/texts");
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(80));
+    }
+
+    @Test
+    public void testRejectsWhenMaxWaitExceeded() throws Exception {
+        RateLimiter limiter = RateLimiter.create()
+            .pathPermitsPerSecond("/calls", 1)
+            .maxWait(0, TimeUnit.MILLISECONDS)
+            .build();
+        limiter.acquire("/calls");
+        limiter.acquire("/texts");
+        try {
+            limiter.acquire("/calls");
+            fail();
+        } catch (RateLimitExceededException e) {
+            assertEquals("/calls", e.getPath());
+        }
+    }
+
+    @Test
+    public void testAdaptsToServerFeedback() throws Exception {
+        RateLimiter limiter = RateLimiter.create().permitsPerSecond(100).build();
+        limiter.onRateLimited("/texts", null);
+        assertEquals(50, limiter.getRate("/texts"), 0.001);
+        limiter.onRateLimited("/texts", null);
+        assertEquals(25, limiter.getRate("/texts"), 0.001);
+        for (int i = 0; i < 200; i++) {
+            limiter.onSuccess("/texts");
+        }
+        assertEquals(100, limiter.getRate("/texts"), 0.001);
+    }
+
+    @Test
+    public void testWaitsForRetryAfter() throws Exception {
+        RateLimiter limiter = RateLimiter.create().permitsPerSecond(1000).build();
+        limiter.onRateLimited("/texts", 100L);
+        long start = System.nanoTime();
+        limiter.acquire("/texts");
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(90));
+    }
+
+    @Test
+    public void testUnlimitedPath() throws Exception {
+        RateLimiter limiter = RateLimiter.create().pathPermitsPerSecond("/calls", 1).build();
+        assertEquals(Double.POSITIVE_INFINITY, limiter.getRate("/texts"), 0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.callfire.api.client.retry;
+
+import com.callfire.api.client.BadRequestException;
+import com.callfire.api.client.InternalServerErrorException;
+import com.callfire.api.client.TooManyRequestsException;
+import com.callfire.api.client.api.common.model.ErrorMessage;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RetryPolicyTest {
+    private RetryPolicy policy = RetryPolicy.create()
+        .maxAttempts(4)
+        .backoff(100, 300, TimeUnit.MILLISECONDS)
+        .jitter(0)
+        .build();
+
+    @Test
+    public void testExponentialBackoff() throws Exception {
+        IOException error = new IOException("connection reset");
+        assertEquals(100, policy.nextDelay("GET", "/calls", 1, error));
+        assertEquals(200, policy.nextDelay("GET", "/calls", 2, error));
+        assertEquals(300, policy.nextDelay("GET", "/calls", 3, error));
+        assertEquals(-1, policy.nextDelay("GET", "/calls", 4, error));
+    }
+
+    @Test
+    public void testJitter() throws Exception {
+        RetryPolicy jittered = RetryPolicy.create().backoff(100, 100, TimeUnit.MILLISECONDS).jitter(0.5).build();
+        for (int i = 0; i < 5; i++) {
+            long delay = jittered.nextDelay("GET", "/calls", 1, new IOException());
+            assertTrue(delay >= 50 && delay <= 100);
+        }
+    }
+
+    @Test
+    public void testRetryableStatusCodes() throws Exception {
+        assertEquals(100, policy.nextDelay("GET", "/calls", 1, new InternalServerErrorException(message(500))));
+        assertEquals(-1, policy.nextDelay("GET", "/calls", 1, new BadRequestException(message(400))));
+    }
+
+    @Test
+    public void testNonIdempotentRequests() throws Exception {
+        assertEquals(-1, policy.nextDelay("POST", "/texts", 1, new IOException("read timeout")));
+        assertEquals(-1, policy.nextDelay("POST", "/texts", 1, new InternalServerErrorException(message(500))));
+        assertEquals(100, policy.nextDelay("POST", "/texts", 1, new ConnectException("refused")));
+        assertEquals(100, policy.nextDelay("POST", "/texts", 1, new TooManyRequestsException(message(429))));
+
+        RetryPolicy custom = RetryPolicy.create().idempotentPath("POST", "/contacts/lists/{}/items").build();
+        assertTrue(custom.isIdempotent("POST", "/contacts/lists/{}/items"));
+        assertTrue(custom.nextDelay("POST", "/contacts/lists/{}/items", 1, new IOException()) >= 0);
+    }
+
+    @Test
+    public void testRetryAfterIsHonored() throws Exception {
+        assertEquals(2000, policy.nextDelay("GET", "/calls", 1, new TooManyRequestsException(message(429), 2000L)));
+    }
+
+    @Test
+    public void testNonTransientErrorsAreNotRetried() throws Exception {
+        assertEquals(-1, policy.nextDelay("GET", "/calls", 1, new UnknownHostException("api.callfire.com")));
+    }
+
+    @Test
+    public void testRetryBudget() throws Exception {
+        RetryPolicy limited = RetryPolicy.create().retryBudget(0.5, 2).build();
+        assertTrue(limited.nextDelay("GET", "/calls", 1, new IOException()) >= 0);
+        assertTrue(limited.nextDelay("GET", "/calls", 1, new IOException()) >= 0);
+        assertEquals(-1, limited.nextDelay("GET", "/calls", 1, new IOException()));
+        limited.onRequest();
+        limited.onRequest();
+        assertTrue(limited.nextDelay("GET", "/calls", 1, new IOException()) >= 0);
+    }
+
+    private static ErrorMessage message(int statusCode) {
+        return new ErrorMessage(statusCode, "error", "");
+    }
+}